@@ -0,0 +1,56 @@
+package com.connective.server.chat.domain.dto;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.user.domain.enums.ProfileCharacterType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 브로드캐스트마다 한 번 실행되는 ChatMessageResponse 직렬화 비용 측정.
+ * ObjectMapper는 애플리케이션과 같은 방식(Jackson2ObjectMapperBuilder)으로 구성한다.
+ */
+@State(Scope.Benchmark)
+public class ChatMessageResponseJsonBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ChatMessageResponse response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(ChatMessageResponse.class);
+        reader = objectMapper.readerFor(ChatMessageResponse.class);
+        response = ChatMessageResponse.builder()
+            .messageId(7_312_345_678_901_234L)
+            .roomId("42")
+            .clientMessageId("c0a8012e-5b1f-4d7a-9a55-0c1d2e3f4a5b")
+            .senderId(1001L)
+            .senderNickname("커넥티브")
+            .senderProfileCharacterType(ProfileCharacterType.RABBIT)
+            .content("오늘 저녁 7시에 강남역 11번 출구에서 만나요! 늦으면 연락 주세요 :)")
+            .messageType(Message.MessageType.TEXT)
+            .timestamp(LocalDateTime.of(2025, 7, 1, 19, 0, 0))
+            .build();
+        json = writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ChatMessageResponse deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,66 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import com.connective.server.chat.infrastructure.stomp.PooledStompEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 채팅 메시지 한 건의 STOMP 프레임 인코딩(MESSAGE, 서버 → 구독자)과 디코딩(SEND, 클라이언트 → 서버) 비용 측정.
+ * stock: 기본 StompEncoder, pooled: 실제 서버에 설치되는 PooledStompEncoder
+ */
+@State(Scope.Benchmark)
+public class StompFrameBenchmark {
+
+    @Param({"64", "1024"})
+    public int contentLength;
+
+    @Param({"stock", "pooled"})
+    public String encoderType;
+
+    private StompEncoder encoder;
+    private final StompDecoder decoder = new StompDecoder();
+    private Message<byte[]> outboundMessage;
+    private byte[] inboundFrame;
+
+    @Setup
+    public void setUp() {
+        encoder = "pooled".equals(encoderType) ? new PooledStompEncoder() : new StompEncoder();
+        byte[] payload = ("{\"roomId\":\"42\",\"senderId\":1001,\"messageType\":\"TEXT\",\"content\":\""
+            + "가".repeat(contentLength / 3) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        StompHeaderAccessor message = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        message.setDestination("/topic/chat/42");
+        message.setSubscriptionId("sub-0");
+        message.setMessageId("7312345678901234");
+        message.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        outboundMessage = MessageBuilder.createMessage(payload, message.getMessageHeaders());
+
+        StompHeaderAccessor send = StompHeaderAccessor.create(StompCommand.SEND);
+        send.setDestination("/app/chat/42");
+        send.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        inboundFrame = encoder.encode(MessageBuilder.createMessage(payload, send.getMessageHeaders()));
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encode(outboundMessage);
+    }
+
+    @Benchmark
+    public List<Message<byte[]>> decode() {
+        return decoder.decode(ByteBuffer.wrap(inboundFrame));
+    }
+}
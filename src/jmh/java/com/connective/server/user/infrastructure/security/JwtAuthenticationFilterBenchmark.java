@@ -0,0 +1,61 @@
+package com.connective.server.user.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 요청마다 실행되는 JwtAuthenticationFilter 비용 측정.
+ * cached: 캐시에 있는 토큰 (일반적인 경우), rejected: negative cache에 있는 잘못된 토큰, anonymous: 토큰 없음
+ */
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    // 다음 호출이 이전 인증 정보를 보지 않도록 체인 안에서 비운다 (호출마다 TearDown을 두면 측정이 왜곡됨)
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> SecurityContextHolder.clearContext();
+
+    @Param({"cached", "rejected", "anonymous"})
+    public String tokenState;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = JwtTokenProviderBenchmark.createProvider();
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 100_000L);
+        ReflectionTestUtils.setField(cache, "negativeMaxSize", 10_000L);
+        ReflectionTestUtils.setField(cache, "negativeTtl", Duration.ofMinutes(10));
+        cache.init();
+        filter = new JwtAuthenticationFilter(cache);
+
+        request = new MockHttpServletRequest("GET", "/api/chat/rooms");
+        response = new MockHttpServletResponse();
+        String token = switch (tokenState) {
+            case "cached" -> jwtTokenProvider.generateRefreshToken(1L);
+            case "rejected" -> "not.a.jwt";
+            default -> null;
+        };
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+    }
+
+    @Benchmark
+    public void doFilterInternal() throws ServletException, IOException {
+        filter.doFilterInternal(request, response, NO_OP_CHAIN);
+    }
+}
@@ -0,0 +1,72 @@
+package com.connective.server.user.infrastructure.security;
+
+import com.connective.server.user.domain.entity.User;
+import com.connective.server.user.domain.enums.ProfileCharacterType;
+import com.connective.server.user.domain.enums.SocialProviderType;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JWT 발급/검증 비용 측정. 모든 HTTP 요청과 WebSocket CONNECT에서 실행되는 경로다.
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = createProvider();
+        user = User.builder()
+            .email("bench@gmail.com")
+            .nickname("bench")
+            .profileCharacterType(ProfileCharacterType.RABBIT)
+            .socialProvider(SocialProviderType.GOOGLE)
+            .socialId("google-1")
+            .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        validToken = jwtTokenProvider.generateAccessToken(user);
+        // 서명 마지막 글자만 바꿔 서명 검증까지 진행한 뒤 실패하는 토큰
+        char last = validToken.charAt(validToken.length() - 1);
+        tamperedToken = validToken.substring(0, validToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtTokenProvider.parseClaims(validToken);
+    }
+
+    static JwtTokenProvider createProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiry", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiry", 1_209_600_000L);
+        provider.init();
+        return provider;
+    }
+}
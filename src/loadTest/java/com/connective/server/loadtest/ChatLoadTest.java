@@ -0,0 +1,332 @@
+package com.connective.server.loadtest;
+
+import com.connective.server.ServerApplication;
+import com.connective.server.chat.domain.entity.ChatRoom;
+import com.connective.server.chat.domain.entity.ChatRoomMember;
+import com.connective.server.chat.domain.repository.ChatRoomMemberRepository;
+import com.connective.server.chat.domain.repository.ChatRoomRepository;
+import com.connective.server.chat.infrastructure.ratelimit.InboundRateLimiter;
+import com.connective.server.user.domain.entity.User;
+import com.connective.server.user.domain.enums.ProfileCharacterType;
+import com.connective.server.user.domain.enums.SocialProviderType;
+import com.connective.server.user.domain.repository.UserRepository;
+import com.connective.server.user.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 인프로세스 STOMP 부하 발생기.
+ * H2와 로컬 브로커로 애플리케이션을 띄우고, JwtTokenProvider로 발급한 토큰으로 세션을 연결한 뒤
+ * 채팅방별로 /app/chat/{roomId} 에 목표 속도로 발송하며 발송→수신 지연 분포와 전달 누락을 측정한다.
+ * 루프백 연결만 사용하므로 외부 네트워크 없이 실행된다. (./gradlew loadTest)
+ */
+@Slf4j
+public class ChatLoadTest {
+
+    private static final String CONTENT_PREFIX = "lt|";
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder expectedDeliveries = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final AtomicLong measureFromNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong measureUntilNanos = new AtomicLong(Long.MAX_VALUE);
+
+    public ChatLoadTest(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path reportPath = Path.of(args.length > 0 ? args[0] : "build/reports/loadtest/result.json");
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ServerApplication.class)
+            .run("--spring.profiles.active=loadtest", "--server.port=0");
+        int exitCode = 0;
+        try {
+            Map<String, Object> report = new ChatLoadTest(settings).run(context);
+            Files.createDirectories(reportPath.toAbsolutePath().getParent());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+            log.info("Load test report written to {}", reportPath.toAbsolutePath());
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        } finally {
+            SpringApplication.exit(context);
+        }
+        System.exit(exitCode);
+    }
+
+    public Map<String, Object> run(ConfigurableApplicationContext context) throws Exception {
+        log.info("Starting load test: {}", settings);
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+        List<Participant> participants = seed(context);
+        JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new ByteArrayMessageConverter());
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        List<StompSession> sessions = connect(stompClient, "ws://localhost:" + port + "/ws/websocket",
+            participants, jwtTokenProvider);
+        // SUBSCRIBE 처리가 끝날 때까지 대기 (simple broker는 receipt를 보내지 않음)
+        TimeUnit.SECONDS.sleep(2);
+
+        publish(participants, sessions);
+        TimeUnit.SECONDS.sleep(settings.drainSeconds());
+
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        return report(context, participants.size(), sessions.size());
+    }
+
+    // 사용자와 채팅방을 한 번에 저장. 사용자는 roomSizes를 순서대로 돌아가며 채팅방에 배정된다.
+    private List<Participant> seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ChatRoomRepository chatRoomRepository = context.getBean(ChatRoomRepository.class);
+        ChatRoomMemberRepository chatRoomMemberRepository = context.getBean(ChatRoomMemberRepository.class);
+
+        List<User> users = new ArrayList<>(settings.sessions());
+        for (int i = 0; i < settings.sessions(); i++) {
+            users.add(User.builder()
+                .email("loadtest-" + i + "@connective.local")
+                .nickname("user" + i)
+                .profileCharacterType(ProfileCharacterType.RABBIT)
+                .socialProvider(SocialProviderType.GOOGLE)
+                .socialId("loadtest-" + i)
+                .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<Participant> participants = new ArrayList<>(users.size());
+        List<ChatRoomMember> members = new ArrayList<>(users.size());
+        int next = 0;
+        for (int room = 0; next < users.size(); room++) {
+            int size = Math.min(settings.roomSizes()[room % settings.roomSizes().length], users.size() - next);
+            ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .chatroomType(ChatRoom.ChatRoomType.GROUP)
+                .chatroomName("loadtest-" + room)
+                .build());
+            for (int i = 0; i < size; i++, next++) {
+                User user = users.get(next);
+                members.add(ChatRoomMember.builder()
+                    .chatroomId(chatRoom.getChatroomId())
+                    .userId(user.getId())
+                    .build());
+                participants.add(new Participant(user, chatRoom.getChatroomId(), size));
+            }
+        }
+        chatRoomMemberRepository.saveAll(members);
+        log.info("Seeded {} users in {} rooms", users.size(),
+            participants.stream().map(Participant::roomId).distinct().count());
+        return participants;
+    }
+
+    private List<StompSession> connect(WebSocketStompClient stompClient, String url, List<Participant> participants,
+                                       JwtTokenProvider jwtTokenProvider) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(settings.connectConcurrency());
+        List<CompletableFuture<StompSession>> futures = new ArrayList<>(participants.size());
+        for (Participant participant : participants) {
+            inFlight.acquire();
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + jwtTokenProvider.generateAccessToken(participant.user()));
+
+            CompletableFuture<StompSession> future = stompClient
+                .connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new SessionHandler())
+                .whenComplete((session, ex) -> inFlight.release());
+            futures.add(future.thenApply(session -> {
+                session.subscribe("/topic/chat/" + participant.roomId(), new SessionHandler());
+                return session;
+            }));
+        }
+
+        List<StompSession> sessions = new ArrayList<>(futures.size());
+        for (CompletableFuture<StompSession> future : futures) {
+            try {
+                sessions.add(future.get(30, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                connectFailures.increment();
+                sessions.add(null);
+            }
+        }
+        log.info("Connected {} of {} sessions", sessions.size() - connectFailures.sum(), participants.size());
+        return sessions;
+    }
+
+    // 스레드마다 세션을 나누어 맡고, 정해진 간격의 "예정 발송 시각"을 기준으로 지연을 잰다 (coordinated omission 방지)
+    private void publish(List<Participant> participants, List<StompSession> sessions) throws InterruptedException {
+        int threads = settings.publisherThreads();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * threads / settings.messagesPerSecond();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds() + settings.durationSeconds());
+        measureFromNanos.set(start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds()));
+        measureUntilNanos.set(end);
+        String padding = "x".repeat(Math.max(settings.payloadBytes() - 40, 0));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                StompHeaders headers = new StompHeaders();
+                headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                long scheduled = start + intervalNanos * thread / threads;
+                int cursor = thread;
+                long sequence = 0;
+                while (scheduled < end) {
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    int index = cursor;
+                    cursor += threads;
+                    if (cursor >= sessions.size()) {
+                        cursor = thread;
+                    }
+                    StompSession session = index < sessions.size() ? sessions.get(index) : null;
+                    if (session != null && session.isConnected()) {
+                        send(session, headers, participants.get(index), thread + "-" + sequence++, scheduled, padding);
+                    }
+                    scheduled += intervalNanos;
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(settings.warmupSeconds() + settings.durationSeconds() + 60L, TimeUnit.SECONDS);
+    }
+
+    private void send(StompSession session, StompHeaders headers, Participant participant, String clientMessageId,
+                      long scheduledNanos, String padding) {
+        ObjectNode body = objectMapper.createObjectNode()
+            .put("messageType", "TEXT")
+            .put("clientMessageId", clientMessageId)
+            .put("content", CONTENT_PREFIX + scheduledNanos + "|" + padding);
+        headers.setDestination("/app/chat/" + participant.roomId());
+        try {
+            session.send(headers, objectMapper.writeValueAsBytes(body));
+            if (isMeasured(scheduledNanos)) {
+                sentCount.increment();
+                expectedDeliveries.add(participant.roomSize());
+            }
+        } catch (Exception e) {
+            sendFailures.increment();
+        }
+    }
+
+    private void onDelivered(byte[] payload) {
+        long receivedAt = System.nanoTime();
+        try {
+            JsonNode content = objectMapper.readTree(payload).get("content");
+            if (content == null || !content.asText().startsWith(CONTENT_PREFIX)) {
+                return;
+            }
+            String text = content.asText();
+            long scheduledNanos = Long.parseLong(text.substring(CONTENT_PREFIX.length(), text.indexOf('|', CONTENT_PREFIX.length())));
+            if (isMeasured(scheduledNanos)) {
+                deliveredCount.increment();
+                histogram.record(TimeUnit.NANOSECONDS.toMicros(receivedAt - scheduledNanos));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Unexpected frame payload: {}", e.getMessage());
+        }
+    }
+
+    private boolean isMeasured(long scheduledNanos) {
+        return scheduledNanos - measureFromNanos.get() >= 0 && scheduledNanos - measureUntilNanos.get() < 0;
+    }
+
+    private Map<String, Object> report(ConfigurableApplicationContext context, int participants, int sessions) {
+        long expected = expectedDeliveries.sum();
+        long delivered = deliveredCount.sum();
+        InboundRateLimiter rateLimiter = context.getBean(InboundRateLimiter.class);
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+        latency.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+        latency.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+        latency.put("maxMs", histogram.getMax() / 1000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings.toString());
+        report.put("sessions", participants);
+        report.put("connectFailures", connectFailures.sum());
+        report.put("sent", sentCount.sum());
+        report.put("sendFailures", sendFailures.sum());
+        report.put("throughputPerSecond", (double) sentCount.sum() / settings.durationSeconds());
+        report.put("expectedDeliveries", expected);
+        report.put("delivered", delivered);
+        report.put("lossRatio", expected == 0 ? 0.0 : (double) (expected - delivered) / expected);
+        report.put("rateLimited", rateLimiter.getUserThrottledCount() + rateLimiter.getRoomThrottledCount());
+        report.put("latency", latency);
+
+        log.info("Load test result: sent={}, delivered={}/{} (loss {}), p50={}ms p99={}ms p999={}ms max={}ms",
+            sentCount.sum(), delivered, expected, report.get("lossRatio"),
+            latency.get("p50Ms"), latency.get("p99Ms"), latency.get("p999Ms"), latency.get("maxMs"));
+        return report;
+    }
+
+    private record Participant(User user, Long roomId, int roomSize) {
+    }
+
+    private class SessionHandler extends StompSessionHandlerAdapter {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            onDelivered((byte[]) payload);
+        }
+
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            log.debug("STOMP session error: {}", exception.getMessage());
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            log.debug("STOMP transport error: {}", exception.getMessage());
+        }
+    }
+}
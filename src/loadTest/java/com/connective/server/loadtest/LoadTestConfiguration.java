@@ -0,0 +1,31 @@
+package com.connective.server.loadtest;
+
+import com.connective.server.chat.application.service.UnreadCountService;
+import java.util.Map;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 외부 저장소 없이 애플리케이션을 띄우기 위한 부하 테스트 전용 빈.
+ * 안 읽은 메시지 수는 Redis에 저장되므로 집계를 생략하는 구현으로 대체한다.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfiguration {
+
+    // 같은 이름으로 등록해 Redis 기반 UnreadCountServiceImpl(및 이벤트 리스너)을 대체
+    @Bean(name = "unreadCountServiceImpl")
+    public UnreadCountService unreadCountService() {
+        return new UnreadCountService() {
+            @Override
+            public Map<Long, Long> getUnreadCounts(Long userId) {
+                return Map.of();
+            }
+
+            @Override
+            public void markRead(Long chatroomId, Long userId, Long lastReadMessageId) {
+            }
+        };
+    }
+}
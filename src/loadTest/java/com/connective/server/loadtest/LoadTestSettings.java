@@ -0,0 +1,51 @@
+package com.connective.server.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트 설정. ./gradlew loadTest -Ploadtest.sessions=2000 처럼 loadtest.* 속성으로 지정한다.
+ *
+ * @param sessions         동시에 연결할 STOMP 세션(사용자) 수
+ * @param roomSizes        채팅방 인원 분포. 사용자를 이 크기들을 순서대로 돌아가며 채팅방에 배정
+ * @param messagesPerSecond 전체 발송 속도 목표
+ * @param payloadBytes     메시지 본문 길이
+ * @param publisherThreads 발송 스레드 수 (세션은 스레드별로 나누어 하나의 스레드만 사용)
+ * @param warmupSeconds    측정에서 제외하는 초기 구간
+ * @param durationSeconds  측정 구간
+ * @param drainSeconds     발송 종료 후 남은 전달을 기다리는 시간
+ * @param connectConcurrency 동시에 진행하는 연결 수
+ */
+public record LoadTestSettings(int sessions, int[] roomSizes, int messagesPerSecond, int payloadBytes,
+                               int publisherThreads, int warmupSeconds, int durationSeconds,
+                               int drainSeconds, int connectConcurrency) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+            Integer.getInteger("loadtest.sessions", 1000),
+            Arrays.stream(System.getProperty("loadtest.room-sizes", "2,10,50").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray(),
+            Integer.getInteger("loadtest.messages-per-second", 500),
+            Integer.getInteger("loadtest.payload-bytes", 100),
+            Integer.getInteger("loadtest.publisher-threads", 4),
+            Integer.getInteger("loadtest.warmup-seconds", 5),
+            Integer.getInteger("loadtest.duration-seconds", 30),
+            Integer.getInteger("loadtest.drain-seconds", 5),
+            Integer.getInteger("loadtest.connect-concurrency", 200)
+        );
+        if (settings.sessions() < 1 || settings.messagesPerSecond() < 1 || settings.publisherThreads() < 1
+            || Arrays.stream(settings.roomSizes()).anyMatch(size -> size < 1)) {
+            throw new IllegalArgumentException("Invalid load test settings: " + settings);
+        }
+        return settings;
+    }
+
+    @Override
+    public String toString() {
+        return "sessions=" + sessions + ", roomSizes=" + Arrays.toString(roomSizes)
+            + ", messagesPerSecond=" + messagesPerSecond + ", payloadBytes=" + payloadBytes
+            + ", publisherThreads=" + publisherThreads + ", warmup=" + warmupSeconds + "s"
+            + ", duration=" + durationSeconds + "s, drain=" + drainSeconds + "s";
+    }
+}
@@ -17,4 +17,6 @@ public interface ChatRoomService {
     boolean isMemberOfChatRoom(Long chatroomId, Long userId);
 
     void addMemberToChatRoom(Long chatroomId, Long userId);
+
+    void removeMemberFromChatRoom(Long chatroomId, Long userId);
 }
\ No newline at end of file
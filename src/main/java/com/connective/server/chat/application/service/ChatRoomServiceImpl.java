@@ -2,16 +2,30 @@ package com.connective.server.chat.application.service;
 
 import com.connective.server.chat.domain.entity.ChatRoom;
 import com.connective.server.chat.domain.entity.ChatRoomMember;
+import com.connective.server.chat.domain.entity.ChatRoomSummary;
+import com.connective.server.chat.domain.event.ChatRoomMembershipChangedEvent;
 import com.connective.server.chat.domain.repository.ChatRoomMemberRepository;
 import com.connective.server.chat.domain.repository.ChatRoomRepository;
+import com.connective.server.chat.domain.repository.ChatRoomSummaryRepository;
+import com.connective.server.chat.infrastructure.cache.ChatRoomMembershipCache;
 import com.connective.server.user.domain.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -21,44 +35,102 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
     private final UserRepository userRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // 1:1 채팅방 생성 잠금 개수. 서로 다른 사용자 쌍은 대부분 다른 잠금을 사용해 동시에 생성된다
+    @Value("${chat.room.creation-lock-stripes:64}")
+    private int creationLockStripes;
+
+    private TransactionTemplate transactionTemplate;
+    private Lock[] creationLocks;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.creationLocks = new Lock[creationLockStripes];
+        for (int i = 0; i < creationLockStripes; i++) {
+            creationLocks[i] = new ReentrantLock();
+        }
+    }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatRoom createOrGetOneToOneChatRoom(Long userId1, Long userId2) {
         if (userId1.equals(userId2)) {
             throw new IllegalArgumentException("Cannot create chat room with yourself");
         }
 
-        Optional<ChatRoom> existingRoom = chatRoomRepository.findOneToOneChatRoom(userId1, userId2);
-        
+        Long lowUserId = Math.min(userId1, userId2);
+        Long highUserId = Math.max(userId1, userId2);
+
+        // 이미 활성화된 채팅방은 잠금 없이 인덱스 조회 한 번으로 반환
+        Optional<ChatRoom> existingRoom = chatRoomRepository.findByPairLowUserIdAndPairHighUserId(lowUserId, highUserId);
+        if (existingRoom.isPresent() && existingRoom.get().getChatroomStatus() == ChatRoom.ChatRoomStatus.ACTIVE) {
+            return existingRoom.get();
+        }
+
+        // 같은 쌍의 동시 요청은 노드 안에서 줄 세우고, 노드 간 경합은 유니크 제약으로 막는다.
+        // 잠금은 커밋 이후에 풀어야 다음 요청이 새 채팅방을 볼 수 있으므로 트랜잭션 바깥에서 잡는다
+        Lock lock = creationLockOf(lowUserId, highUserId);
+        lock.lock();
+        try {
+            return transactionTemplate.execute(status -> getOrCreateOneToOneChatRoom(lowUserId, highUserId));
+        } catch (DataIntegrityViolationException e) {
+            log.info("1:1 chat room for users {}, {} was created concurrently, reading it back", lowUserId, highUserId);
+            return transactionTemplate.execute(status -> chatRoomRepository
+                    .findByPairLowUserIdAndPairHighUserId(lowUserId, highUserId)
+                    .orElseThrow(() -> e));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ChatRoom getOrCreateOneToOneChatRoom(Long lowUserId, Long highUserId) {
+        Optional<ChatRoom> existingRoom = chatRoomRepository.findByPairLowUserIdAndPairHighUserId(lowUserId, highUserId);
+
         if (existingRoom.isPresent()) {
             ChatRoom chatRoom = existingRoom.get();
             if (chatRoom.getChatroomStatus() == ChatRoom.ChatRoomStatus.ARCHIVED) {
                 chatRoom.updateStatus(ChatRoom.ChatRoomStatus.ACTIVE);
                 log.info("Reactivated archived 1:1 chat room: {} for users: {}, {}", 
-                        chatRoom.getChatroomId(), userId1, userId2);
+                        chatRoom.getChatroomId(), lowUserId, highUserId);
             }
             return chatRoom;
         }
 
-        validateUsersExist(userId1, userId2);
+        validateUsersExist(lowUserId, highUserId);
 
         ChatRoom chatRoom = ChatRoom.builder()
                 .chatroomType(ChatRoom.ChatRoomType.ONE_TO_ONE)
                 .chatroomStatus(ChatRoom.ChatRoomStatus.ACTIVE)
                 .build();
-
-        ChatRoom savedChatRoom = chatRoomRepository.save(chatRoom);
+        chatRoom.assignPair(lowUserId, highUserId);
+
+        // 다른 노드가 먼저 만든 경우 멤버 추가 전에 유니크 제약 위반으로 실패하도록 즉시 flush
+        ChatRoom savedChatRoom = chatRoomRepository.saveAndFlush(chatRoom);
+        chatRoomSummaryRepository.save(ChatRoomSummary.builder()
+                .chatroomId(savedChatRoom.getChatroomId())
+                .memberCount(0)
+                .lastActivityAt(LocalDateTime.now())
+                .build());
         
-        addMemberToChatRoom(savedChatRoom.getChatroomId(), userId1);
-        addMemberToChatRoom(savedChatRoom.getChatroomId(), userId2);
+        addMemberToChatRoom(savedChatRoom.getChatroomId(), lowUserId);
+        addMemberToChatRoom(savedChatRoom.getChatroomId(), highUserId);
         
         log.info("Created new 1:1 chat room: {} for users: {}, {}", 
-                savedChatRoom.getChatroomId(), userId1, userId2);
+                savedChatRoom.getChatroomId(), lowUserId, highUserId);
         return savedChatRoom;
     }
 
+    private Lock creationLockOf(Long lowUserId, Long highUserId) {
+        int hash = 31 * Long.hashCode(lowUserId) + Long.hashCode(highUserId);
+        return creationLocks[Math.floorMod(hash, creationLocks.length)];
+    }
+
     @Override
     @Transactional
     public void addMemberToChatRoom(Long chatroomId, Long userId) {
@@ -72,9 +144,25 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .build();
 
         chatRoomMemberRepository.save(member);
+        adjustMemberCount(chatroomId, 1);
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(
+                chatroomId, userId, ChatRoomMembershipChangedEvent.ChangeType.JOINED));
         log.info("Added user {} to chat room {}", userId, chatroomId);
     }
 
+    @Override
+    @Transactional
+    public void removeMemberFromChatRoom(Long chatroomId, Long userId) {
+        if (chatRoomMemberRepository.deleteByChatroomIdAndUserId(chatroomId, userId) == 0) {
+            throw new IllegalArgumentException("User " + userId + " is not a member of chat room " + chatroomId);
+        }
+
+        adjustMemberCount(chatroomId, -1);
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(
+                chatroomId, userId, ChatRoomMembershipChangedEvent.ChangeType.LEFT));
+        log.info("Removed user {} from chat room {}", userId, chatroomId);
+    }
+
     @Override
     public ChatRoom getChatRoomById(Long chatroomId) {
         return chatRoomRepository.findById(chatroomId)
@@ -93,7 +181,19 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     @Override
     public boolean isMemberOfChatRoom(Long chatroomId, Long userId) {
-        return chatRoomMemberRepository.existsByChatroomIdAndUserId(chatroomId, userId);
+        // 메시지마다 호출되므로 DB 대신 멤버십 캐시로 확인
+        return chatRoomMembershipCache.isMember(chatroomId, userId);
+    }
+
+    // 요약이 없는 기존 채팅방은 현재 멤버 수로 요약을 생성
+    private void adjustMemberCount(Long chatroomId, long delta) {
+        if (chatRoomSummaryRepository.adjustMemberCount(chatroomId, delta) == 0) {
+            chatRoomSummaryRepository.save(ChatRoomSummary.builder()
+                    .chatroomId(chatroomId)
+                    .memberCount(chatRoomMemberRepository.countByChatroomId(chatroomId))
+                    .lastActivityAt(LocalDateTime.now())
+                    .build());
+        }
     }
 
     private void validateUsersExist(Long userId1, Long userId2) {
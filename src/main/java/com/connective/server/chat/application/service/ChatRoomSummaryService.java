@@ -0,0 +1,14 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.ChatRoomSummaryResponse;
+
+import java.util.List;
+
+public interface ChatRoomSummaryService {
+
+    /**
+     * 사용자가 참여한 채팅방 목록을 마지막 활동 시각 최신순으로 조회합니다.
+     * 마지막 메시지 미리보기, 멤버 수, 안 읽은 메시지 수를 포함합니다.
+     */
+    List<ChatRoomSummaryResponse> getChatRoomSummaries(Long userId);
+}
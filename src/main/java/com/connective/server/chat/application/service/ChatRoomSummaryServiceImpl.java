@@ -0,0 +1,130 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.ChatRoomSummaryResponse;
+import com.connective.server.chat.domain.dto.ChatRoomSummaryRow;
+import com.connective.server.chat.domain.entity.ChatRoomSummary;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.event.MessagesPersistedEvent;
+import com.connective.server.chat.domain.repository.ChatRoomMemberRepository;
+import com.connective.server.chat.domain.repository.ChatRoomSummaryRepository;
+import com.connective.server.user.application.service.UserProfileService;
+import com.connective.server.user.domain.dto.profile.UserProfileDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ChatRoomSummaryServiceImpl implements ChatRoomSummaryService {
+
+    // 더 최신 메시지가 이미 반영된 경우 덮어쓰지 않음
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+        "UPDATE chat_room_summary SET last_message_id = ?, last_message_type = ?, last_message_snippet = ?, "
+            + "last_sender_id = ?, last_message_at = ?, last_activity_at = ? "
+            + "WHERE chatroom_id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final UserProfileService userProfileService;
+    private final UnreadCountService unreadCountService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ChatRoomSummaryResponse> getChatRoomSummaries(Long userId) {
+        // 채팅방 수와 무관하게 DB 쿼리 한 번 + Redis 조회 한 번 + 발신자 프로필 일괄 조회
+        List<ChatRoomSummaryRow> rows = chatRoomSummaryRepository.findSummariesByUserId(userId);
+        Map<Long, Long> unreadCounts = unreadCountService.getUnreadCounts(userId);
+
+        Set<Long> senderIds = rows.stream()
+            .map(ChatRoomSummaryRow::lastSenderId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, UserProfileDTO> senders = senderIds.isEmpty() ? Map.of() : userProfileService.getProfiles(senderIds);
+
+        return rows.stream()
+            .map(row -> {
+                UserProfileDTO sender = row.lastSenderId() != null ? senders.get(row.lastSenderId()) : null;
+                return ChatRoomSummaryResponse.builder()
+                    .roomId(row.chatroomId())
+                    .roomType(row.chatroomType())
+                    .roomName(row.chatroomName())
+                    .lastMessageId(row.lastMessageId())
+                    .lastMessageType(row.lastMessageType())
+                    .lastMessageSnippet(row.lastMessageSnippet())
+                    .lastSenderId(row.lastSenderId())
+                    .lastSenderNickname(sender != null ? sender.getNickname() : null)
+                    .lastMessageAt(row.lastMessageAt())
+                    .memberCount(row.memberCount() != null ? row.memberCount() : 0)
+                    .unreadCount(unreadCounts.getOrDefault(row.chatroomId(), 0L))
+                    .lastActivityAt(row.lastActivityAt())
+                    .build();
+            })
+            .toList();
+    }
+
+    /**
+     * 저장된 메시지 배치에서 채팅방별 마지막 메시지만 골라 요약을 배치 UPDATE 합니다.
+     * (각 UPDATE/생성은 자체 트랜잭션으로 실행되어 생성 충돌이 배치 전체를 롤백시키지 않음)
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onMessagesPersisted(MessagesPersistedEvent event) {
+        Collection<Message> lastMessages = event.getMessages().stream()
+            .collect(Collectors.toMap(Message::getChatroomId, message -> message,
+                (a, b) -> a.getMessageId() > b.getMessageId() ? a : b))
+            .values();
+        List<Message> targets = new ArrayList<>(lastMessages);
+
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, targets, targets.size(), (ps, message) -> {
+            ps.setLong(1, message.getMessageId());
+            ps.setString(2, message.getMessageType().name());
+            ps.setString(3, ChatRoomSummary.snippetOf(message.getMessageContent()));
+            ps.setLong(4, message.getUserId());
+            ps.setObject(5, message.getMessageSendAt());
+            ps.setObject(6, message.getMessageSendAt());
+            ps.setLong(7, message.getChatroomId());
+            ps.setLong(8, message.getMessageId());
+        });
+
+        // 갱신되지 않은 채팅방 중 요약이 아직 없는 기존 채팅방은 새로 생성
+        int index = 0;
+        for (int[] chunk : results) {
+            for (int updated : chunk) {
+                Message message = targets.get(index++);
+                if (updated == 0 && !chatRoomSummaryRepository.existsById(message.getChatroomId())) {
+                    createSummary(message);
+                }
+            }
+        }
+    }
+
+    private void createSummary(Message message) {
+        ChatRoomSummary summary = ChatRoomSummary.builder()
+            .chatroomId(message.getChatroomId())
+            .memberCount(chatRoomMemberRepository.countByChatroomId(message.getChatroomId()))
+            .lastActivityAt(message.getMessageSendAt())
+            .build();
+        summary.updateLastMessage(message);
+        try {
+            chatRoomSummaryRepository.saveAndFlush(summary);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 경로에서 먼저 생성됨. 다음 메시지부터는 UPDATE로 반영된다
+            log.debug("Chat room summary {} was created concurrently", message.getChatroomId());
+        }
+    }
+}
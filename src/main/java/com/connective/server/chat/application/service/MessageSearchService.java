@@ -0,0 +1,14 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.MessageSearchResponse;
+
+public interface MessageSearchService {
+
+    /**
+     * 채팅방 메시지를 검색합니다. 공백으로 구분된 모든 단어를 포함한 메시지를 최신순으로 반환합니다.
+     *
+     * @param query  검색어 (2글자 이상인 단어가 하나 이상 있어야 함)
+     * @param cursor 이전 응답의 nextCursor (null이면 최신 메시지부터)
+     */
+    MessageSearchResponse search(Long chatroomId, String query, Long cursor, int size);
+}
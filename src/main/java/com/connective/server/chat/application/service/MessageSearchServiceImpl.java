@@ -0,0 +1,135 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.MessageSearchResponse;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.repository.MessageStore;
+import com.connective.server.chat.infrastructure.archive.ColdMessageStore;
+import com.connective.server.chat.infrastructure.search.MessageSearchIndex;
+import com.connective.server.chat.infrastructure.search.MessageTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageSearchServiceImpl implements MessageSearchService {
+
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+    // 한 번의 요청에서 후보를 다시 조회하는 최대 횟수 (bigram 후보 중 실제 일치가 드문 경우 응답 시간 상한)
+    private static final int MAX_CANDIDATE_ROUNDS = 5;
+    private static final int SNIPPET_BEFORE = 20;
+    private static final int SNIPPET_LENGTH = 80;
+
+    private final MessageSearchIndex messageSearchIndex;
+    private final MessageStore messageStore;
+    private final ColdMessageStore coldMessageStore;
+
+    @Override
+    public MessageSearchResponse search(Long chatroomId, String query, Long cursor, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be 1 to " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        List<String> terms = MessageTokenizer.terms(MessageTokenizer.normalize(query));
+        Set<Long> tokens = MessageTokenizer.tokenize(terms);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain a word of at least 2 characters");
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        int candidateBatch = limit * 2 + 1;
+
+        // 후보(모든 bigram 포함)를 최신순으로 읽으며 본문에 검색어가 실제로 있는 메시지만 남긴다
+        List<Message> matches = new ArrayList<>(limit + 1);
+        Long scanCursor = cursor;
+        boolean exhausted = false;
+        for (int round = 0; round < MAX_CANDIDATE_ROUNDS && matches.size() <= limit; round++) {
+            List<Long> candidateIds = messageSearchIndex.findCandidateIds(chatroomId, tokens, scanCursor, candidateBatch);
+            if (candidateIds.isEmpty()) {
+                exhausted = true;
+                break;
+            }
+            for (Message message : findMessages(chatroomId, candidateIds)) {
+                if (containsAll(message.getMessageContent(), terms)) {
+                    matches.add(message);
+                    if (matches.size() > limit) {
+                        break;
+                    }
+                }
+            }
+            scanCursor = candidateIds.get(candidateIds.size() - 1);
+            if (candidateIds.size() < candidateBatch) {
+                exhausted = true;
+                break;
+            }
+        }
+
+        boolean hasNext = matches.size() > limit || !exhausted;
+        List<Message> page = matches.size() > limit ? matches.subList(0, limit) : matches;
+        Long nextCursor = null;
+        if (hasNext) {
+            // 한 페이지를 채웠으면 마지막 결과부터, 후보 조회 횟수 제한에 걸렸으면 확인한 후보 다음부터 이어서 검색
+            nextCursor = matches.size() > limit ? page.get(page.size() - 1).getMessageId() : scanCursor;
+        }
+
+        return MessageSearchResponse.builder()
+            .roomId(String.valueOf(chatroomId))
+            .results(page.stream().map(message -> toHit(message, terms)).toList())
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    // 색인은 보관 후에도 남아 있으므로 hot 테이블에 없는 후보는 콜드 저장소에서 찾는다
+    private List<Message> findMessages(Long chatroomId, List<Long> messageIds) {
+        List<Message> messages = messageStore.findByIds(chatroomId, messageIds);
+        if (messages.size() == messageIds.size() || !coldMessageStore.hasArchive(chatroomId)) {
+            return messages;
+        }
+        Set<Long> missing = new HashSet<>(messageIds);
+        messages.forEach(message -> missing.remove(message.getMessageId()));
+
+        List<Message> merged = new ArrayList<>(messages);
+        merged.addAll(coldMessageStore.findByIds(chatroomId, missing));
+        merged.sort(Comparator.comparing(Message::getMessageId).reversed());
+        return merged;
+    }
+
+    private static boolean containsAll(String content, List<String> terms) {
+        if (content == null) {
+            return false;
+        }
+        String normalized = MessageTokenizer.normalize(content);
+        return terms.stream().allMatch(normalized::contains);
+    }
+
+    private static MessageSearchResponse.Hit toHit(Message message, List<String> terms) {
+        return MessageSearchResponse.Hit.builder()
+            .messageId(message.getMessageId())
+            .senderId(message.getUserId())
+            .snippet(snippetOf(message.getMessageContent(), terms.get(0)))
+            .timestamp(message.getMessageSendAt())
+            .build();
+    }
+
+    // 첫 번째 검색어 앞뒤 본문을 잘라 보여준다 (서로게이트 쌍이 잘리지 않도록 코드 포인트 단위)
+    static String snippetOf(String content, String term) {
+        String normalized = MessageTokenizer.normalize(content);
+        int position = normalized.length() == content.length() ? Math.max(normalized.indexOf(term), 0) : 0;
+
+        int start = content.offsetByCodePoints(position,
+            -Math.min(SNIPPET_BEFORE, content.codePointCount(0, position)));
+        int end = content.offsetByCodePoints(start,
+            Math.min(SNIPPET_LENGTH, content.codePointCount(start, content.length())));
+
+        return (start > 0 ? "…" : "") + content.substring(start, end) + (end < content.length() ? "…" : "");
+    }
+}
@@ -1,18 +1,30 @@
 package com.connective.server.chat.application.service;
 
+import com.connective.server.chat.domain.dto.ChatHistoryResponse;
 import com.connective.server.chat.domain.dto.ChatMessageRequest;
 import com.connective.server.chat.domain.dto.ChatMessageResponse;
 import com.connective.server.chat.domain.entity.Message;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface MessageService {
 
     Message saveMessage(String roomId, Long senderId, ChatMessageRequest request);
 
+    Message prepareMessage(String roomId, Long senderId, ChatMessageRequest request);
+
+    CompletableFuture<Message> saveMessageAsync(Message message, ChatMessageResponse response);
+
     ChatMessageResponse createMessageResponse(Message message);
 
+    List<ChatMessageResponse> createMessageResponses(List<Message> messages);
+
     List<Message> getMessageHistory(String roomId, int page, int size);
 
-    Message getLatestMessage(String roomId);
+    ChatHistoryResponse getMessagesBefore(String roomId, Long cursor, int size);
+
+    ChatHistoryResponse getMessagesAfter(String roomId, Long cursor, int size);
+
+    ChatMessageResponse getLatestMessage(String roomId);
 }
\ No newline at end of file
@@ -1,21 +1,31 @@
 package com.connective.server.chat.application.service;
 
+import com.connective.server.chat.domain.dto.ChatHistoryResponse;
 import com.connective.server.chat.domain.dto.ChatMessageRequest;
 import com.connective.server.chat.domain.dto.ChatMessageResponse;
 import com.connective.server.chat.domain.entity.Message;
-import com.connective.server.chat.domain.repository.MessageRepository;
-import com.connective.server.user.domain.entity.User;
-import com.connective.server.user.domain.repository.UserRepository;
+import com.connective.server.chat.domain.repository.MessageStore;
+import com.connective.server.chat.infrastructure.archive.ColdMessageStore;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import com.connective.server.chat.infrastructure.broker.RoomSubscriptionRegistry;
+import com.connective.server.chat.infrastructure.cache.RecentMessageCache;
+import com.connective.server.chat.infrastructure.id.IdGenerator;
+import com.connective.server.chat.infrastructure.persistence.MessageBatchWriter;
+import com.connective.server.user.application.service.UserProfileService;
+import com.connective.server.user.domain.dto.profile.UserProfileDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -23,55 +33,222 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class MessageServiceImpl implements MessageService {
 
-    private final MessageRepository messageRepository;
-    private final UserRepository userRepository;
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    private final MessageStore messageStore;
+    private final UserProfileService userProfileService;
+    private final MessageBatchWriter messageBatchWriter;
+    private final IdGenerator idGenerator;
+    private final RecentMessageCache recentMessageCache;
+    private final ColdMessageStore coldMessageStore;
+    private final RoomSubscriptionRegistry roomSubscriptionRegistry;
+    private final RoomMessageBroadcaster roomMessageBroadcaster;
 
     @Override
     @Transactional
     public Message saveMessage(String roomId, Long senderId, ChatMessageRequest request) {
-        Long chatroomId = Long.parseLong(roomId);
+        Message message = prepareMessage(roomId, senderId, request);
+
+        messageStore.saveAll(List.of(message));
+        log.info("Saved message: {} in room: {} from user: {}", 
+                message.getMessageId(), roomId, senderId);
         
-        Message message = Message.builder()
-                .chatroomId(chatroomId)
+        return message;
+    }
+
+    @Override
+    public Message prepareMessage(String roomId, Long senderId, ChatMessageRequest request) {
+        if (request.getMessageType() == null) {
+            throw new IllegalArgumentException("Message type is required");
+        }
+
+        // 영속화 전에 최종 ID를 할당해 브로드캐스트에도 같은 ID를 실어 보낸다
+        return Message.builder()
+                .messageId(idGenerator.nextId())
+                .chatroomId(Long.parseLong(roomId))
                 .userId(senderId)
                 .messageType(request.getMessageType())
                 .messageContent(request.getContent())
+                .messageSendAt(LocalDateTime.now())
                 .build();
+    }
 
-        Message savedMessage = messageRepository.save(message);
-        log.info("Saved message: {} in room: {} from user: {}", 
-                savedMessage.getMessageId(), roomId, senderId);
-        
-        return savedMessage;
+    @Override
+    public CompletableFuture<Message> saveMessageAsync(Message message, ChatMessageResponse response) {
+        // 최근 메시지 캐시에 먼저 반영한 뒤 저장이 실패하면 되돌린다
+        recentMessageCache.append(message.getChatroomId(), response);
+
+        // 트랜잭션 커밋을 기다리지 않고 write-behind 큐에 위임
+        CompletableFuture<Message> persisted = messageBatchWriter.enqueue(message);
+        persisted.whenComplete((saved, ex) -> {
+            if (ex != null) {
+                // 다른 노드도 브로드캐스트로 받은 메시지를 캐시에 넣었으므로 모든 노드에서 제거한다
+                roomMessageBroadcaster.removeRecentMessage(message.getChatroomId(), message.getMessageId());
+            }
+        });
+        return persisted;
     }
 
     @Override
     public ChatMessageResponse createMessageResponse(Message message) {
-        User sender = userRepository.findById(message.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + message.getUserId()));
+        UserProfileDTO sender = userProfileService.getProfile(message.getUserId());
+        return toMessageResponse(message, sender);
+    }
 
-        return ChatMessageResponse.builder()
-                .roomId(String.valueOf(message.getChatroomId()))
-                .senderId(message.getUserId())
-                .senderNickname(sender.getNickname())
-                .content(message.getMessageContent())
-                .messageType(message.getMessageType())
-                .timestamp(message.getMessageSendAt())
-                .build();
+    @Override
+    public List<ChatMessageResponse> createMessageResponses(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        // 페이지 내 발신자를 모아 프로필을 한 번에 조회 (메시지별 조회 N+1 방지)
+        Set<Long> senderIds = messages.stream()
+                .map(Message::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, UserProfileDTO> senders = userProfileService.getProfiles(senderIds);
+
+        return messages.stream()
+                .map(message -> toMessageResponse(message, senders.get(message.getUserId())))
+                .toList();
     }
 
     @Override
     public List<Message> getMessageHistory(String roomId, int page, int size) {
         Long chatroomId = Long.parseLong(roomId);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Message> messagePage = messageRepository.findByChatroomIdOrderByMessageSendAtDesc(chatroomId, pageable);
+        // 오프셋 페이지 조회는 저장소 구현과 무관하게 최신순 keyset 조회 결과에서 잘라낸다
+        List<Message> messages = withColdBefore(chatroomId, null,
+                messageStore.findLatest(chatroomId, (page + 1) * size), (page + 1) * size);
+        int from = Math.min(page * size, messages.size());
         
-        return messagePage.getContent();
+        return messages.subList(from, messages.size());
     }
 
     @Override
-    public Message getLatestMessage(String roomId) {
+    public ChatHistoryResponse getMessagesBefore(String roomId, Long cursor, int size) {
         Long chatroomId = Long.parseLong(roomId);
-        return messageRepository.findLatestMessageByChatroomId(chatroomId);
+        int limit = clampHistorySize(size);
+
+        // 최근 메시지 범위 안의 조회는 캐시에서 DB 접근 없이 응답
+        Optional<RecentMessageCache.CachedPage> cached = findInRecentMessages(chatroomId, cursor, limit);
+        if (cached.isPresent()) {
+            return toHistoryResponse(roomId, cached.get());
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        List<Message> messages = cursor == null
+                ? messageStore.findLatest(chatroomId, limit + 1)
+                : messageStore.findBefore(chatroomId, cursor, limit + 1);
+        messages = withColdBefore(chatroomId, cursor, messages, limit + 1);
+
+        return toHistoryResponse(roomId, messages, limit);
+    }
+
+    @Override
+    public ChatHistoryResponse getMessagesAfter(String roomId, Long cursor, int size) {
+        Long chatroomId = Long.parseLong(roomId);
+        int limit = clampHistorySize(size);
+
+        List<Message> messages = withColdAfter(chatroomId, cursor, limit + 1);
+
+        return toHistoryResponse(roomId, messages, limit);
+    }
+
+    @Override
+    public ChatMessageResponse getLatestMessage(String roomId) {
+        Long chatroomId = Long.parseLong(roomId);
+        Optional<RecentMessageCache.CachedPage> cached = findInRecentMessages(chatroomId, null, 1);
+        if (cached.isPresent()) {
+            List<ChatMessageResponse> messages = cached.get().messages();
+            return messages.isEmpty() ? null : messages.get(0);
+        }
+
+        List<Message> latest = withColdBefore(chatroomId, null, messageStore.findLatest(chatroomId, 1), 1);
+        return latest.isEmpty() ? null : createMessageResponse(latest.get(0));
+    }
+
+    // 캐시 미스이고 최신 페이지 요청이면 DB에서 최근 메시지를 읽어 캐시를 채운 뒤 다시 조회
+    // 방 채널을 구독하지 않는 노드는 다른 노드의 발송을 받지 못하므로 캐시를 채우지 않는다
+    private Optional<RecentMessageCache.CachedPage> findInRecentMessages(Long chatroomId, Long cursor, int limit) {
+        Optional<RecentMessageCache.CachedPage> cached = recentMessageCache.getBefore(chatroomId, cursor, limit);
+        if (cached.isPresent() || cursor != null || limit > recentMessageCache.getCapacityPerRoom()
+                || !roomSubscriptionRegistry.isRoomSubscribed(chatroomId)) {
+            return cached;
+        }
+
+        int capacity = recentMessageCache.getCapacityPerRoom();
+        List<Message> latest = withColdBefore(chatroomId, null,
+                messageStore.findLatest(chatroomId, capacity), capacity);
+        recentMessageCache.warm(chatroomId, createMessageResponses(latest), latest.size() < capacity);
+        if (!roomSubscriptionRegistry.isRoomSubscribed(chatroomId)) {
+            // 캐시를 채우는 사이 마지막 구독자가 나갔다면 구독 해제 시점의 비우기를 놓쳤을 수 있다
+            recentMessageCache.evict(chatroomId);
+            return Optional.empty();
+        }
+        return recentMessageCache.getBefore(chatroomId, null, limit);
+    }
+
+    // hot 테이블 결과가 모자라면 보관된 구간이 이어지는 것이므로 마지막 hot 메시지 이전부터 콜드 저장소에서 채운다
+    private List<Message> withColdBefore(Long chatroomId, Long cursor, List<Message> hot, int limit) {
+        if (hot.size() >= limit || !coldMessageStore.hasArchive(chatroomId)) {
+            return hot;
+        }
+        Long coldCursor = hot.isEmpty() ? cursor : hot.get(hot.size() - 1).getMessageId();
+        List<Message> merged = new ArrayList<>(hot);
+        merged.addAll(coldMessageStore.findBefore(chatroomId, coldCursor, limit - hot.size()));
+        return merged;
+    }
+
+    // 커서가 보관된 구간 안이면 콜드 저장소부터 읽고 이어지는 메시지를 hot 테이블에서 채운다
+    private List<Message> withColdAfter(Long chatroomId, Long cursor, int limit) {
+        Long archivedUpTo = coldMessageStore.getArchivedUpTo(chatroomId);
+        if (archivedUpTo == null || cursor >= archivedUpTo) {
+            return messageStore.findAfter(chatroomId, cursor, limit);
+        }
+        List<Message> merged = new ArrayList<>(coldMessageStore.findAfter(chatroomId, cursor, limit));
+        if (merged.size() < limit) {
+            merged.addAll(messageStore.findAfter(chatroomId, archivedUpTo, limit - merged.size()));
+        }
+        return merged;
+    }
+
+    private int clampHistorySize(int size) {
+        return Math.min(Math.max(size, 1), MAX_HISTORY_SIZE);
+    }
+
+    private ChatHistoryResponse toHistoryResponse(String roomId, RecentMessageCache.CachedPage page) {
+        List<ChatMessageResponse> messages = page.messages();
+        return ChatHistoryResponse.builder()
+                .roomId(roomId)
+                .messages(messages)
+                .nextCursor(messages.isEmpty() ? null : messages.get(messages.size() - 1).getMessageId())
+                .hasNext(page.hasMore())
+                .build();
+    }
+
+    // 조회 순서(before: 최신순, after: 오래된 순)를 유지하고 마지막 메시지 ID를 다음 커서로 사용
+    private ChatHistoryResponse toHistoryResponse(String roomId, List<Message> messages, int limit) {
+        boolean hasNext = messages.size() > limit;
+        List<Message> page = hasNext ? messages.subList(0, limit) : messages;
+
+        return ChatHistoryResponse.builder()
+                .roomId(roomId)
+                .messages(createMessageResponses(page))
+                .nextCursor(page.isEmpty() ? null : page.get(page.size() - 1).getMessageId())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 탈퇴 등으로 발신자 정보가 없으면 닉네임 없이 메시지만 내려준다
+    private ChatMessageResponse toMessageResponse(Message message, UserProfileDTO sender) {
+        return ChatMessageResponse.builder()
+                .messageId(message.getMessageId())
+                .roomId(String.valueOf(message.getChatroomId()))
+                .senderId(message.getUserId())
+                .senderNickname(sender != null ? sender.getNickname() : null)
+                .senderProfileCharacterType(sender != null ? sender.getProfileCharacterType() : null)
+                .content(message.getMessageContent())
+                .messageType(message.getMessageType())
+                .timestamp(message.getMessageSendAt())
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.connective.server.chat.application.service;
+
+public interface ReadReceiptService {
+
+    /**
+     * 사용자가 채팅방의 메시지를 어디까지 읽었는지 기록합니다.
+     * 같은 사용자의 보고는 가장 큰 메시지 ID만 남기고 합쳐져 주기적으로 저장 및 전파됩니다.
+     */
+    void recordRead(Long chatroomId, Long userId, Long lastReadMessageId);
+}
@@ -0,0 +1,140 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.ChatReadStateResponse;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 보고 수집기.
+ * 스크롤 중 빈번하게 들어오는 읽음 보고를 (채팅방, 사용자)별 최대 메시지 ID로 합쳐 두었다가
+ * flush 주기마다 chat_room_member를 배치 UPDATE 하고, broadcast 주기마다 채팅방별로 한 번씩 읽음 상태를 전파한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReadReceiptServiceImpl implements ReadReceiptService {
+
+    // 더 큰 값만 반영해 늦게 도착한 보고나 다른 노드의 flush가 읽음 위치를 되돌리지 않도록 함
+    private static final String UPDATE_LAST_READ_SQL =
+        "UPDATE chat_room_member SET last_read_message_id = ? "
+            + "WHERE chatroom_id = ? AND user_id = ? "
+            + "AND (last_read_message_id IS NULL OR last_read_message_id < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final UnreadCountService unreadCountService;
+    private final RoomMessageBroadcaster roomMessageBroadcaster;
+
+    private final Map<ReadKey, Long> pendingWrites = new ConcurrentHashMap<>();
+    private final Map<ReadKey, Long> pendingBroadcasts = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushReads();
+    }
+
+    @Override
+    public void recordRead(Long chatroomId, Long userId, Long lastReadMessageId) {
+        if (lastReadMessageId == null) {
+            throw new IllegalArgumentException("Last read message id is required");
+        }
+        ReadKey key = new ReadKey(chatroomId, userId);
+        pendingWrites.merge(key, lastReadMessageId, Math::max);
+        pendingBroadcasts.merge(key, lastReadMessageId, Math::max);
+    }
+
+    public int getPendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:1000}")
+    public void flushReads() {
+        List<Map.Entry<ReadKey, Long>> dirty = drain(pendingWrites);
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, dirty, dirty.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey().chatroomId());
+                    ps.setLong(3, entry.getKey().userId());
+                    ps.setLong(4, entry.getValue());
+                }));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (그 사이 들어온 더 큰 값과 합쳐짐)
+            dirty.forEach(entry -> pendingWrites.merge(entry.getKey(), entry.getValue(), Math::max));
+            log.warn("Failed to flush {} read receipts, will retry: {}", dirty.size(), e.getMessage());
+            return;
+        }
+
+        for (Map.Entry<ReadKey, Long> entry : dirty) {
+            try {
+                unreadCountService.markRead(entry.getKey().chatroomId(), entry.getKey().userId(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Failed to update unread count of user {} in room {}: {}",
+                    entry.getKey().userId(), entry.getKey().chatroomId(), e.getMessage());
+            }
+        }
+        log.debug("Flushed {} read receipts", dirty.size());
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.broadcast-interval-ms:500}")
+    public void broadcastReads() {
+        List<Map.Entry<ReadKey, Long>> dirty = drain(pendingBroadcasts);
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        // 채팅방마다 한 프레임으로 묶어 /topic/chat/{roomId}/read 로 전송
+        Map<Long, Map<Long, Long>> byRoom = new HashMap<>();
+        dirty.forEach(entry -> byRoom.computeIfAbsent(entry.getKey().chatroomId(), id -> new HashMap<>())
+            .put(entry.getKey().userId(), entry.getValue()));
+
+        byRoom.forEach((chatroomId, reads) -> {
+            String roomId = String.valueOf(chatroomId);
+            roomMessageBroadcaster.broadcastToRoom(roomId, "/read", ChatReadStateResponse.builder()
+                .roomId(roomId)
+                .lastReadMessageIds(reads)
+                .build());
+        });
+    }
+
+    // 읽어간 값과 같은 경우에만 제거해 그 사이 갱신된 더 큰 값은 다음 주기에 처리
+    private List<Map.Entry<ReadKey, Long>> drain(Map<ReadKey, Long> pending) {
+        List<Map.Entry<ReadKey, Long>> drained = new ArrayList<>(pending.size());
+        for (Map.Entry<ReadKey, Long> entry : pending.entrySet()) {
+            ReadKey key = entry.getKey();
+            Long value = entry.getValue();
+            if (pending.remove(key, value)) {
+                drained.add(Map.entry(key, value));
+            }
+        }
+        return drained;
+    }
+
+    private record ReadKey(Long chatroomId, Long userId) {
+    }
+}
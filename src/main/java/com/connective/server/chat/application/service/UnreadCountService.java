@@ -0,0 +1,17 @@
+package com.connective.server.chat.application.service;
+
+import java.util.Map;
+
+public interface UnreadCountService {
+
+    /**
+     * 사용자가 참여한 모든 채팅방의 안 읽은 메시지 수를 한 번에 조회합니다.
+     * 안 읽은 메시지가 없는 채팅방은 결과에 포함되지 않습니다.
+     */
+    Map<Long, Long> getUnreadCounts(Long userId);
+
+    /**
+     * 사용자가 채팅방의 lastReadMessageId까지 읽었음을 반영해 안 읽은 메시지 수를 다시 계산합니다.
+     */
+    void markRead(Long chatroomId, Long userId, Long lastReadMessageId);
+}
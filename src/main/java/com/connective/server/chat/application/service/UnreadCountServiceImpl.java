@@ -0,0 +1,296 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.event.ChatRoomMembershipChangedEvent;
+import com.connective.server.chat.domain.event.MessagesPersistedEvent;
+import com.connective.server.chat.domain.repository.MessageStore;
+import com.connective.server.chat.infrastructure.cache.ChatRoomMembershipCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방별 안 읽은 메시지 수를 Redis 해시(chat:unread:{userId}, field=채팅방 ID)로 관리한다.
+ * 메시지 배치가 커밋될 때마다 방 멤버들의 카운터를 파이프라인 HINCRBY로 증가시키고,
+ * 사용자의 전체 채팅방 카운트는 HGETALL 한 번으로 조회한다.
+ * 카운터 갱신은 저장된 메시지를 큐에 넣고 전용 스레드가 모아서 처리하므로, Redis 지연이나 장애가
+ * 배치 저장 스레드와 이후 리스너(요약/검색 색인)를 막지 않는다. 큐가 가득 차거나 갱신에 실패한 메시지는
+ * 건수만 기록하고, 해당 카운터는 다음 읽음 처리에서 보정된다.
+ * 같은 해시의 {채팅방 ID}:read 필드에는 카운터에 이미 반영된(읽었거나 다시 센) 마지막 메시지 ID를 두고,
+ * 큐에 남아 있다가 늦게 반영되는 메시지 중 그 이하인 것은 건너뛴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCountServiceImpl implements UnreadCountService {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final String READ_FIELD_SUFFIX = ":read";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final MessageStore messageStore;
+
+    // 읽음 처리 시 다시 셀 최대 메시지 수 (그 이상은 상한값으로 표시)
+    @Value("${chat.unread.max-count:999}")
+    private int maxCount;
+
+    @Value("${chat.unread.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.unread.flush-interval-ms:100}")
+    private long flushIntervalMillis;
+
+    @Value("${chat.unread.queue-capacity:50000}")
+    private int queueCapacity;
+
+    private BlockingQueue<Message> queue;
+    private Thread updater;
+    private volatile boolean running;
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.updater = new Thread(this::runUpdateLoop, "unread-count-updater");
+        this.updater.setDaemon(true);
+        this.updater.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        updater.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("Unread count updater stopped. Remaining queued messages: {}", queue.size());
+    }
+
+    @Override
+    public Map<Long, Long> getUnreadCounts(Long userId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        Map<String, String> entries = hashOps.entries(keyOf(userId));
+
+        Map<Long, Long> counts = new HashMap<>(entries.size());
+        entries.forEach((roomId, count) -> {
+            if (roomId.endsWith(READ_FIELD_SUFFIX)) {
+                return;
+            }
+            long value = Long.parseLong(count);
+            if (value > 0) {
+                counts.put(Long.valueOf(roomId), Math.min(value, maxCount));
+            }
+        });
+        return counts;
+    }
+
+    @Override
+    public void markRead(Long chatroomId, Long userId, Long lastReadMessageId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        if (lastReadMessageId == null) {
+            hashOps.delete(keyOf(userId), String.valueOf(chatroomId));
+            return;
+        }
+
+        // 최근 메시지는 대부분 캐시/버킷 한두 개에서 조회되므로 상한까지만 다시 센다
+        List<Message> unreadMessages = messageStore.findAfter(chatroomId, lastReadMessageId, maxCount);
+        long unread = unreadMessages.stream()
+            .filter(message -> !message.getUserId().equals(userId))
+            .count();
+        // 다시 센 메시지까지 반영된 것으로 기록해, 아직 큐에 있는 같은 메시지가 다시 더해지지 않게 한다
+        long countedUpTo = unreadMessages.stream()
+            .mapToLong(Message::getMessageId)
+            .reduce(lastReadMessageId, Math::max);
+
+        // 다시 세는 사이 도착한 메시지의 증가분은 덮어써질 수 있으나 다음 읽음 처리에서 보정된다
+        hashOps.putAll(keyOf(userId), Map.of(
+            String.valueOf(chatroomId), String.valueOf(unread),
+            readFieldOf(chatroomId), String.valueOf(countedUpTo)));
+    }
+
+    @EventListener
+    public void onMessagesPersisted(MessagesPersistedEvent event) {
+        for (Message message : event.getMessages()) {
+            if (!running || !queue.offer(message)) {
+                droppedCount.increment();
+            }
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    private void runUpdateLoop() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                applyUnreadCounts(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failedCount.add(batch.size());
+                log.warn("Failed to update unread counts for {} messages: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void applyUnreadCounts(List<Message> messages) {
+        Map<Long, List<Message>> byRoom = messages.stream()
+            .collect(Collectors.groupingBy(Message::getChatroomId));
+
+        Map<Long, List<Long>> membersByRoom = new HashMap<>();
+        byRoom.keySet().forEach(chatroomId ->
+            membersByRoom.put(chatroomId, List.copyOf(chatRoomMembershipCache.getMemberIds(chatroomId))));
+        Map<Long, Map<Long, Long>> readUpToByRoom = loadReadUpTo(membersByRoom);
+
+        List<UnreadDelta> deltas = new ArrayList<>();
+        byRoom.forEach((chatroomId, roomMessages) -> deltas.addAll(computeDeltas(
+            chatroomId, roomMessages, Set.copyOf(membersByRoom.get(chatroomId)), readUpToByRoom.get(chatroomId))));
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 배치 전체의 카운터 변경을 한 번의 왕복으로 전송
+        // (반영 기준을 조회한 뒤 이 왕복 사이에 읽음 처리가 끼어든 경우에만 중복될 수 있다)
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach(delta -> apply(connection, delta));
+            return null;
+        });
+        log.debug("Applied {} unread count updates for {} rooms", deltas.size(), byRoom.size());
+    }
+
+    // 채팅방을 나간 사용자의 카운터는 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        if (event.getChangeType() == ChatRoomMembershipChangedEvent.ChangeType.LEFT) {
+            redisTemplate.opsForHash().delete(keyOf(event.getUserId()),
+                String.valueOf(event.getChatroomId()), readFieldOf(event.getChatroomId()));
+        }
+    }
+
+    // 배치에 포함된 (채팅방, 멤버)의 반영 기준 메시지 ID를 한 번의 왕복으로 조회
+    private Map<Long, Map<Long, Long>> loadReadUpTo(Map<Long, List<Long>> membersByRoom) {
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            membersByRoom.forEach((chatroomId, memberIds) -> memberIds.forEach(memberId ->
+                connection.hashCommands().hGet(keyOf(memberId).getBytes(StandardCharsets.UTF_8),
+                    readFieldOf(chatroomId).getBytes(StandardCharsets.UTF_8))));
+            return null;
+        });
+
+        Map<Long, Map<Long, Long>> readUpToByRoom = new HashMap<>(membersByRoom.size());
+        int index = 0;
+        for (Map.Entry<Long, List<Long>> entry : membersByRoom.entrySet()) {
+            Map<Long, Long> readUpTo = new HashMap<>();
+            for (Long memberId : entry.getValue()) {
+                Object value = values.get(index++);
+                if (value != null) {
+                    readUpTo.put(memberId, Long.valueOf(value.toString()));
+                }
+            }
+            readUpToByRoom.put(entry.getKey(), readUpTo);
+        }
+        return readUpToByRoom;
+    }
+
+    /**
+     * 한 채팅방에 저장된 메시지 배치로부터 멤버별 카운터 변경을 계산합니다.
+     * 멤버의 반영 기준 메시지 ID 이하인 메시지는 읽음 처리 때 이미 다시 셌으므로 건너뜁니다.
+     * 배치 안에서 메시지를 보낸 멤버는 그 시점까지 읽은 것으로 보고, 이후 다른 멤버의 메시지 수로 카운터를 재설정합니다.
+     *
+     * @param readUpTo 멤버별 반영 기준 메시지 ID (기록이 없는 멤버는 포함하지 않음)
+     */
+    static List<UnreadDelta> computeDeltas(Long chatroomId, List<Message> roomMessages, Set<Long> memberIds,
+                                           Map<Long, Long> readUpTo) {
+        Map<Long, Long> lastSentBySender = new HashMap<>();
+        for (Message message : roomMessages) {
+            lastSentBySender.merge(message.getUserId(), message.getMessageId(), Math::max);
+        }
+
+        List<UnreadDelta> deltas = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            long counted = readUpTo.getOrDefault(memberId, 0L);
+            Long lastSent = lastSentBySender.get(memberId);
+            boolean reset = lastSent != null && lastSent > counted;
+            long after = reset ? lastSent : counted;
+            long unread = roomMessages.stream()
+                .filter(message -> !Objects.equals(message.getUserId(), memberId))
+                .filter(message -> message.getMessageId() > after)
+                .count();
+            if (reset || unread > 0) {
+                deltas.add(new UnreadDelta(memberId, chatroomId, unread, reset ? lastSent : null));
+            }
+        }
+        return deltas;
+    }
+
+    private void apply(RedisConnection connection, UnreadDelta delta) {
+        byte[] key = keyOf(delta.userId()).getBytes(StandardCharsets.UTF_8);
+        byte[] field = String.valueOf(delta.chatroomId()).getBytes(StandardCharsets.UTF_8);
+        if (!delta.reset()) {
+            connection.hashCommands().hIncrBy(key, field, delta.count());
+            return;
+        }
+        connection.hashCommands().hMSet(key, Map.of(
+            field, String.valueOf(delta.count()).getBytes(StandardCharsets.UTF_8),
+            readFieldOf(delta.chatroomId()).getBytes(StandardCharsets.UTF_8),
+            String.valueOf(delta.readUpTo()).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String readFieldOf(Long chatroomId) {
+        return chatroomId + READ_FIELD_SUFFIX;
+    }
+
+    /**
+     * @param readUpTo 재설정 시 함께 기록할 반영 기준 메시지 ID (증가만 하는 경우 null)
+     */
+    record UnreadDelta(Long userId, Long chatroomId, long count, Long readUpTo) {
+
+        boolean reset() {
+            return readUpTo != null;
+        }
+    }
+}
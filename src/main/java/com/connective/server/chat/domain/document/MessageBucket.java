@@ -0,0 +1,67 @@
+package com.connective.server.chat.domain.document;
+
+import com.connective.server.chat.domain.entity.Message;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방 메시지 버킷. 방마다 최대 bucket-size건의 메시지를 messageId 오름차순 배열로 묶어 저장한다.
+ * 한 페이지 조회가 대부분 버킷 문서 하나(많아야 두 개) 읽기로 끝난다.
+ */
+@Document(collection = "message_buckets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageBucket {
+
+    @Id
+    private String id;
+
+    private Long roomId;
+
+    private int count;
+
+    private Long firstMessageId;
+
+    private Long lastMessageId;
+
+    private List<BucketedMessage> messages = new ArrayList<>();
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class BucketedMessage {
+
+        private Long messageId;
+        private Long userId;
+        private Message.MessageType messageType;
+        private String content;
+        private LocalDateTime sentAt;
+
+        public static BucketedMessage from(Message message) {
+            BucketedMessage bucketed = new BucketedMessage();
+            bucketed.messageId = message.getMessageId();
+            bucketed.userId = message.getUserId();
+            bucketed.messageType = message.getMessageType();
+            bucketed.content = message.getMessageContent();
+            bucketed.sentAt = message.getMessageSendAt();
+            return bucketed;
+        }
+
+        public Message toMessage(Long roomId) {
+            return Message.builder()
+                .messageId(messageId)
+                .chatroomId(roomId)
+                .userId(userId)
+                .messageType(messageType)
+                .messageContent(content)
+                .messageSendAt(sentAt)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatErrorResponse {
+
+    private ErrorCode code;
+    private String destination; // 거절된 프레임의 destination
+    private String receiptId;   // 클라이언트가 receipt 헤더를 보낸 경우 해당 값
+    private String message;
+    private LocalDateTime timestamp;
+
+    public enum ErrorCode {
+        RATE_LIMITED_USER,  // 사용자별 전송 한도 초과
+        RATE_LIMITED_ROOM   // 채팅방별 전송 한도 초과
+    }
+}
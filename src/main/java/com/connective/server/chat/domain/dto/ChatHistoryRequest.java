@@ -0,0 +1,15 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryRequest {
+
+    private Long before; // 이 메시지 ID 이전(과거) 메시지 조회
+    private Long after;  // 이 메시지 ID 이후(최신) 메시지 조회
+    private Integer size;
+}
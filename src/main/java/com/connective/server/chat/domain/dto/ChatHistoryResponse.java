@@ -0,0 +1,20 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+
+    private String roomId;
+    private List<ChatMessageResponse> messages;
+    private Long nextCursor; // 다음 요청에 before/after로 그대로 전달
+    private boolean hasNext;
+}
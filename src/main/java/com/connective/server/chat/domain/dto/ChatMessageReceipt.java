@@ -0,0 +1,26 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageReceipt {
+
+    private String clientMessageId;
+    private String roomId;
+    private Long messageId;
+    private ReceiptStatus status;
+    private LocalDateTime timestamp;
+
+    public enum ReceiptStatus {
+        PERSISTED,  // DB 저장 완료
+        FAILED      // 저장 실패 (큐 포화 또는 DB 오류)
+    }
+}
@@ -12,4 +12,5 @@ public class ChatMessageRequest {
     
     private String content;
     private Message.MessageType messageType;
+    private String clientMessageId; // 클라이언트가 저장 완료 receipt와 매칭하기 위한 식별자
 }
\ No newline at end of file
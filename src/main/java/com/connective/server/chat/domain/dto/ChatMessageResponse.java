@@ -1,6 +1,7 @@
 package com.connective.server.chat.domain.dto;
 
 import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.user.domain.enums.ProfileCharacterType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,9 +15,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ChatMessageResponse {
     
+    private Long messageId;
     private String roomId;
+    private String clientMessageId;
     private Long senderId;
     private String senderNickname;
+    private ProfileCharacterType senderProfileCharacterType;
     private String content;
     private Message.MessageType messageType;
     private LocalDateTime timestamp;
@@ -0,0 +1,13 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadRequest {
+
+    private Long lastReadMessageId; // 이 메시지 ID까지 읽음
+}
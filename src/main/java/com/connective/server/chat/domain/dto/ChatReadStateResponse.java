@@ -0,0 +1,18 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadStateResponse {
+
+    private String roomId;
+    private Map<Long, Long> lastReadMessageIds; // 사용자 ID -> 마지막으로 읽은 메시지 ID
+}
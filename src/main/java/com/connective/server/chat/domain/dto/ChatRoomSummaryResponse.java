@@ -0,0 +1,30 @@
+package com.connective.server.chat.domain.dto;
+
+import com.connective.server.chat.domain.entity.ChatRoom;
+import com.connective.server.chat.domain.entity.Message;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomSummaryResponse {
+
+    private Long roomId;
+    private ChatRoom.ChatRoomType roomType;
+    private String roomName;
+    private Long lastMessageId;
+    private Message.MessageType lastMessageType;
+    private String lastMessageSnippet;
+    private Long lastSenderId;
+    private String lastSenderNickname;
+    private LocalDateTime lastMessageAt;
+    private long memberCount;
+    private long unreadCount;
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,23 @@
+package com.connective.server.chat.domain.dto;
+
+import com.connective.server.chat.domain.entity.ChatRoom;
+import com.connective.server.chat.domain.entity.Message;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 조회 쿼리 결과 (ChatRoom + ChatRoomSummary)
+ */
+public record ChatRoomSummaryRow(
+    Long chatroomId,
+    ChatRoom.ChatRoomType chatroomType,
+    String chatroomName,
+    Long lastMessageId,
+    Message.MessageType lastMessageType,
+    String lastMessageSnippet,
+    Long lastSenderId,
+    LocalDateTime lastMessageAt,
+    Long memberCount,
+    LocalDateTime lastActivityAt
+) {
+}
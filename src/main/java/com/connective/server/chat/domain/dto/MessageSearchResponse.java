@@ -0,0 +1,33 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageSearchResponse {
+
+    private String roomId;
+    private List<Hit> results; // 최신순
+    private Long nextCursor;   // 다음 요청에 cursor로 그대로 전달
+    private boolean hasNext;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hit {
+
+        private Long messageId;
+        private Long senderId;
+        private String snippet; // 검색어 주변 본문
+        private LocalDateTime timestamp;
+    }
+}
@@ -0,0 +1,19 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceDiffResponse {
+
+    private String roomId;
+    private List<Long> online;  // 이번 주기에 접속한 멤버
+    private List<Long> offline; // 이번 주기에 접속을 끊은 멤버
+}
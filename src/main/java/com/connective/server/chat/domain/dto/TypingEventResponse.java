@@ -0,0 +1,18 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingEventResponse {
+
+    private String roomId;
+    private Long userId;
+    private boolean typing;
+    private long expiresInMs; // 이 시간 안에 갱신이 없으면 클라이언트도 입력 중 표시를 지움
+}
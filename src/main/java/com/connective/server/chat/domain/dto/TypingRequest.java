@@ -0,0 +1,13 @@
+package com.connective.server.chat.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingRequest {
+
+    private boolean typing; // true: 입력 중, false: 입력 중단
+}
@@ -12,7 +12,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ChatRoom")
+@Table(name = "ChatRoom", uniqueConstraints = {
+    // 1:1 채팅방은 (작은 사용자 ID, 큰 사용자 ID) 쌍당 하나만 존재 (그룹 채팅방은 NULL)
+    @UniqueConstraint(name = "uk_chat_room_pair", columnNames = {"pair_low_user_id", "pair_high_user_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -34,6 +37,12 @@ public class ChatRoom {
     @Column(name = "chatroom_status", nullable = false)
     private ChatRoomStatus chatroomStatus;
 
+    @Column(name = "pair_low_user_id")
+    private Long pairLowUserId;
+
+    @Column(name = "pair_high_user_id")
+    private Long pairHighUserId;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -68,4 +77,15 @@ public class ChatRoom {
     public void updateName(String name) {
         this.chatroomName = name;
     }
+
+    /**
+     * 1:1 채팅방의 사용자 쌍을 정규화된 순서(작은 ID, 큰 ID)로 지정합니다.
+     */
+    public void assignPair(Long userId1, Long userId2) {
+        if (chatroomType != ChatRoomType.ONE_TO_ONE) {
+            throw new IllegalArgumentException("Only one-to-one chat rooms have a user pair");
+        }
+        this.pairLowUserId = Math.min(userId1, userId2);
+        this.pairHighUserId = Math.max(userId1, userId2);
+    }
 }
\ No newline at end of file
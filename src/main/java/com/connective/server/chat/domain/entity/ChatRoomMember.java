@@ -7,7 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "ChatRoomMember")
+@Table(name = "ChatRoomMember", indexes = {
+    // 사용자별 채팅방 목록 조회
+    @Index(name = "idx_chat_room_member_user", columnList = "user_id, chatroom_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatRoomMember {
@@ -0,0 +1,77 @@
+package com.connective.server.chat.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 조회용 요약(읽기 모델).
+ * 마지막 메시지 정보는 메시지 배치 저장 후, 멤버 수는 멤버 변경 시 갱신된다.
+ */
+@Entity
+@Table(name = "ChatRoomSummary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatRoomSummary {
+
+    public static final int SNIPPET_MAX_LENGTH = 100;
+
+    @Id
+    @Column(name = "chatroom_id")
+    private Long chatroomId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_message_type")
+    private Message.MessageType lastMessageType;
+
+    @Column(name = "last_message_snippet", length = SNIPPET_MAX_LENGTH)
+    private String lastMessageSnippet;
+
+    @Column(name = "last_sender_id")
+    private Long lastSenderId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "member_count", nullable = false)
+    private long memberCount;
+
+    // 마지막 메시지가 없으면 채팅방 생성 시각
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    @Builder
+    public ChatRoomSummary(Long chatroomId, long memberCount, LocalDateTime lastActivityAt) {
+        this.chatroomId = chatroomId;
+        this.memberCount = memberCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    // 비즈니스 메소드
+    public void updateLastMessage(Message message) {
+        if (lastMessageId != null && lastMessageId >= message.getMessageId()) {
+            return;
+        }
+        this.lastMessageId = message.getMessageId();
+        this.lastMessageType = message.getMessageType();
+        this.lastMessageSnippet = snippetOf(message.getMessageContent());
+        this.lastSenderId = message.getUserId();
+        this.lastMessageAt = message.getMessageSendAt();
+        this.lastActivityAt = message.getMessageSendAt();
+    }
+
+    public static String snippetOf(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= SNIPPET_MAX_LENGTH) {
+            return content;
+        }
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 코드 포인트 단위로 자름
+        return content.substring(0, content.offsetByCodePoints(0, SNIPPET_MAX_LENGTH));
+    }
+}
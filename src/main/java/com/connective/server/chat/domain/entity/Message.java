@@ -1,5 +1,6 @@
 package com.connective.server.chat.domain.entity;
 
+import com.connective.server.chat.infrastructure.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 public class Message {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "message_id")
     private Long messageId;
 
@@ -40,11 +41,15 @@ public class Message {
     private LocalDateTime messageSendAt;
 
     @Builder
-    public Message(Long chatroomId, Long userId, MessageType messageType, String messageContent) {
+    public Message(Long messageId, Long chatroomId, Long userId, MessageType messageType, String messageContent,
+                   LocalDateTime messageSendAt) {
+        this.messageId = messageId;
         this.chatroomId = chatroomId;
         this.userId = userId;
         this.messageType = messageType;
         this.messageContent = messageContent;
+        // write-behind 경로(JDBC 배치)는 Auditing을 거치지 않으므로 발송 시각을 직접 지정한다
+        this.messageSendAt = messageSendAt;
     }
 
     public enum MessageType {
@@ -0,0 +1,20 @@
+package com.connective.server.chat.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 멤버가 추가되거나 나갔을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomMembershipChangedEvent {
+
+    private final Long chatroomId;
+    private final Long userId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        JOINED, LEFT
+    }
+}
@@ -0,0 +1,18 @@
+package com.connective.server.chat.domain.event;
+
+import com.connective.server.chat.domain.entity.Message;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * write-behind 배치가 저장소에 커밋된 후 저장된 메시지 목록과 함께 발행되는 이벤트.
+ * message-batch-writer 스레드에서 동기로 전달되므로 리스너는 배치 단위로 빠르게 처리해야 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MessagesPersistedEvent {
+
+    private final List<Message> messages;
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,9 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     // 특정 사용자의 채팅방 멤버십 조회
     List<ChatRoomMember> findByUserId(Long userId);
 
+    // 여러 사용자의 채팅방 멤버십 조회
+    List<ChatRoomMember> findByUserIdIn(Collection<Long> userIds);
+
     // 특정 채팅방의 특정 사용자 멤버십 조회
     Optional<ChatRoomMember> findByChatroomIdAndUserId(Long chatroomId, Long userId);
 
@@ -30,6 +34,9 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     // 특정 채팅방에서 사용자 존재 여부 확인
     boolean existsByChatroomIdAndUserId(Long chatroomId, Long userId);
 
+    // 특정 채팅방에서 사용자 멤버십 삭제 (채팅방 나가기)
+    long deleteByChatroomIdAndUserId(Long chatroomId, Long userId);
+
     // 특정 채팅방의 사용자 ID 목록 조회
     @Query("SELECT crm.userId FROM ChatRoomMember crm WHERE crm.chatroomId = :chatroomId")
     List<Long> findUserIdsByChatroomId(@Param("chatroomId") Long chatroomId);
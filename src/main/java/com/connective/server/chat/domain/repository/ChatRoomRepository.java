@@ -19,18 +19,8 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
            "ORDER BY cr.updatedAt DESC")
     List<ChatRoom> findChatRoomsByUserId(@Param("userId") Long userId);
 
-    // 1:1 채팅방 존재 여부 확인
-    @Query("SELECT cr FROM ChatRoom cr " +
-           "WHERE cr.chatroomType = 'ONE_TO_ONE' " +
-           "AND cr.chatroomId IN (" +
-           "    SELECT crm1.chatroomId FROM ChatRoomMember crm1 " +
-           "    WHERE crm1.userId = :userId1 " +
-           "    AND crm1.chatroomId IN (" +
-           "        SELECT crm2.chatroomId FROM ChatRoomMember crm2 " +
-           "        WHERE crm2.userId = :userId2" +
-           "    )" +
-           ")")
-    Optional<ChatRoom> findOneToOneChatRoom(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
+    // 정규화된 사용자 쌍으로 1:1 채팅방 조회 (uk_chat_room_pair 인덱스 한 번 조회)
+    Optional<ChatRoom> findByPairLowUserIdAndPairHighUserId(Long pairLowUserId, Long pairHighUserId);
 
     // 채팅방 상태별 조회
     List<ChatRoom> findByChatroomStatusOrderByUpdatedAtDesc(ChatRoom.ChatRoomStatus status);
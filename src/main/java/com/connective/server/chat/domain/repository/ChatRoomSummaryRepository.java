@@ -0,0 +1,32 @@
+package com.connective.server.chat.domain.repository;
+
+import com.connective.server.chat.domain.dto.ChatRoomSummaryRow;
+import com.connective.server.chat.domain.entity.ChatRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
+
+    // 사용자가 참여한 채팅방 목록과 요약을 한 번에 조회 (요약이 없는 기존 채팅방은 채팅방 갱신 시각 기준)
+    @Query("SELECT new com.connective.server.chat.domain.dto.ChatRoomSummaryRow(" +
+           "    cr.chatroomId, cr.chatroomType, cr.chatroomName, " +
+           "    s.lastMessageId, s.lastMessageType, s.lastMessageSnippet, s.lastSenderId, s.lastMessageAt, " +
+           "    s.memberCount, COALESCE(s.lastActivityAt, cr.updatedAt)) " +
+           "FROM ChatRoomMember crm " +
+           "JOIN ChatRoom cr ON cr.chatroomId = crm.chatroomId " +
+           "LEFT JOIN ChatRoomSummary s ON s.chatroomId = crm.chatroomId " +
+           "WHERE crm.userId = :userId AND cr.chatroomStatus = 'ACTIVE' " +
+           "ORDER BY COALESCE(s.lastActivityAt, cr.updatedAt) DESC")
+    List<ChatRoomSummaryRow> findSummariesByUserId(@Param("userId") Long userId);
+
+    // 동시에 입장/퇴장해도 누락되지 않도록 원자적으로 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoomSummary s SET s.memberCount = s.memberCount + :delta WHERE s.chatroomId = :chatroomId")
+    int adjustMemberCount(@Param("chatroomId") Long chatroomId, @Param("delta") long delta);
+}
@@ -1,20 +1,34 @@
 package com.connective.server.chat.domain.repository;
 
 import com.connective.server.chat.domain.entity.Message;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    // 특정 채팅방의 메시지 조회 (페이징)
-    Page<Message> findByChatroomIdOrderByMessageSendAtDesc(Long chatroomId, Pageable pageable);
+    // 특정 채팅방의 메시지 조회 (페이징, COUNT 쿼리 없음)
+    Slice<Message> findByChatroomIdOrderByMessageSendAtDesc(Long chatroomId, Pageable pageable);
+
+    // 특정 채팅방의 최신 메시지 조회 (커서 없음)
+    List<Message> findByChatroomIdOrderByMessageIdDesc(Long chatroomId, Limit limit);
+
+    // 특정 채팅방에서 커서 이전 메시지 조회 (seek, 최신순)
+    List<Message> findByChatroomIdAndMessageIdLessThanOrderByMessageIdDesc(Long chatroomId, Long messageId, Limit limit);
+
+    // 특정 채팅방에서 커서 이후 메시지 조회 (seek, 오래된 순)
+    List<Message> findByChatroomIdAndMessageIdGreaterThanOrderByMessageIdAsc(Long chatroomId, Long messageId, Limit limit);
+
+    // 특정 채팅방에서 ID 목록의 메시지 조회 (검색 결과 본문 확인)
+    List<Message> findByChatroomIdAndMessageIdInOrderByMessageIdDesc(Long chatroomId, Collection<Long> messageIds);
 
     // 특정 채팅방의 최근 메시지 조회
     @Query("SELECT m FROM Message m WHERE m.chatroomId = :chatroomId ORDER BY m.messageSendAt DESC LIMIT 1")
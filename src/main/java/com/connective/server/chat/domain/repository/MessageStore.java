@@ -0,0 +1,30 @@
+package com.connective.server.chat.domain.repository;
+
+import com.connective.server.chat.domain.entity.Message;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 채팅 메시지 저장소.
+ * chat.message-store.type 설정에 따라 MySQL(JPA/JDBC) 또는 MongoDB 버킷 구현을 사용한다.
+ * 조회 결과는 messageId 기준으로 정렬되며 latest/before는 최신순, after는 오래된 순이다.
+ */
+public interface MessageStore {
+
+    /**
+     * 메시지를 한 번에 저장합니다. 메시지에는 ID와 발송 시각이 할당되어 있어야 합니다.
+     */
+    void saveAll(List<Message> messages);
+
+    List<Message> findLatest(Long chatroomId, int limit);
+
+    List<Message> findBefore(Long chatroomId, Long cursor, int limit);
+
+    List<Message> findAfter(Long chatroomId, Long cursor, int limit);
+
+    /**
+     * 채팅방의 주어진 ID 메시지들을 최신순으로 조회합니다. 없는 ID는 결과에서 빠집니다.
+     */
+    List<Message> findByIds(Long chatroomId, Collection<Long> messageIds);
+}
@@ -0,0 +1,41 @@
+package com.connective.server.chat.global.config;
+
+import com.connective.server.chat.infrastructure.broker.InMemoryPubSubTransport;
+import com.connective.server.chat.infrastructure.broker.PubSubTransport;
+import com.connective.server.chat.infrastructure.broker.RedisPubSubTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 노드 간 채팅방 팬아웃 전송 계층 설정.
+ * chat.broker.mode=redis 이면 Redis pub/sub, 그 외(기본값 local)에는 단일 노드용 인메모리 전송을 사용한다.
+ */
+@Configuration
+public class ChatBrokerConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+    public RedisMessageListenerContainer chatRedisMessageListenerContainer(
+        RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+    public PubSubTransport redisPubSubTransport(RedisTemplate<String, Object> redisTemplate,
+        RedisMessageListenerContainer chatRedisMessageListenerContainer) {
+        return new RedisPubSubTransport(redisTemplate, chatRedisMessageListenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "local", matchIfMissing = true)
+    public PubSubTransport inMemoryPubSubTransport() {
+        return new InMemoryPubSubTransport();
+    }
+}
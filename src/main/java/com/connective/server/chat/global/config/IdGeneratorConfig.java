@@ -0,0 +1,45 @@
+package com.connective.server.chat.global.config;
+
+import com.connective.server.chat.infrastructure.id.IdGenerator;
+import com.connective.server.chat.infrastructure.id.SnowflakeIdGenerator;
+import com.connective.server.chat.infrastructure.id.TimeOrderedIdentifierGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    // 노드마다 고유해야 함 (0 ~ 1023). 음수면 호스트명으로부터 유도
+    @Value("${chat.id.node-id:-1}")
+    private long nodeId;
+
+    @Bean
+    public IdGenerator idGenerator() {
+        long resolvedNodeId = nodeId >= 0 ? nodeId : deriveNodeIdFromHostName();
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(resolvedNodeId);
+
+        // Hibernate가 생성하는 식별자 생성기에서도 같은 인스턴스를 사용하도록 등록
+        TimeOrderedIdentifierGenerator.register(idGenerator);
+        log.info("Snowflake ID generator initialized with node ID {}", resolvedNodeId);
+        return idGenerator;
+    }
+
+    private long deriveNodeIdFromHostName() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            long derived = (hostName.hashCode() & 0x7fffffff) % (SnowflakeIdGenerator.MAX_NODE_ID + 1);
+            log.warn("chat.id.node-id is not set. Derived node ID {} from host name '{}'. "
+                + "Configure a unique node ID per instance to rule out collisions.", derived, hostName);
+            return derived;
+        } catch (UnknownHostException e) {
+            log.warn("chat.id.node-id is not set and host name is unavailable. Falling back to node ID 0.");
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.connective.server.chat.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 애플리케이션 @Scheduled 작업 전용 스케줄러.
+ * 별도로 지정하지 않으면 STOMP heartbeat를 보내는 messageBrokerTaskScheduler에서 실행되어,
+ * 오래 걸리는 작업(콜드 저장소 이동 등)이 heartbeat를 지연시켜 세션이 끊길 수 있다.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    // 오래 걸리는 작업이 하나를 점유해도 나머지 주기 작업이 밀리지 않도록 여러 스레드를 둔다
+    @Value("${chat.scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("app-scheduling-");
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(taskScheduler());
+    }
+}
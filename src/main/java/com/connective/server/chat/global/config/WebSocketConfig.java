@@ -1,30 +1,108 @@
 package com.connective.server.chat.global.config;
 
+import com.connective.server.chat.infrastructure.ratelimit.InboundRateLimiter;
 import com.connective.server.chat.infrastructure.security.WebSocketAuthInterceptor;
+import com.connective.server.chat.infrastructure.websocket.ChannelThreadMode;
+import com.connective.server.chat.infrastructure.websocket.SlowConsumerGuard;
+import com.connective.server.chat.infrastructure.websocket.VirtualThreadChannelExecutor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
+@Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final InboundRateLimiter inboundRateLimiter;
+
+    // 세션별 전송 한도 (초과 시 Spring이 세션을 종료)
+    @Value("${chat.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${chat.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${chat.websocket.transport.time-to-first-message-ms:60000}")
+    private int timeToFirstMessageMillis;
+
+    // STOMP heartbeat 주기. 응답이 끊긴 클라이언트의 세션을 닫아 접속 상태(presence)에 반영되도록 함
+    @Value("${chat.websocket.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // 클라이언트 → 서버 메시지 처리 스레드
+    @Value("${chat.websocket.inbound.thread-mode:PLATFORM}")
+    private ChannelThreadMode inboundThreadMode;
+
+    @Value("${chat.websocket.inbound.core-pool-size:16}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:64}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    // VIRTUAL 모드의 동시 처리 상한. 메시지 처리 중 JPA 조회가 있으므로 DB 커넥션 풀 크기에 맞춘다
+    @Value("${chat.websocket.inbound.virtual-concurrency-limit:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int inboundVirtualConcurrencyLimit;
+
+    // 서버 → 클라이언트 프레임 전송 스레드
+    @Value("${chat.websocket.outbound.thread-mode:PLATFORM}")
+    private ChannelThreadMode outboundThreadMode;
+
+    @Value("${chat.websocket.outbound.core-pool-size:16}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:64}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 프레임 전송은 DB를 쓰지 않으므로 기본값은 제한 없음(0)
+    @Value("${chat.websocket.outbound.virtual-concurrency-limit:0}")
+    private int outboundVirtualConcurrencyLimit;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 메시지 브로커 활성화 (클라이언트가 구독할 prefix)
-        config.enableSimpleBroker("/topic", "/queue");
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         
         // 클라이언트에서 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    // 브로커 설정 시점에 생성되는 스케줄러이므로 순환 참조를 피하기 위해 지연 주입
+    // (@Scheduled 작업용 taskScheduler와 구분하기 위해 이름으로 지정)
+    @Autowired
+    public void setMessageBrokerTaskScheduler(
+            @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // WebSocket 연결을 위한 엔드포인트 등록
@@ -33,9 +111,54 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS(); // SockJS fallback 지원
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .setTimeToFirstMessage(timeToFirstMessageMillis)
+                .addDecoratorFactory(slowConsumerGuard::decorate); // 세션별 전송 적체 추적
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // WebSocket 인증 인터셉터 등록
-        registration.interceptors(webSocketAuthInterceptor);
+        if (inboundThreadMode == ChannelThreadMode.VIRTUAL) {
+            registration.executor(virtualChannelExecutor("inbound", inboundVirtualConcurrencyLimit));
+        } else {
+            registration.taskExecutor(platformChannelExecutor("inbound"))
+                    .corePoolSize(inboundCorePoolSize)
+                    .maxPoolSize(inboundMaxPoolSize)
+                    .queueCapacity(inboundQueueCapacity);
+        }
+
+        // WebSocket 인증 인터셉터 등록 (인증된 사용자 기준으로 전송 속도 제한)
+        registration.interceptors(webSocketAuthInterceptor, inboundRateLimiter);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (outboundThreadMode == ChannelThreadMode.VIRTUAL) {
+            registration.executor(virtualChannelExecutor("outbound", outboundVirtualConcurrencyLimit));
+        } else {
+            registration.taskExecutor(platformChannelExecutor("outbound"))
+                    .corePoolSize(outboundCorePoolSize)
+                    .maxPoolSize(outboundMaxPoolSize)
+                    .queueCapacity(outboundQueueCapacity);
+        }
+
+        // 느린 구독자로 향하는 메시지는 정책에 따라 버리거나 합치거나 세션을 끊는다
+        registration.interceptors(slowConsumerGuard);
+    }
+
+    private ThreadPoolTaskExecutor platformChannelExecutor(String channel) {
+        log.info("Client {} channel runs on a platform thread pool", channel);
+        return new ThreadPoolTaskExecutor();
+    }
+
+    // 가상 스레드는 풀에 두지 않고 작업마다 만들며, 동시 처리량은 세마포어로만 제한한다
+    private VirtualThreadChannelExecutor virtualChannelExecutor(String channel, int concurrencyLimit) {
+        log.info("Client {} channel runs on virtual threads (concurrency limit: {})", channel,
+                concurrencyLimit > 0 ? concurrencyLimit : "none");
+        return new VirtualThreadChannelExecutor("client-" + channel + "-", concurrencyLimit);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,183 @@
+package com.connective.server.chat.infrastructure.archive;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * hot 테이블(message)에서 내려간 메시지를 채팅방별 세그먼트 파일로 보관하는 콜드 저장소.
+ * 세그먼트는 {directory}/{chatroomId}/{firstMessageId}-{lastMessageId}.seg 로 저장되며 한 번 쓰면 바뀌지 않는다.
+ * 채팅방의 세그먼트 목록은 디렉터리에서 읽어 채팅방 수 상한과 유효 시간(segment-list-ttl)을 두고 캐시하고,
+ * 연 세그먼트(메모리 매핑)는 개수 상한을 두고 캐시한다.
+ * 아카이브가 로컬 디스크에 있으므로 여러 노드가 조회하려면 디렉터리를 공유 스토리지에 두어야 한다.
+ * 이 노드가 쓴 세그먼트는 목록에 바로 반영되고, 다른 노드가 쓴 세그먼트는 유효 시간이 지나 목록을 다시 읽을 때 반영된다.
+ */
+@Component
+@Slf4j
+public class ColdMessageStore {
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("^(\\d+)-(\\d+)\\.seg$");
+
+    private final Path directory;
+    private final int blockSize;
+    private final Cache<Long, List<SegmentRef>> segmentsByRoom;
+    private final Cache<Path, MessageSegment> openSegments;
+
+    public ColdMessageStore(@Value("${chat.archive.directory:./data/message-archive}") String directory,
+                            @Value("${chat.archive.block-size:128}") int blockSize,
+                            @Value("${chat.archive.max-open-segments:1000}") long maxOpenSegments,
+                            @Value("${chat.archive.max-cached-rooms:10000}") long maxCachedRooms,
+                            @Value("${chat.archive.segment-list-ttl:30s}") Duration segmentListTtl) {
+        this.directory = Path.of(directory);
+        this.blockSize = blockSize;
+        this.segmentsByRoom = Caffeine.newBuilder()
+            .maximumSize(maxCachedRooms)
+            .expireAfterWrite(segmentListTtl)
+            .build();
+        this.openSegments = Caffeine.newBuilder()
+            .maximumSize(maxOpenSegments)
+            .build();
+    }
+
+    /**
+     * messageId 오름차순 메시지를 새 세그먼트로 보관합니다. 이미 보관된 범위 이후의 메시지만 받습니다.
+     */
+    public void archive(Long chatroomId, List<Message> ascending) {
+        if (ascending.isEmpty()) {
+            return;
+        }
+        long firstId = ascending.get(0).getMessageId();
+        long lastId = ascending.get(ascending.size() - 1).getMessageId();
+        Long archivedUpTo = getArchivedUpTo(chatroomId);
+        if (archivedUpTo != null && firstId <= archivedUpTo) {
+            throw new IllegalArgumentException("Message " + firstId + " is already archived in room " + chatroomId);
+        }
+
+        Path path = directory.resolve(String.valueOf(chatroomId)).resolve(firstId + "-" + lastId + ".seg");
+        MessageSegment.write(path, ascending, blockSize);
+        segmentsByRoom.asMap().compute(chatroomId, (id, segments) -> {
+            List<SegmentRef> updated = new ArrayList<>(segments != null ? segments : loadSegments(id));
+            updated.add(new SegmentRef(firstId, lastId, path));
+            return List.copyOf(updated);
+        });
+        log.info("Archived {} messages of room {} into {}", ascending.size(), chatroomId, path);
+    }
+
+    /**
+     * 콜드 저장소에 보관된 마지막 메시지 ID. 보관된 메시지가 없으면 null.
+     */
+    public Long getArchivedUpTo(Long chatroomId) {
+        List<SegmentRef> segments = segmentsOf(chatroomId);
+        return segments.isEmpty() ? null : segments.get(segments.size() - 1).lastMessageId();
+    }
+
+    public boolean hasArchive(Long chatroomId) {
+        return !segmentsOf(chatroomId).isEmpty();
+    }
+
+    /**
+     * 커서 이전 메시지를 최신순으로 최대 limit건 조회합니다. (cursor가 null이면 가장 최신부터)
+     */
+    public List<Message> findBefore(Long chatroomId, Long cursor, int limit) {
+        List<SegmentRef> segments = segmentsOf(chatroomId);
+        List<Message> result = new ArrayList<>(Math.min(limit, 1024));
+        for (int i = segments.size() - 1; i >= 0 && result.size() < limit; i--) {
+            SegmentRef segment = segments.get(i);
+            if (cursor != null && segment.firstMessageId() >= cursor) {
+                continue;
+            }
+            result.addAll(open(chatroomId, segment).findBefore(cursor, limit - result.size()));
+        }
+        return result;
+    }
+
+    /**
+     * 커서 이후 메시지를 오래된 순으로 최대 limit건 조회합니다.
+     */
+    public List<Message> findAfter(Long chatroomId, Long cursor, int limit) {
+        List<Message> result = new ArrayList<>(Math.min(limit, 1024));
+        for (SegmentRef segment : segmentsOf(chatroomId)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (segment.lastMessageId() <= cursor) {
+                continue;
+            }
+            result.addAll(open(chatroomId, segment).findAfter(cursor, limit - result.size()));
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 ID의 보관 메시지를 최신순으로 조회합니다.
+     */
+    public List<Message> findByIds(Long chatroomId, Collection<Long> messageIds) {
+        List<Message> result = new ArrayList<>();
+        for (SegmentRef segment : segmentsOf(chatroomId)) {
+            boolean overlaps = messageIds.stream()
+                .anyMatch(id -> id >= segment.firstMessageId() && id <= segment.lastMessageId());
+            if (overlaps) {
+                result.addAll(open(chatroomId, segment).findByIds(messageIds));
+            }
+        }
+        result.sort(Comparator.comparing(Message::getMessageId).reversed());
+        return result;
+    }
+
+    public long getCachedRoomCount() {
+        return segmentsByRoom.estimatedSize();
+    }
+
+    public long getOpenSegmentCount() {
+        return openSegments.estimatedSize();
+    }
+
+    private MessageSegment open(Long chatroomId, SegmentRef segment) {
+        return openSegments.get(segment.path(), path -> MessageSegment.open(path, chatroomId));
+    }
+
+    private List<SegmentRef> segmentsOf(Long chatroomId) {
+        return segmentsByRoom.get(chatroomId, this::loadSegments);
+    }
+
+    // 작성 중이던 .tmp 파일은 이름 패턴이 맞지 않아 무시된다
+    private List<SegmentRef> loadSegments(Long chatroomId) {
+        Path roomDirectory = directory.resolve(String.valueOf(chatroomId));
+        if (!Files.isDirectory(roomDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(roomDirectory)) {
+            return files
+                .map(path -> {
+                    Matcher matcher = SEGMENT_FILE.matcher(path.getFileName().toString());
+                    return matcher.matches()
+                        ? new SegmentRef(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), path)
+                        : null;
+                })
+                .filter(segment -> segment != null)
+                .sorted(Comparator.comparingLong(SegmentRef::firstMessageId))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list message segments of room " + chatroomId, e);
+        }
+    }
+
+    private record SegmentRef(long firstMessageId, long lastMessageId, Path path) {
+    }
+}
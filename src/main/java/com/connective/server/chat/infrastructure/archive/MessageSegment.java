@@ -0,0 +1,283 @@
+package com.connective.server.chat.infrastructure.archive;
+
+import com.connective.server.chat.domain.entity.Message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 한 채팅방의 오래된 메시지를 담은 불변 세그먼트 파일.
+ * 메시지를 messageId 순으로 block-size개씩 묶어 Deflate로 압축하고, 파일 앞부분에 블록별
+ * (첫/마지막 messageId, 위치, 길이) 인덱스를 둔다. 읽을 때는 파일 전체를 메모리 매핑하고
+ * 인덱스로 필요한 블록만 찾아 압축을 푼다.
+ *
+ * <pre>
+ * [magic][version][messageCount][blockCount]
+ * blockCount x [firstMessageId][lastMessageId][offset][compressedLength][rawLength][messageCount]
+ * blockCount x [compressed block]
+ * </pre>
+ */
+public final class MessageSegment {
+
+    private static final int MAGIC = 0x434D5347; // "CMSG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int BLOCK_ENTRY_BYTES = 36;
+    private static final Message.MessageType[] MESSAGE_TYPES = Message.MessageType.values();
+
+    private final Path path;
+    private final Long chatroomId;
+    private final MappedByteBuffer buffer;
+    private final BlockEntry[] blocks;
+    private final int messageCount;
+
+    private MessageSegment(Path path, Long chatroomId, MappedByteBuffer buffer, BlockEntry[] blocks, int messageCount) {
+        this.path = path;
+        this.chatroomId = chatroomId;
+        this.buffer = buffer;
+        this.blocks = blocks;
+        this.messageCount = messageCount;
+    }
+
+    /**
+     * messageId 오름차순 메시지로 세그먼트 파일을 만듭니다. 임시 파일에 쓰고 fsync한 뒤 이름을 바꾸므로
+     * 중간에 실패해도 불완전한 세그먼트가 남지 않습니다.
+     */
+    public static void write(Path path, List<Message> ascending, int blockSize) {
+        if (ascending.isEmpty()) {
+            throw new IllegalArgumentException("Segment must contain at least one message");
+        }
+        int blockCount = (ascending.size() + blockSize - 1) / blockSize;
+        List<byte[]> compressedBlocks = new ArrayList<>(blockCount);
+        ByteBuffer index = ByteBuffer.allocate(HEADER_BYTES + blockCount * BLOCK_ENTRY_BYTES);
+        index.putInt(MAGIC).putInt(VERSION).putInt(ascending.size()).putInt(blockCount);
+
+        long offset = index.capacity();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            for (int from = 0; from < ascending.size(); from += blockSize) {
+                List<Message> block = ascending.subList(from, Math.min(from + blockSize, ascending.size()));
+                byte[] raw = encode(block);
+                byte[] compressed = compress(deflater, raw);
+                compressedBlocks.add(compressed);
+                index.putLong(block.get(0).getMessageId())
+                    .putLong(block.get(block.size() - 1).getMessageId())
+                    .putLong(offset)
+                    .putInt(compressed.length)
+                    .putInt(raw.length)
+                    .putInt(block.size());
+                offset += compressed.length;
+            }
+        } finally {
+            deflater.end();
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.write(index.flip());
+                for (byte[] compressed : compressedBlocks) {
+                    channel.write(ByteBuffer.wrap(compressed));
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write message segment " + path, e);
+        }
+    }
+
+    public static MessageSegment open(Path path, Long chatroomId) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지된다
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("Not a message segment: " + path);
+            }
+            int messageCount = buffer.getInt(8);
+            BlockEntry[] blocks = new BlockEntry[buffer.getInt(12)];
+            for (int i = 0; i < blocks.length; i++) {
+                int base = HEADER_BYTES + i * BLOCK_ENTRY_BYTES;
+                blocks[i] = new BlockEntry(buffer.getLong(base), buffer.getLong(base + 8), buffer.getLong(base + 16),
+                    buffer.getInt(base + 24), buffer.getInt(base + 28), buffer.getInt(base + 32));
+            }
+            return new MessageSegment(path, chatroomId, buffer, blocks, messageCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open message segment " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * 커서 이전 메시지를 최신순으로 최대 limit건 조회합니다. (cursor가 null이면 가장 최신부터)
+     */
+    public List<Message> findBefore(Long cursor, int limit) {
+        List<Message> result = new ArrayList<>(limit);
+        for (int i = blocks.length - 1; i >= 0 && result.size() < limit; i--) {
+            if (cursor != null && blocks[i].firstMessageId() >= cursor) {
+                continue;
+            }
+            List<Message> block = readBlock(i);
+            for (int j = block.size() - 1; j >= 0 && result.size() < limit; j--) {
+                Message message = block.get(j);
+                if (cursor == null || message.getMessageId() < cursor) {
+                    result.add(message);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 커서 이후 메시지를 오래된 순으로 최대 limit건 조회합니다.
+     */
+    public List<Message> findAfter(Long cursor, int limit) {
+        List<Message> result = new ArrayList<>(limit);
+        for (int i = 0; i < blocks.length && result.size() < limit; i++) {
+            if (blocks[i].lastMessageId() <= cursor) {
+                continue;
+            }
+            for (Message message : readBlock(i)) {
+                if (message.getMessageId() > cursor) {
+                    result.add(message);
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 ID의 메시지를 조회합니다. ID 범위가 겹치는 블록만 압축을 풉니다.
+     */
+    public List<Message> findByIds(Collection<Long> messageIds) {
+        List<Message> result = new ArrayList<>();
+        for (int i = 0; i < blocks.length; i++) {
+            BlockEntry entry = blocks[i];
+            boolean overlaps = messageIds.stream()
+                .anyMatch(id -> id >= entry.firstMessageId() && id <= entry.lastMessageId());
+            if (!overlaps) {
+                continue;
+            }
+            for (Message message : readBlock(i)) {
+                if (messageIds.contains(message.getMessageId())) {
+                    result.add(message);
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Message> readBlock(int index) {
+        BlockEntry entry = blocks[index];
+        ByteBuffer compressed = buffer.slice((int) entry.offset(), entry.compressedLength());
+        byte[] raw = new byte[entry.rawLength()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = inflater.inflate(raw);
+            if (read != raw.length) {
+                throw new IllegalStateException("Corrupted block " + index + " in " + path);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted block " + index + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+        return decode(ByteBuffer.wrap(raw), entry.messageCount());
+    }
+
+    private static byte[] encode(List<Message> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(messages.size() * 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (Message message : messages) {
+                out.writeLong(message.getMessageId());
+                out.writeLong(message.getUserId());
+                out.writeByte(message.getMessageType().ordinal());
+                LocalDateTime sentAt = message.getMessageSendAt();
+                out.writeLong(sentAt.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(sentAt.getNano());
+                if (message.getMessageContent() == null) {
+                    out.writeInt(-1);
+                } else {
+                    byte[] content = message.getMessageContent().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(content.length);
+                    out.write(content);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<Message> decode(ByteBuffer in, int count) {
+        List<Message> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long messageId = in.getLong();
+            long userId = in.getLong();
+            Message.MessageType type = MESSAGE_TYPES[in.get()];
+            LocalDateTime sentAt = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+            int length = in.getInt();
+            String content = null;
+            if (length >= 0) {
+                content = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            }
+            messages.add(Message.builder()
+                .messageId(messageId)
+                .chatroomId(chatroomId)
+                .userId(userId)
+                .messageType(type)
+                .messageContent(content)
+                .messageSendAt(sentAt)
+                .build());
+        }
+        return messages;
+    }
+
+    private static byte[] compress(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(raw.length / 4, 64));
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        return out.toByteArray();
+    }
+
+    private record BlockEntry(long firstMessageId, long lastMessageId, long offset, int compressedLength,
+                              int rawLength, int messageCount) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.connective.server.chat.infrastructure.archive;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.infrastructure.cache.RecentMessageCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 메시지를 hot 테이블(message)에서 콜드 저장소 세그먼트로 옮기는 주기 작업.
+ * 채팅방마다 가장 오래된 메시지부터 segment-size건을 읽어 min-age보다 오래된 앞부분만 세그먼트로 쓰고,
+ * 세그먼트가 디스크에 확정된 뒤에 hot 테이블에서 삭제한다.
+ * 삭제 전에 중단되면 다음 실행에서 이미 보관된 범위(archivedUpTo 이하)를 먼저 삭제하므로 중복 보관되지 않는다.
+ * <p>
+ * 세그먼트를 로컬 디스크에 쓰므로 한 노드에서만 활성화하거나 아카이브 디렉터리를 공유 스토리지에 둔다.
+ */
+@Component
+@ConditionalOnExpression("${chat.archive.enabled:false} and '${chat.message-store.type:jpa}' == 'jpa'")
+@RequiredArgsConstructor
+@Slf4j
+public class MessageTieringJob {
+
+    private static final String SELECT_ROOMS_SQL =
+        "SELECT chatroom_id FROM chat_room WHERE chatroom_id > ? ORDER BY chatroom_id LIMIT ?";
+
+    private static final String SELECT_OLDEST_SQL =
+        "SELECT message_id, chatroom_id, user_id, message_type, message_content, message_send_at "
+            + "FROM message WHERE chatroom_id = ? ORDER BY message_id LIMIT ?";
+
+    private static final String DELETE_ARCHIVED_SQL =
+        "DELETE FROM message WHERE chatroom_id = ? AND message_id <= ?";
+
+    private static final RowMapper<Message> MESSAGE_ROW_MAPPER = (rs, rowNum) -> Message.builder()
+        .messageId(rs.getLong("message_id"))
+        .chatroomId(rs.getLong("chatroom_id"))
+        .userId(rs.getLong("user_id"))
+        .messageType(Message.MessageType.valueOf(rs.getString("message_type")))
+        .messageContent(rs.getString("message_content"))
+        .messageSendAt(rs.getObject("message_send_at", LocalDateTime.class))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ColdMessageStore coldMessageStore;
+    private final RecentMessageCache recentMessageCache;
+
+    @Value("${chat.archive.min-age:90d}")
+    private Duration minAge;
+
+    @Value("${chat.archive.segment-size:10000}")
+    private int segmentSize;
+
+    @Value("${chat.archive.room-batch-size:500}")
+    private int roomBatchSize;
+
+    @Scheduled(fixedDelayString = "${chat.archive.interval-ms:86400000}",
+        initialDelayString = "${chat.archive.initial-delay-ms:600000}")
+    public void run() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        long lastRoomId = 0L;
+        long archived = 0;
+
+        try {
+            while (true) {
+                List<Long> rooms = jdbcTemplate.queryForList(SELECT_ROOMS_SQL, Long.class, lastRoomId, roomBatchSize);
+                for (Long roomId : rooms) {
+                    archived += tierRoom(roomId, cutoff);
+                }
+                if (rooms.size() < roomBatchSize) {
+                    break;
+                }
+                lastRoomId = rooms.get(rooms.size() - 1);
+            }
+            log.info("Message tiering finished. Archived {} messages sent before {}", archived, cutoff);
+        } catch (RuntimeException e) {
+            log.error("Message tiering stopped at room id {}", lastRoomId, e);
+        }
+    }
+
+    int tierRoom(Long roomId, LocalDateTime cutoff) {
+        // 이전 실행에서 세그먼트만 쓰고 삭제하지 못한 범위 정리
+        Long archivedUpTo = coldMessageStore.getArchivedUpTo(roomId);
+        if (archivedUpTo != null) {
+            jdbcTemplate.update(DELETE_ARCHIVED_SQL, roomId, archivedUpTo);
+        }
+
+        int archived = 0;
+        while (true) {
+            List<Message> oldest = jdbcTemplate.query(SELECT_OLDEST_SQL, MESSAGE_ROW_MAPPER, roomId, segmentSize);
+            int cold = 0;
+            while (cold < oldest.size() && oldest.get(cold).getMessageSendAt().isBefore(cutoff)) {
+                cold++;
+            }
+            if (cold == 0) {
+                break;
+            }
+
+            List<Message> segment = oldest.subList(0, cold);
+            coldMessageStore.archive(roomId, segment);
+            jdbcTemplate.update(DELETE_ARCHIVED_SQL, roomId, segment.get(cold - 1).getMessageId());
+            archived += cold;
+
+            if (cold < segmentSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            // 캐시가 방 전체 이력을 가진 것으로 표시돼 있으면 콜드 구간을 건너뛰므로 다시 채우게 한다
+            recentMessageCache.evict(roomId);
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,49 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 프로세스 내부 pub/sub 구현. 단일 노드 실행(chat.broker.mode=local)과 테스트에서 Redis 대신 사용하며,
+ * 여러 브로드캐스터가 한 인스턴스를 공유하면 여러 노드처럼 동작한다.
+ */
+@Slf4j
+public class InMemoryPubSubTransport implements PubSubTransport {
+
+    private final Map<String, Set<Listener>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(List<ChannelMessage> messages) {
+        for (ChannelMessage message : messages) {
+            Set<Listener> channelListeners = listeners.get(message.channel());
+            if (channelListeners == null) {
+                continue;
+            }
+            for (Listener listener : channelListeners) {
+                try {
+                    listener.onMessage(message.channel(), message.payload());
+                } catch (RuntimeException e) {
+                    log.error("Listener failed for channel {}: {}", message.channel(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Listener listener) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArraySet<>()).add(listener);
+    }
+
+    @Override
+    public void unsubscribe(String channel, Listener listener) {
+        listeners.computeIfPresent(channel, (c, channelListeners) -> {
+            channelListeners.remove(listener);
+            return channelListeners.isEmpty() ? null : channelListeners;
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import java.util.List;
+
+/**
+ * 노드 간 메시지 팬아웃에 사용하는 pub/sub 전송 계층.
+ * 운영 환경에서는 Redis, 단일 노드/테스트 환경에서는 인메모리 구현을 사용한다.
+ */
+public interface PubSubTransport {
+
+    /**
+     * 여러 메시지를 한 번에 발행합니다. 구현체는 가능한 경우 하나의 왕복으로 전송합니다.
+     */
+    void publish(List<ChannelMessage> messages);
+
+    void subscribe(String channel, Listener listener);
+
+    void unsubscribe(String channel, Listener listener);
+
+    record ChannelMessage(String channel, byte[] payload) {
+    }
+
+    @FunctionalInterface
+    interface Listener {
+
+        void onMessage(String channel, byte[] payload);
+    }
+}
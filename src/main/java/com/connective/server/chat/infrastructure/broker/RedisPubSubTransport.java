@@ -0,0 +1,62 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis pub/sub 구현. 발행은 파이프라인으로 묶어 한 번의 왕복으로 보내고,
+ * 구독은 공유 RedisMessageListenerContainer의 단일 연결 위에서 채널 단위로 추가/제거한다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RedisPubSubTransport implements PubSubTransport {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 구독 해제 시 같은 MessageListener 인스턴스가 필요하므로 어댑터를 보관
+    private final Map<Listener, MessageListener> adapters = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(List<ChannelMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ChannelMessage message : messages) {
+                connection.publish(message.channel().getBytes(StandardCharsets.UTF_8), message.payload());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void subscribe(String channel, Listener listener) {
+        listenerContainer.addMessageListener(adapterOf(listener), new ChannelTopic(channel));
+        log.debug("Subscribed to Redis channel {}", channel);
+    }
+
+    @Override
+    public void unsubscribe(String channel, Listener listener) {
+        MessageListener adapter = adapters.get(listener);
+        if (adapter != null) {
+            listenerContainer.removeMessageListener(adapter, new ChannelTopic(channel));
+            log.debug("Unsubscribed from Redis channel {}", channel);
+        }
+    }
+
+    private MessageListener adapterOf(Listener listener) {
+        return adapters.computeIfAbsent(listener, l -> (message, pattern) ->
+            l.onMessage(new String(message.getChannel(), StandardCharsets.UTF_8), message.getBody()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 노드 간 전달되는 방 메시지 포맷: "{발행 노드}\n{STOMP destination}\n{JSON 본문}".
+ * 수신 노드가 본문을 다시 파싱하지 않고 그대로 로컬 구독자에게 전달할 수 있도록 헤더만 텍스트로 앞에 붙인다.
+ */
+record RoomEnvelope(String origin, String destination, byte[] body) {
+
+    private static final byte SEPARATOR = '\n';
+
+    byte[] encode() {
+        byte[] header = (origin + '\n' + destination + '\n').getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = Arrays.copyOf(header, header.length + body.length);
+        System.arraycopy(body, 0, encoded, header.length, body.length);
+        return encoded;
+    }
+
+    static RoomEnvelope decode(byte[] encoded) {
+        int first = indexOf(encoded, 0);
+        int second = first < 0 ? -1 : indexOf(encoded, first + 1);
+        if (second < 0) {
+            throw new IllegalArgumentException("Malformed room envelope");
+        }
+        String origin = new String(encoded, 0, first, StandardCharsets.UTF_8);
+        String destination = new String(encoded, first + 1, second - first - 1, StandardCharsets.UTF_8);
+        return new RoomEnvelope(origin, destination, Arrays.copyOfRange(encoded, second + 1, encoded.length));
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,218 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import com.connective.server.chat.domain.dto.ChatMessageResponse;
+import com.connective.server.chat.infrastructure.cache.RecentMessageCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 메시지 팬아웃.
+ * 로컬 구독자에게는 SimpMessagingTemplate으로 즉시 전달하고, 다른 노드로는 방 채널(chat:room:{roomId})에
+ * 발행한다. 발행은 전용 스레드가 모아서 배치로 보내며, 자신이 발행한 메시지는 수신 시 무시한다.
+ * payload는 한 번만 JSON으로 직렬화하고, 같은 byte[]를 로컬 구독자 전체와 다른 노드 발행에 공유한다.
+ * 다른 노드에서 발송된 채팅 메시지는 이 노드의 최근 메시지 캐시에도 추가해 캐시가 다른 노드의 발송을 놓치지 않게 한다.
+ * 저장에 실패한 메시지는 제거 채널(chat:recent:removed)로 알려 모든 노드의 캐시에서 함께 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomMessageBroadcaster implements PubSubTransport.Listener {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chat/";
+    private static final String ROOM_CHANNEL_PREFIX = "chat:room:";
+    static final String REMOVED_CHANNEL = "chat:recent:removed";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PubSubTransport transport;
+    private final ObjectMapper objectMapper;
+    private final RecentMessageCache recentMessageCache;
+
+    @Value("${chat.broker.publish.batch-size:256}")
+    private int batchSize;
+
+    @Value("${chat.broker.publish.flush-interval-ms:5}")
+    private long flushIntervalMillis;
+
+    @Value("${chat.broker.publish.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private BlockingQueue<PubSubTransport.ChannelMessage> queue;
+    private Thread publisher;
+    private volatile boolean running;
+
+    private final PubSubTransport.Listener removalListener = (channel, payload) -> onRemoved(payload);
+
+    @PostConstruct
+    public void init() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.publisher = new Thread(this::runPublishLoop, "room-message-publisher");
+        this.publisher.setDaemon(true);
+        this.publisher.start();
+        transport.subscribe(REMOVED_CHANNEL, removalListener);
+        log.info("Room message broadcaster started (nodeId={}, transport={})",
+            nodeId, transport.getClass().getSimpleName());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        transport.unsubscribe(REMOVED_CHANNEL, removalListener);
+        running = false;
+        publisher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public static String channelOf(String roomId) {
+        return ROOM_CHANNEL_PREFIX + roomId;
+    }
+
+    public void broadcastToRoom(String roomId, Object payload) {
+        broadcastToRoom(roomId, "", payload);
+    }
+
+    /**
+     * /topic/chat/{roomId}{suffix} 구독자 전체에게 메시지를 전달합니다.
+     *
+     * @param suffix 방 하위 destination (예: "/read"), 없으면 빈 문자열
+     */
+    public void broadcastToRoom(String roomId, String suffix, Object payload) {
+        String destination = ROOM_DESTINATION_PREFIX + roomId + suffix;
+
+        // 구독자마다 메시지 변환을 반복하지 않도록 직렬화된 본문으로 전달
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize message for room {}: {}", roomId, e.getMessage());
+            return;
+        }
+        messagingTemplate.send(destination, jsonMessage(body));
+
+        enqueue(roomId, new PubSubTransport.ChannelMessage(
+            channelOf(roomId), new RoomEnvelope(nodeId, destination, body).encode()));
+    }
+
+    /**
+     * 저장에 실패한 메시지를 이 노드와 다른 노드의 최근 메시지 캐시에서 제거합니다.
+     * 방 메시지와 같은 발행 큐를 거치므로 다른 노드에서도 메시지가 추가된 뒤에 제거된다.
+     */
+    public void removeRecentMessage(Long roomId, Long messageId) {
+        recentMessageCache.remove(roomId, messageId);
+        enqueue(String.valueOf(roomId), new PubSubTransport.ChannelMessage(
+            REMOVED_CHANNEL, (roomId + ":" + messageId).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void enqueue(String roomId, PubSubTransport.ChannelMessage message) {
+        if (!running || !queue.offer(message)) {
+            // 발행 큐가 가득 차면 호출 스레드에서 바로 발행해 유실을 막는다
+            log.warn("Room publish queue is full. Publishing message for room {} synchronously", roomId);
+            transport.publish(List.of(message));
+        }
+    }
+
+    // 자신이 보낸 제거도 그대로 적용한다 (이미 제거된 메시지면 아무 일도 없음)
+    private void onRemoved(byte[] payload) {
+        String value = new String(payload, StandardCharsets.UTF_8);
+        int separator = value.indexOf(':');
+        try {
+            recentMessageCache.remove(Long.valueOf(value.substring(0, separator)),
+                Long.valueOf(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Dropping malformed message removal: {}", value);
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 방 메시지를 로컬 구독자에게 전달합니다. 본문은 다시 직렬화하지 않는다.
+     */
+    @Override
+    public void onMessage(String channel, byte[] payload) {
+        RoomEnvelope envelope;
+        try {
+            envelope = RoomEnvelope.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Dropping malformed message on channel {}", channel);
+            return;
+        }
+        if (nodeId.equals(envelope.origin())) {
+            return; // 로컬 구독자에게는 발행 시점에 이미 전달됨
+        }
+
+        // 발송 노드와 같은 순서로 캐시에 먼저 넣고 구독자에게 전달한다
+        appendToRecentMessages(channel, envelope);
+        messagingTemplate.send(envelope.destination(), jsonMessage(envelope.body()));
+    }
+
+    // 방 기본 destination으로 온 메시지 중 ID가 있는 채팅 메시지만 캐시에 넣는다 (입장/퇴장 안내, 하위 destination 제외)
+    private void appendToRecentMessages(String channel, RoomEnvelope envelope) {
+        String roomId = channel.substring(ROOM_CHANNEL_PREFIX.length());
+        if (!envelope.destination().equals(ROOM_DESTINATION_PREFIX + roomId)) {
+            return;
+        }
+        Long chatroomId = Long.valueOf(roomId);
+        try {
+            ChatMessageResponse message = objectMapper.readValue(envelope.body(), ChatMessageResponse.class);
+            if (message.getMessageId() != null) {
+                recentMessageCache.append(chatroomId, message);
+            }
+        } catch (IOException e) {
+            // 캐시에 넣지 못한 방은 비워 두고 다음 조회에서 DB로 다시 채운다
+            log.warn("Failed to cache message from channel {}: {}", channel, e.getMessage());
+            recentMessageCache.evict(chatroomId);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    // SimpleBroker는 구독마다 헤더만 복사하고 payload 배열은 그대로 공유한다
+    private static Message<byte[]> jsonMessage(byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    private void runPublishLoop() {
+        List<PubSubTransport.ChannelMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PubSubTransport.ChannelMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                transport.publish(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to publish {} room messages: {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import com.connective.server.chat.domain.event.ChatRoomMembershipChangedEvent;
+import com.connective.server.chat.infrastructure.cache.RecentMessageCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이 노드에 연결된 세션의 방 구독 수를 집계하여, 로컬 구독자가 있는 방의 채널만 구독한다.
+ * 방의 첫 구독자가 생기면 채널을 구독하고 마지막 구독자가 나가면 구독을 해제한다.
+ * 채널을 구독하지 않는 동안에는 다른 노드의 메시지를 받지 못하므로 그 방의 최근 메시지 캐시도 비운다.
+ * 사용자가 채팅방을 나가면 chat:membership:left 채널로 모든 노드에 알리고, 각 노드는 그 사용자 세션의
+ * 방 구독을 브로커에서 해제해 나간 뒤에는 메시지를 받지 못하게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomSubscriptionRegistry {
+
+    // /topic/chat/{roomId} 및 /topic/chat/{roomId}/read 같은 하위 destination
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/topic/chat/(\\d+)(/.*)?$");
+
+    private static final String MEMBER_LEFT_CHANNEL = "chat:membership:left";
+
+    private final PubSubTransport transport;
+    private final RoomMessageBroadcaster broadcaster;
+    private final RecentMessageCache recentMessageCache;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // sessionId -> (subscriptionId -> roomId)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // sessionId -> 사용자 ID (Principal 이름)
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+    private final Map<String, Integer> localSubscriberCounts = new ConcurrentHashMap<>();
+
+    // payload: "{roomId}:{userId}"
+    private final PubSubTransport.Listener memberLeftListener = (channel, payload) -> {
+        String[] parts = new String(payload, StandardCharsets.UTF_8).split(":");
+        revokeLocally(parts[0], parts[1]);
+    };
+
+    @PostConstruct
+    public void init() {
+        transport.subscribe(MEMBER_LEFT_CHANNEL, memberLeftListener);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transport.unsubscribe(MEMBER_LEFT_CHANNEL, memberLeftListener);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomId = extractRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Principal user = event.getUser();
+        if (user != null) {
+            sessionUsers.put(accessor.getSessionId(), user.getName());
+        }
+        String previous = sessionSubscriptions
+            .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+            .put(accessor.getSubscriptionId(), roomId);
+        if (previous == null) {
+            increment(roomId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            decrement(roomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        // 같은 세션의 disconnect 이벤트가 여러 번 올 수 있으므로 세션을 먼저 제거
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        sessionUsers.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    // 나간 사용자의 세션이 다른 노드에 있을 수 있으므로 모든 노드에 알린다 (이 노드는 바로 해제)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        if (event.getChangeType() != ChatRoomMembershipChangedEvent.ChangeType.LEFT) {
+            return;
+        }
+        String roomId = String.valueOf(event.getChatroomId());
+        String userId = String.valueOf(event.getUserId());
+        revokeLocally(roomId, userId);
+        transport.publish(List.of(new PubSubTransport.ChannelMessage(MEMBER_LEFT_CHANNEL,
+            (roomId + ":" + userId).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    public int getLocalSubscriberCount(String roomId) {
+        return localSubscriberCounts.getOrDefault(roomId, 0);
+    }
+
+    /**
+     * 이 노드가 방 채널을 구독 중인지 여부. 구독 중일 때만 다른 노드의 메시지가 최근 메시지 캐시에 반영됩니다.
+     */
+    public boolean isRoomSubscribed(Long roomId) {
+        return localSubscriberCounts.containsKey(String.valueOf(roomId));
+    }
+
+    public int getSubscribedRoomCount() {
+        return localSubscriberCounts.size();
+    }
+
+    public Collection<Integer> getLocalSubscriberCounts() {
+        return Collections.unmodifiableCollection(localSubscriberCounts.values());
+    }
+
+    // 사용자 세션의 방 구독(하위 destination 포함)을 브로커에서 해제하고 집계에서도 뺀다
+    private void revokeLocally(String roomId, String userId) {
+        sessionUsers.forEach((sessionId, user) -> {
+            if (!user.equals(userId)) {
+                return;
+            }
+            Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            subscriptions.forEach((subscriptionId, subscribedRoomId) -> {
+                if (subscribedRoomId.equals(roomId) && subscriptions.remove(subscriptionId, roomId)) {
+                    unsubscribeFromBroker(sessionId, subscriptionId);
+                    decrement(roomId);
+                    log.debug("Revoked subscription {} of session {} to room {} after user {} left",
+                        subscriptionId, sessionId, roomId, userId);
+                }
+            });
+        });
+    }
+
+    // 클라이언트가 UNSUBSCRIBE를 보낸 것과 같이 브로커의 구독 목록에서 제거
+    private void unsubscribeFromBroker(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        messagingTemplate.getMessageChannel()
+            .send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private void increment(String roomId) {
+        localSubscriberCounts.compute(roomId, (id, count) -> {
+            if (count == null) {
+                transport.subscribe(RoomMessageBroadcaster.channelOf(id), broadcaster);
+                log.debug("First local subscriber for room {}. Subscribed to room channel", id);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void decrement(String roomId) {
+        localSubscriberCounts.computeIfPresent(roomId, (id, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            transport.unsubscribe(RoomMessageBroadcaster.channelOf(id), broadcaster);
+            recentMessageCache.evict(Long.valueOf(id));
+            log.debug("No local subscribers left for room {}. Unsubscribed from room channel", id);
+            return null;
+        });
+    }
+
+    private static String extractRoomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+}
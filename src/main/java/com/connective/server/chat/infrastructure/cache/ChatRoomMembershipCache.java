@@ -0,0 +1,123 @@
+package com.connective.server.chat.infrastructure.cache;
+
+import com.connective.server.chat.domain.event.ChatRoomMembershipChangedEvent;
+import com.connective.server.chat.domain.repository.ChatRoomMemberRepository;
+import com.connective.server.chat.infrastructure.broker.PubSubTransport;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방별 멤버 ID 집합 캐시와 사용자별 채팅방 ID 집합 캐시.
+ * STOMP SUBSCRIBE/SEND 마다 수행하는 멤버십 검사를 DB 조회 없이 메모리에서 처리하고,
+ * 접속 상태가 바뀐 사용자의 채팅방을 모든 채팅방을 훑지 않고 찾는다.
+ * 멤버십이 바뀌면 커밋 후 로컬 캐시를 무효화하고, 다른 노드에도 chat:membership 채널로 무효화를 전파한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomMembershipCache {
+
+    private static final String INVALIDATION_CHANNEL = "chat:membership";
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final PubSubTransport transport;
+
+    @Value("${chat.cache.membership.max-rooms:100000}")
+    private long maxRooms;
+
+    @Value("${chat.cache.membership.max-users:100000}")
+    private long maxUsers;
+
+    // 무효화 메시지를 놓친 경우를 대비한 최대 유지 시간
+    @Value("${chat.cache.membership.ttl:10m}")
+    private Duration ttl;
+
+    private LoadingCache<Long, Set<Long>> membersByRoom;
+    private LoadingCache<Long, Set<Long>> roomsByUser;
+
+    // payload: "{roomId}:{userId}"
+    private final PubSubTransport.Listener invalidationListener = (channel, payload) -> {
+        String[] parts = new String(payload, StandardCharsets.UTF_8).split(":");
+        invalidateLocally(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+    };
+
+    @PostConstruct
+    public void init() {
+        this.membersByRoom = Caffeine.newBuilder()
+            .maximumSize(maxRooms)
+            .expireAfterWrite(ttl)
+            .build(chatroomId -> Set.copyOf(chatRoomMemberRepository.findUserIdsByChatroomId(chatroomId)));
+        this.roomsByUser = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(ttl)
+            .build(new CacheLoader<>() {
+                @Override
+                public Set<Long> load(Long userId) {
+                    return loadAll(Set.of(userId)).get(userId);
+                }
+
+                // 캐시에 없는 사용자들의 채팅방을 한 번의 조회로 읽는다
+                @Override
+                public Map<Long, Set<Long>> loadAll(Set<? extends Long> userIds) {
+                    Map<Long, Set<Long>> rooms = new HashMap<>(userIds.size());
+                    userIds.forEach(userId -> rooms.put(userId, new HashSet<>()));
+                    chatRoomMemberRepository.findByUserIdIn(List.copyOf(userIds)).forEach(member ->
+                        rooms.get(member.getUserId()).add(member.getChatroomId()));
+                    rooms.replaceAll((userId, chatroomIds) -> Set.copyOf(chatroomIds));
+                    return rooms;
+                }
+            });
+        transport.subscribe(INVALIDATION_CHANNEL, invalidationListener);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transport.unsubscribe(INVALIDATION_CHANNEL, invalidationListener);
+    }
+
+    public boolean isMember(Long chatroomId, Long userId) {
+        return membersByRoom.get(chatroomId).contains(userId);
+    }
+
+    public Set<Long> getMemberIds(Long chatroomId) {
+        return membersByRoom.get(chatroomId);
+    }
+
+    /**
+     * 사용자별로 참여 중인 채팅방 ID를 반환합니다. 캐시에 없는 사용자는 한 번의 조회로 함께 읽습니다.
+     */
+    public Map<Long, Set<Long>> getRoomIds(Collection<Long> userIds) {
+        return roomsByUser.getAll(userIds);
+    }
+
+    // 트랜잭션 커밋 후 무효화해야 다시 읽을 때 변경된 멤버십이 보인다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        invalidateLocally(event.getChatroomId(), event.getUserId());
+        transport.publish(List.of(new PubSubTransport.ChannelMessage(INVALIDATION_CHANNEL,
+            (event.getChatroomId() + ":" + event.getUserId()).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private void invalidateLocally(Long chatroomId, Long userId) {
+        membersByRoom.invalidate(chatroomId);
+        roomsByUser.invalidate(userId);
+        log.debug("Invalidated cached membership of chat room {} and user {}", chatroomId, userId);
+    }
+}
@@ -0,0 +1,302 @@
+package com.connective.server.chat.infrastructure.cache;
+
+import com.connective.server.chat.domain.dto.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 캐시.
+ * 발송 경로에서 채워지고, 최신 페이지 조회 시 DB에서 지연 로딩(warm)된다.
+ * 전체 방의 추정 메모리 합이 max-bytes를 넘으면 가장 오래 접근되지 않은 방부터 제거한다.
+ */
+@Component
+@Slf4j
+public class RecentMessageCache {
+
+    // ChatMessageResponse 객체 및 필드 헤더의 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    private final int capacityPerRoom;
+    private final long maxBytes;
+    private final Map<Long, RoomBuffer> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RecentMessageCache(@Value("${chat.cache.recent-messages.per-room:100}") int capacityPerRoom,
+        @Value("${chat.cache.recent-messages.max-bytes:67108864}") long maxBytes) {
+        this.capacityPerRoom = capacityPerRoom;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getCapacityPerRoom() {
+        return capacityPerRoom;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    /**
+     * 발송된 메시지를 방 버퍼에 추가합니다. 버퍼는 messageId 오름차순을 유지합니다.
+     */
+    public void append(Long roomId, ChatMessageResponse message) {
+        while (true) {
+            RoomBuffer buffer = rooms.computeIfAbsent(roomId, id -> new RoomBuffer(capacityPerRoom));
+            synchronized (buffer) {
+                if (buffer.removed) {
+                    continue; // 제거 중인 버퍼에 추가하지 않도록 새 버퍼로 재시도
+                }
+                totalBytes.addAndGet(buffer.insert(message));
+                buffer.touch();
+            }
+            break;
+        }
+        evictIfNecessary();
+    }
+
+    /**
+     * 저장에 실패한 메시지를 버퍼에서 제거합니다.
+     */
+    public void remove(Long roomId, Long messageId) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null) {
+            return;
+        }
+        synchronized (buffer) {
+            if (!buffer.removed) {
+                totalBytes.addAndGet(buffer.delete(messageId));
+            }
+        }
+    }
+
+    /**
+     * DB에서 읽은 최신 메시지(최신순)로 버퍼를 채웁니다. 그 사이 발송 경로로 들어온 메시지와 병합됩니다.
+     *
+     * @param complete 방의 전체 이력이 주어진 목록에 포함되는지 여부
+     */
+    public void warm(Long roomId, List<ChatMessageResponse> latestFirst, boolean complete) {
+        while (true) {
+            RoomBuffer buffer = rooms.computeIfAbsent(roomId, id -> new RoomBuffer(capacityPerRoom));
+            synchronized (buffer) {
+                if (buffer.removed) {
+                    continue;
+                }
+                if (!buffer.warm) {
+                    long delta = 0;
+                    for (ChatMessageResponse message : latestFirst) {
+                        delta += buffer.insert(message);
+                    }
+                    // 용량 초과로 오래된 메시지가 밀려났다면 전체 이력이 아님
+                    buffer.complete = complete && buffer.evictedCount == 0;
+                    buffer.warm = true;
+                    totalBytes.addAndGet(delta);
+                }
+                buffer.touch();
+            }
+            break;
+        }
+        evictIfNecessary();
+    }
+
+    /**
+     * 커서 이전의 메시지를 최신순으로 최대 limit건 조회합니다. (cursor가 null이면 최신 메시지부터)
+     * 버퍼가 warm 상태이고 limit건을 채울 수 있거나 방의 전체 이력을 갖고 있을 때만 결과를 반환합니다.
+     */
+    public Optional<CachedPage> getBefore(Long roomId, Long cursor, int limit) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        synchronized (buffer) {
+            if (!buffer.warm || buffer.removed) {
+                return Optional.empty();
+            }
+            buffer.touch();
+            return buffer.readBefore(cursor, limit);
+        }
+    }
+
+    public void evict(Long roomId) {
+        RoomBuffer buffer = rooms.remove(roomId);
+        if (buffer != null) {
+            synchronized (buffer) {
+                buffer.removed = true;
+                totalBytes.addAndGet(-buffer.bytes);
+            }
+        }
+    }
+
+    // 메모리 한도 초과 시 가장 오래 접근되지 않은 방부터 한도의 90%까지 제거
+    private void evictIfNecessary() {
+        if (totalBytes.get() <= maxBytes || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long target = maxBytes / 10 * 9;
+            // 정렬 중 접근 시각이 바뀌지 않도록 스냅샷을 떠서 정렬
+            List<EvictionCandidate> candidates = new ArrayList<>(rooms.size());
+            rooms.forEach((roomId, buffer) ->
+                candidates.add(new EvictionCandidate(roomId, buffer, buffer.lastAccessNanos)));
+            candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccessNanos));
+
+            int evicted = 0;
+            for (EvictionCandidate candidate : candidates) {
+                if (totalBytes.get() <= target) {
+                    break;
+                }
+                if (rooms.remove(candidate.roomId(), candidate.buffer())) {
+                    RoomBuffer buffer = candidate.buffer();
+                    synchronized (buffer) {
+                        buffer.removed = true;
+                        totalBytes.addAndGet(-buffer.bytes);
+                    }
+                    evicted++;
+                }
+            }
+            log.debug("Evicted {} rooms from recent message cache. Current size: {} bytes", evicted, totalBytes.get());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    static long estimateBytes(ChatMessageResponse message) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        if (message.getContent() != null) {
+            bytes += 2L * message.getContent().length();
+        }
+        if (message.getSenderNickname() != null) {
+            bytes += 2L * message.getSenderNickname().length();
+        }
+        return bytes;
+    }
+
+    public record CachedPage(List<ChatMessageResponse> messages, boolean hasMore) {
+    }
+
+    private record EvictionCandidate(Long roomId, RoomBuffer buffer, long lastAccessNanos) {
+    }
+
+    /**
+     * 방 하나의 링 버퍼. 모든 접근은 버퍼 자신을 모니터로 동기화한다.
+     */
+    private static final class RoomBuffer {
+
+        private final ChatMessageResponse[] slots;
+        private int head;  // 가장 오래된 메시지 위치
+        private int size;
+        private long bytes;
+        private long evictedCount;
+        private boolean warm;
+        private boolean complete;
+        private boolean removed;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private RoomBuffer(int capacity) {
+            this.slots = new ChatMessageResponse[capacity];
+        }
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+
+        private ChatMessageResponse at(int index) {
+            return slots[(head + index) % slots.length];
+        }
+
+        private void set(int index, ChatMessageResponse message) {
+            slots[(head + index) % slots.length] = message;
+        }
+
+        // messageId 순서를 유지하며 삽입하고 변경된 추정 바이트 수를 반환
+        private long insert(ChatMessageResponse message) {
+            long messageId = message.getMessageId();
+
+            // 대부분 가장 최신 메시지이므로 뒤에서부터 삽입 위치 탐색
+            int position = size;
+            while (position > 0 && at(position - 1).getMessageId() > messageId) {
+                position--;
+            }
+            if (position > 0 && at(position - 1).getMessageId() == messageId) {
+                return 0; // 중복
+            }
+
+            long delta = 0;
+            if (size == slots.length) {
+                if (position == 0) {
+                    evictedCount++;
+                    return 0; // 버퍼의 가장 오래된 메시지보다 오래됨
+                }
+                delta -= estimateBytes(at(0));
+                slots[head] = null;
+                head = (head + 1) % slots.length;
+                size--;
+                position--;
+                evictedCount++;
+                complete = false;
+            }
+
+            for (int i = size; i > position; i--) {
+                set(i, at(i - 1));
+            }
+            set(position, message);
+            size++;
+
+            long added = estimateBytes(message);
+            bytes += added + delta;
+            return added + delta;
+        }
+
+        private long delete(Long messageId) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (at(i).getMessageId().equals(messageId)) {
+                    long removedBytes = estimateBytes(at(i));
+                    for (int j = i; j < size - 1; j++) {
+                        set(j, at(j + 1));
+                    }
+                    set(size - 1, null);
+                    size--;
+                    bytes -= removedBytes;
+                    return -removedBytes;
+                }
+            }
+            return 0;
+        }
+
+        private Optional<CachedPage> readBefore(Long cursor, int limit) {
+            int end = size;
+            if (cursor != null) {
+                while (end > 0 && at(end - 1).getMessageId() >= cursor) {
+                    end--;
+                }
+            }
+
+            // 커서 이전 메시지가 limit건 미만이면 전체 이력을 가진 경우에만 캐시로 응답
+            if (end < limit && !complete) {
+                return Optional.empty();
+            }
+
+            int count = Math.min(limit, end);
+            List<ChatMessageResponse> page = new ArrayList<>(count);
+            for (int i = end - 1; i >= end - count; i--) {
+                page.add(at(i));
+            }
+            // 버퍼에 더 오래된 메시지가 남아있거나, 버퍼 밖(DB)에 더 오래된 이력이 있을 수 있음
+            boolean hasMore = end > count || !complete;
+            return Optional.of(new CachedPage(page, hasMore));
+        }
+    }
+}
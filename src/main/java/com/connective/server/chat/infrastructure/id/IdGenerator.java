@@ -0,0 +1,10 @@
+package com.connective.server.chat.infrastructure.id;
+
+/**
+ * 애플리케이션에서 영속화 이전에 엔티티 ID를 발급하는 생성기.
+ * 발급되는 ID는 시간 순으로 정렬되어 정렬 키 및 커서 키로 사용할 수 있어야 한다.
+ */
+public interface IdGenerator {
+
+    long nextId();
+}
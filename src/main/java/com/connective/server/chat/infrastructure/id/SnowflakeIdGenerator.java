@@ -0,0 +1,84 @@
+package com.connective.server.chat.infrastructure.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 64bit 시간 순 ID 생성기.
+ * <pre>
+ * | 1bit 부호(0) | 41bit 타임스탬프(ms, EPOCH 기준) | 10bit 노드 ID | 12bit 시퀀스 |
+ * </pre>
+ * 마지막 타임스탬프와 시퀀스를 하나의 AtomicLong에 담아 CAS로 갱신하므로 락 없이 동작한다.
+ * 같은 ms 안에서 시퀀스가 소진되거나 시계가 뒤로 가면 다음 ms를 미리 빌려 단조 증가를 유지한다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH = 1704067200000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    // (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((current & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = current + 1;
+            } else {
+                next = (lastTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * ID에 기록된 발급 시각(epoch ms)을 반환합니다.
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    /**
+     * 주어진 시각 이후에 발급된 모든 ID보다 작거나 같은 최소 ID를 반환합니다. (시간 기준 커서 변환용)
+     */
+    public static long lowerBoundOf(Instant instant) {
+        return Math.max(0, instant.toEpochMilli() - EPOCH) << TIMESTAMP_SHIFT;
+    }
+}
@@ -0,0 +1,18 @@
+package com.connective.server.chat.infrastructure.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 DB IDENTITY 대신 애플리케이션의 {@link IdGenerator}로 발급합니다.
+ * IDENTITY와 달리 Hibernate JDBC 배치가 유지되며, 미리 할당된 ID가 있으면 그대로 사용합니다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,41 @@
+package com.connective.server.chat.infrastructure.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * {@link TimeOrderedId}가 붙은 식별자를 위한 Hibernate 생성기.
+ * Hibernate가 직접 인스턴스를 만들기 때문에 스프링 빈인 {@link IdGenerator}는 정적으로 등록해 사용한다.
+ */
+public class TimeOrderedIdentifierGenerator implements BeforeExecutionGenerator {
+
+    private static volatile IdGenerator delegate = new SnowflakeIdGenerator(0);
+
+    public static void register(IdGenerator idGenerator) {
+        delegate = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+        EventType eventType) {
+        // write-behind 경로처럼 미리 ID가 할당된 경우 그대로 사용
+        if (currentValue != null) {
+            return currentValue;
+        }
+        return delegate.nextId();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
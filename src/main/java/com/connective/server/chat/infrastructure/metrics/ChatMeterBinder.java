@@ -0,0 +1,198 @@
+package com.connective.server.chat.infrastructure.metrics;
+
+import com.connective.server.chat.application.service.ReadReceiptServiceImpl;
+import com.connective.server.chat.application.service.UnreadCountServiceImpl;
+import com.connective.server.chat.infrastructure.archive.ColdMessageStore;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import com.connective.server.chat.infrastructure.broker.RoomSubscriptionRegistry;
+import com.connective.server.chat.infrastructure.cache.RecentMessageCache;
+import com.connective.server.chat.infrastructure.persistence.MessageBatchWriter;
+import com.connective.server.chat.infrastructure.presence.PresenceTracker;
+import com.connective.server.chat.infrastructure.ratelimit.InboundRateLimiter;
+import com.connective.server.chat.infrastructure.search.MessageSearchIndex;
+import com.connective.server.chat.infrastructure.websocket.SlowConsumerGuard;
+import com.connective.server.chat.infrastructure.websocket.VirtualThreadPinningMonitor;
+import com.connective.server.chat.infrastructure.websocket.WebSocketChannelMonitor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 채팅 인프라 컴포넌트가 이미 집계하고 있는 값(큐 적체량, 세션/구독 수, 처리 건수)을 게이지와 카운터로 노출한다.
+ * 채팅방별 구독자 수는 방 ID 대신 인원 구간(size 태그)별 채팅방 수로 집계해 태그 수를 고정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMeterBinder implements MeterBinder {
+
+    // 채팅방 구독자 수 구간의 상한 (마지막 구간은 상한 없음)
+    private static final int[] ROOM_SIZE_BOUNDS = {1, 10, 100, 1000};
+    private static final String[] ROOM_SIZE_TAGS = {"1", "2-10", "11-100", "101-1000", "1001+"};
+
+    private final WebSocketChannelMonitor channelMonitor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final RoomSubscriptionRegistry roomSubscriptionRegistry;
+    private final RoomMessageBroadcaster roomMessageBroadcaster;
+    private final MessageBatchWriter messageBatchWriter;
+    private final RecentMessageCache recentMessageCache;
+    private final InboundRateLimiter inboundRateLimiter;
+    private final PresenceTracker presenceTracker;
+    private final ReadReceiptServiceImpl readReceiptService;
+    // 부하 테스트 프로필은 Redis 없이 띄우기 위해 다른 구현으로 대체하므로 있을 때만 바인딩
+    private final ObjectProvider<UnreadCountServiceImpl> unreadCountService;
+    private final MessageSearchIndex messageSearchIndex;
+    private final ColdMessageStore coldMessageStore;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+    private final AtomicInteger[] roomsBySize = {
+        new AtomicInteger(), new AtomicInteger(), new AtomicInteger(), new AtomicInteger(), new AtomicInteger()
+    };
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // WebSocket 세션과 채널 실행기
+        gauge(registry, "chat.websocket.sessions", "Open STOMP sessions on this node",
+            slowConsumerGuard, SlowConsumerGuard::getTrackedSessionCount);
+        bindChannel(registry, "inbound", true);
+        bindChannel(registry, "outbound", false);
+        slowConsumerCounter(registry, "dropped", SlowConsumerGuard::getDroppedCount);
+        slowConsumerCounter(registry, "coalesced", SlowConsumerGuard::getCoalescedCount);
+        slowConsumerCounter(registry, "disconnected", SlowConsumerGuard::getDisconnectedCount);
+
+        // 구독
+        gauge(registry, "chat.rooms.subscribed", "Rooms with at least one local subscriber",
+            roomSubscriptionRegistry, RoomSubscriptionRegistry::getSubscribedRoomCount);
+        for (int i = 0; i < ROOM_SIZE_TAGS.length; i++) {
+            Gauge.builder("chat.rooms.by.subscribers", roomsBySize[i], AtomicInteger::get)
+                .description("Rooms grouped by number of local subscriptions")
+                .tag("size", ROOM_SIZE_TAGS[i])
+                .register(registry);
+        }
+
+        // 발송/저장 파이프라인 큐
+        gauge(registry, "chat.broadcast.queue.size", "Room messages waiting to be published",
+            roomMessageBroadcaster, RoomMessageBroadcaster::getQueueSize);
+        gauge(registry, "chat.persistence.queue.size", "Messages waiting for the batch writer",
+            messageBatchWriter, MessageBatchWriter::getQueueSize);
+        gauge(registry, "chat.read.receipts.pending", "Read positions waiting to be flushed",
+            readReceiptService, ReadReceiptServiceImpl::getPendingWriteCount);
+        unreadCountService.ifAvailable(service -> bindUnreadCounts(registry, service));
+        gauge(registry, "chat.search.index.queue.size", "Messages waiting to be indexed for search",
+            messageSearchIndex, MessageSearchIndex::getQueueSize);
+        FunctionCounter.builder("chat.search.index.dropped", messageSearchIndex, MessageSearchIndex::getDroppedCount)
+            .description("Messages skipped by the search indexer because its queue was full")
+            .register(registry);
+        gauge(registry, "chat.cache.recent.messages.bytes", "Estimated size of the recent message cache",
+            recentMessageCache, RecentMessageCache::getTotalBytes);
+        gauge(registry, "chat.archive.segments.open", "Memory-mapped history segments currently open",
+            coldMessageStore, ColdMessageStore::getOpenSegmentCount);
+        gauge(registry, "chat.archive.rooms.cached", "Rooms whose segment list is cached",
+            coldMessageStore, ColdMessageStore::getCachedRoomCount);
+
+        // 전송 속도 제한
+        rateLimitCounter(registry, "allowed", InboundRateLimiter::getAllowedCount);
+        rateLimitCounter(registry, "throttled_user", InboundRateLimiter::getUserThrottledCount);
+        rateLimitCounter(registry, "throttled_room", InboundRateLimiter::getRoomThrottledCount);
+        rateLimitCounter(registry, "throttled_ephemeral", InboundRateLimiter::getEphemeralThrottledCount);
+        FunctionCounter.builder("chat.ratelimit.replies.suppressed", inboundRateLimiter,
+                InboundRateLimiter::getSuppressedReplyCount)
+            .description("Rate limit rejections not reported to the sender because its error replies were throttled")
+            .register(registry);
+        gauge(registry, "chat.ratelimit.buckets", "Token buckets currently tracked",
+            inboundRateLimiter, InboundRateLimiter::getTrackedBucketCount);
+
+        // 접속 상태
+        gauge(registry, "chat.presence.online.users", "Users online through this node",
+            presenceTracker, PresenceTracker::getLocalOnlineUserCount);
+        gauge(registry, "chat.presence.remote.nodes", "Other nodes reporting presence",
+            presenceTracker, PresenceTracker::getRemoteNodeCount);
+
+        pinningMonitor.ifAvailable(monitor -> FunctionCounter
+            .builder("chat.threads.pinned", monitor, VirtualThreadPinningMonitor::getPinnedCount)
+            .description("Virtual thread pinning events longer than the configured threshold")
+            .register(registry));
+    }
+
+    // 방마다 게이지를 두지 않고 주기적으로 구간별 채팅방 수를 다시 센다
+    @Scheduled(fixedDelayString = "${chat.metrics.room-size-refresh-interval-ms:10000}")
+    public void refreshRoomSizes() {
+        int[] counts = new int[ROOM_SIZE_TAGS.length];
+        for (int subscribers : roomSubscriptionRegistry.getLocalSubscriberCounts()) {
+            counts[bucketOf(subscribers)]++;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            roomsBySize[i].set(counts[i]);
+        }
+    }
+
+    static int bucketOf(int subscribers) {
+        for (int i = 0; i < ROOM_SIZE_BOUNDS.length; i++) {
+            if (subscribers <= ROOM_SIZE_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return ROOM_SIZE_BOUNDS.length;
+    }
+
+    private void bindUnreadCounts(MeterRegistry registry, UnreadCountServiceImpl service) {
+        gauge(registry, "chat.unread.queue.size", "Persisted messages waiting for unread count updates",
+            service, UnreadCountServiceImpl::getQueueSize);
+        FunctionCounter.builder("chat.unread.dropped", service, UnreadCountServiceImpl::getDroppedCount)
+            .description("Messages skipped by the unread count updater because its queue was full")
+            .register(registry);
+        FunctionCounter.builder("chat.unread.failed", service, UnreadCountServiceImpl::getFailedCount)
+            .description("Messages whose unread count update failed in Redis")
+            .register(registry);
+    }
+
+    private void bindChannel(MeterRegistry registry, String channel, boolean inbound) {
+        Gauge.builder("chat.websocket.channel.queued", channelMonitor,
+                monitor -> stats(monitor, inbound).queueSize())
+            .description("Tasks waiting in the client channel executor")
+            .tag("channel", channel)
+            .register(registry);
+        Gauge.builder("chat.websocket.channel.active", channelMonitor,
+                monitor -> stats(monitor, inbound).activeCount())
+            .description("Threads currently running client channel tasks")
+            .tag("channel", channel)
+            .register(registry);
+        FunctionCounter.builder("chat.websocket.channel.completed", channelMonitor,
+                monitor -> stats(monitor, inbound).completedTaskCount())
+            .description("Tasks completed by the client channel executor")
+            .tag("channel", channel)
+            .register(registry);
+    }
+
+    private static WebSocketChannelMonitor.ChannelStats stats(WebSocketChannelMonitor monitor, boolean inbound) {
+        return inbound ? monitor.getInboundStats() : monitor.getOutboundStats();
+    }
+
+    private void slowConsumerCounter(MeterRegistry registry, String action, ToDoubleFunction<SlowConsumerGuard> count) {
+        FunctionCounter.builder("chat.websocket.slow.consumer", slowConsumerGuard, count)
+            .description("Outbound frames handled by the slow consumer policy")
+            .tag("action", action)
+            .register(registry);
+    }
+
+    private void rateLimitCounter(MeterRegistry registry, String result, ToDoubleFunction<InboundRateLimiter> count) {
+        FunctionCounter.builder("chat.ratelimit.frames", inboundRateLimiter, count)
+            .description("Inbound SEND frames checked by the rate limiter")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, String description, T target,
+                                  ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value)
+            .description(description)
+            .register(registry);
+    }
+}
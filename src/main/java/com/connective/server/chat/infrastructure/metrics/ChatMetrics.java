@@ -0,0 +1,64 @@
+package com.connective.server.chat.infrastructure.metrics;
+
+import com.connective.server.chat.domain.entity.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 발송 경로 메트릭.
+ * 태그는 메시지 타입/단계/결과처럼 값이 정해진 것만 사용하고 채팅방 ID는 태그로 쓰지 않는다.
+ */
+@Component
+public class ChatMetrics {
+
+    private final Map<Message.MessageType, Counter> receivedCounters = new EnumMap<>(Message.MessageType.class);
+    private final Map<Message.MessageType, Timer> broadcastTimers = new EnumMap<>(Message.MessageType.class);
+    private final Map<Message.MessageType, Timer> persistedTimers = new EnumMap<>(Message.MessageType.class);
+    private final Map<Message.MessageType, Timer> persistFailedTimers = new EnumMap<>(Message.MessageType.class);
+
+    public ChatMetrics(MeterRegistry meterRegistry) {
+        // 발송 경로에서 레지스트리 조회가 일어나지 않도록 타입별 미터를 미리 등록
+        for (Message.MessageType type : Message.MessageType.values()) {
+            String typeTag = type.name();
+            receivedCounters.put(type, Counter.builder("chat.messages.received")
+                .description("Chat messages received from clients")
+                .tag("type", typeTag)
+                .register(meterRegistry));
+            broadcastTimers.put(type, latencyTimer(meterRegistry, typeTag, "broadcast", "success"));
+            persistedTimers.put(type, latencyTimer(meterRegistry, typeTag, "persist", "success"));
+            persistFailedTimers.put(type, latencyTimer(meterRegistry, typeTag, "persist", "failure"));
+        }
+    }
+
+    public void recordReceived(Message.MessageType type) {
+        receivedCounters.get(type).increment();
+    }
+
+    /**
+     * 수신 시점부터 브로드캐스트 큐에 넘길 때까지의 시간
+     */
+    public void recordBroadcast(Message.MessageType type, long receivedAtNanos) {
+        broadcastTimers.get(type).record(System.nanoTime() - receivedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 수신 시점부터 배치 저장이 끝날 때까지의 시간
+     */
+    public void recordPersisted(Message.MessageType type, long receivedAtNanos, boolean success) {
+        Timer timer = success ? persistedTimers.get(type) : persistFailedTimers.get(type);
+        timer.record(System.nanoTime() - receivedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String type, String stage, String outcome) {
+        return Timer.builder("chat.message.latency")
+            .description("Time from receiving a chat message to each pipeline stage")
+            .tags("type", type, "stage", stage, "outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,176 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.event.MessagesPersistedEvent;
+import com.connective.server.chat.domain.repository.MessageStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 저장소.
+ * STOMP inbound 스레드는 메시지를 큐에 넣고 바로 반환하며, 전용 flusher 스레드가
+ * batch-size 또는 flush-interval 기준으로 메시지를 모아 MessageStore에 한 번에 저장한다.
+ * 저장된 배치는 MessagesPersistedEvent로 알려 안 읽은 메시지 수 등 파생 데이터를 배치 단위로 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageBatchWriter {
+
+    private final MessageStore messageStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${chat.persistence.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat.persistence.flush-interval-ms:20}")
+    private long flushIntervalMillis;
+
+    @Value("${chat.persistence.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<PendingMessage> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.flusher = new Thread(this::runFlushLoop, "message-batch-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        log.info("Message batch writer started (batchSize={}, flushIntervalMs={}, queueCapacity={})",
+            batchSize, flushIntervalMillis, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 새 메시지는 거절하고, 큐에 남은 메시지는 모두 저장한 뒤 종료
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("Message batch writer stopped. Remaining queued messages: {}", queue.size());
+    }
+
+    /**
+     * 메시지를 저장 큐에 넣습니다. 반환된 future는 메시지가 속한 배치가 커밋되면 완료됩니다.
+     *
+     * @param message 저장할 메시지 (ID와 발송 시각이 할당되어 있어야 함)
+     * @return 저장 완료 시 메시지로 완료되는 future, 큐가 가득 차면 즉시 예외로 완료
+     */
+    public CompletableFuture<Message> enqueue(Message message) {
+        CompletableFuture<Message> future = new CompletableFuture<>();
+        if (!running || !queue.offer(new PendingMessage(message, future))) {
+            future.completeExceptionally(new RejectedExecutionException("Message write queue is full"));
+        }
+        return future;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void runFlushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Message batch writer interrupted. Remaining queued messages: {}", queue.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in message batch writer: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 메시지 도착 후 flush-interval 동안 batch-size 만큼 모은다
+    private void fillBatch(List<PendingMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        try {
+            writeBatch(batch);
+            batch.forEach(pending -> pending.future().complete(pending.message()));
+            log.debug("Persisted message batch of size {}", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} messages failed, retrying one by one: {}", batch.size(), e.getMessage());
+            flushIndividually(batch);
+            return;
+        }
+        publishPersisted(batch.stream().map(PendingMessage::message).toList());
+    }
+
+    // 배치 실패 시 문제 메시지 하나가 배치 전체를 실패시키지 않도록 개별 저장으로 재시도
+    private void flushIndividually(List<PendingMessage> batch) {
+        List<Message> persisted = new ArrayList<>(batch.size());
+        for (PendingMessage pending : batch) {
+            try {
+                writeBatch(List.of(pending));
+                pending.future().complete(pending.message());
+                persisted.add(pending.message());
+            } catch (RuntimeException e) {
+                log.error("Failed to persist message in room {} from user {}: {}",
+                    pending.message().getChatroomId(), pending.message().getUserId(), e.getMessage());
+                pending.future().completeExceptionally(e);
+            }
+        }
+        if (!persisted.isEmpty()) {
+            publishPersisted(persisted);
+        }
+    }
+
+    // 리스너 실패가 이미 커밋된 메시지의 저장 결과에 영향을 주지 않도록 분리
+    private void publishPersisted(List<Message> messages) {
+        try {
+            eventPublisher.publishEvent(new MessagesPersistedEvent(messages));
+        } catch (RuntimeException e) {
+            log.error("Failed to handle persisted message batch of size {}: {}", messages.size(), e.getMessage(), e);
+        }
+    }
+
+    private void writeBatch(List<PendingMessage> batch) {
+        messageStore.saveAll(batch.stream().map(PendingMessage::message).toList());
+    }
+
+    private record PendingMessage(Message message, CompletableFuture<Message> future) {
+    }
+}
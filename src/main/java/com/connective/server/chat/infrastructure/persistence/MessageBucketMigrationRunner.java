@@ -0,0 +1,114 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import com.connective.server.chat.domain.entity.Message;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * MySQL message 테이블의 기존 메시지를 MongoDB 버킷 저장소로 옮기는 마이그레이션.
+ * message_id 순으로 chunk-size건씩 읽어 버킷에 추가하고, 진행 위치를 message_bucket_migration 컬렉션에 기록한다.
+ * 중단 후 재시작하면 마지막 체크포인트부터 이어서 진행한다. 체크포인트를 기록하기 전에 중단되어 이미 일부가 쓰인
+ * chunk는 재시작 후 첫 chunk에서 버킷에 있는 메시지를 제외하고 쓰므로 중복되지 않는다.
+ * <p>
+ * 마이그레이션 중에는 chat.message-store.type=jpa로 기존 저장소를 계속 사용하고, 완료 후 mongo로 전환한다.
+ * 전환 전까지 새로 쓰인 메시지는 재실행으로 체크포인트 이후분을 이어서 옮긴다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.message-store.migration.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MessageBucketMigrationRunner implements ApplicationRunner {
+
+    private static final String CHECKPOINT_COLLECTION = "message_bucket_migration";
+    private static final String CHECKPOINT_ID = "message";
+
+    private static final String SELECT_CHUNK_SQL =
+        "SELECT message_id, chatroom_id, user_id, message_type, message_content, message_send_at "
+            + "FROM message WHERE message_id > ? ORDER BY message_id LIMIT ?";
+
+    private static final RowMapper<Message> MESSAGE_ROW_MAPPER = (rs, rowNum) -> Message.builder()
+        .messageId(rs.getLong("message_id"))
+        .chatroomId(rs.getLong("chatroom_id"))
+        .userId(rs.getLong("user_id"))
+        .messageType(Message.MessageType.valueOf(rs.getString("message_type")))
+        .messageContent(rs.getString("message_content"))
+        .messageSendAt(rs.getObject("message_send_at", LocalDateTime.class))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final MongoBucketMessageStore mongoBucketMessageStore;
+
+    @Value("${chat.message-store.migration.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 대용량 테이블에서도 애플리케이션 기동을 막지 않도록 별도 스레드에서 실행
+        Thread worker = new Thread(this::migrate, "message-bucket-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void migrate() {
+        long lastMessageId = loadCheckpoint();
+        long migrated = 0;
+        log.info("Message bucket migration started from message id {}", lastMessageId);
+
+        try {
+            boolean resumed = true; // 체크포인트 이후 첫 chunk는 중단 시점에 일부가 쓰였을 수 있다
+            while (true) {
+                List<Message> chunk = jdbcTemplate.query(SELECT_CHUNK_SQL, MESSAGE_ROW_MAPPER, lastMessageId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                mongoBucketMessageStore.saveAll(resumed ? mongoBucketMessageStore.excludeStored(chunk) : chunk);
+                resumed = false;
+                lastMessageId = chunk.get(chunk.size() - 1).getMessageId();
+                migrated += chunk.size();
+                saveCheckpoint(lastMessageId, chunk.size());
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+            log.info("Message bucket migration finished. Migrated {} messages, last message id {}",
+                migrated, lastMessageId);
+        } catch (RuntimeException e) {
+            log.error("Message bucket migration stopped at message id {}", lastMessageId, e);
+        }
+    }
+
+    private long loadCheckpoint() {
+        Document checkpoint = mongoTemplate.findById(CHECKPOINT_ID, Document.class, CHECKPOINT_COLLECTION);
+        if (checkpoint == null || checkpoint.get("lastMessageId") == null) {
+            return 0L;
+        }
+        return ((Number) checkpoint.get("lastMessageId")).longValue();
+    }
+
+    private void saveCheckpoint(long lastMessageId, int chunkCount) {
+        Update update = new Update()
+            .set("lastMessageId", lastMessageId)
+            .inc("migratedCount", chunkCount)
+            .currentDate("updatedAt");
+        mongoTemplate.upsert(new Query(where("_id").is(CHECKPOINT_ID)), update, CHECKPOINT_COLLECTION);
+    }
+}
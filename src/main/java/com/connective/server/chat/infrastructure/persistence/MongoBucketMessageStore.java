@@ -0,0 +1,247 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import com.connective.server.chat.domain.document.MessageBucket;
+import com.connective.server.chat.domain.document.MessageBucket.BucketedMessage;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.repository.MessageStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * MongoDB 버킷 패턴 메시지 저장소 (message_buckets 컬렉션).
+ * 쓰기는 방별 메시지를 열린 버킷의 남은 자리와 bucket-size 단위 조각으로 나눠, 조각이 들어갈 자리가 있는
+ * 버킷(count <= bucket-size - 조각 크기)에 $push upsert 한다. 자리가 있는 버킷이 없으면 새 버킷이 만들어지므로
+ * 동시에 쓰더라도 한 버킷이 bucket-size를 넘지 않는다.
+ * 여러 노드가 동시에 새 버킷을 만들면 messageId 범위가 겹칠 수 있으므로 조회 시 버킷들을 병합해 정렬한다.
+ */
+@Component
+@ConditionalOnExpression("'${chat.message-store.type:jpa}' == 'mongo' or ${chat.message-store.migration.enabled:false}")
+@RequiredArgsConstructor
+@Slf4j
+public class MongoBucketMessageStore implements MessageStore {
+
+    // 버킷은 필요한 만큼만 순서대로 읽는다
+    private static final int BUCKET_CURSOR_BATCH_SIZE = 2;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.message-store.mongo.bucket-size:200}")
+    private int bucketSize;
+
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(MessageBucket.class);
+        indexOps.ensureIndex(new Index().on("roomId", Sort.Direction.ASC).on("lastMessageId", Sort.Direction.DESC)
+            .named("room_last_message"));
+        indexOps.ensureIndex(new Index().on("roomId", Sort.Direction.ASC).on("firstMessageId", Sort.Direction.ASC)
+            .named("room_first_message"));
+        indexOps.ensureIndex(new Index().on("roomId", Sort.Direction.ASC).on("count", Sort.Direction.ASC)
+            .named("room_open_bucket"));
+    }
+
+    @Override
+    public void saveAll(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Message>> byRoom = messages.stream()
+            .collect(Collectors.groupingBy(Message::getChatroomId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, Integer> openBucketCounts = findOpenBucketCounts(byRoom.keySet());
+
+        // 방마다 열린 버킷의 남은 자리를 먼저 채우고 나머지는 bucket-size 단위로 나눠 한 번의 bulk 요청으로 전송
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageBucket.class);
+        byRoom.forEach((roomId, roomMessages) -> {
+            List<Message> ascending = roomMessages.stream()
+                .sorted(Comparator.comparing(Message::getMessageId))
+                .toList();
+            int capacity = bucketSize - openBucketCounts.getOrDefault(roomId, 0);
+            for (int from = 0; from < ascending.size(); ) {
+                int to = Math.min(ascending.size(), from + capacity);
+                List<Message> part = ascending.subList(from, to);
+                bulk.upsert(bucketWithRoomFor(roomId, part.size()), appendTo(part));
+                from = to;
+                capacity = bucketSize;
+            }
+        });
+        bulk.execute();
+    }
+
+    /**
+     * 이미 버킷에 저장된 메시지를 제외합니다.
+     * 마이그레이션을 재시작할 때 체크포인트 직전 chunk가 다시 추가되어 중복과 count 증가가 생기지 않도록 사용합니다.
+     */
+    public List<Message> excludeStored(List<Message> messages) {
+        Map<Long, Set<Long>> idsByRoom = messages.stream()
+            .collect(Collectors.groupingBy(Message::getChatroomId,
+                Collectors.mapping(Message::getMessageId, Collectors.toSet())));
+
+        Set<Long> stored = new HashSet<>();
+        idsByRoom.forEach((roomId, ids) -> {
+            Query query = new Query(where("roomId").is(roomId).and("messages.messageId").in(ids));
+            query.fields().include("messages.messageId");
+            for (MessageBucket bucket : mongoTemplate.find(query, MessageBucket.class)) {
+                bucket.getMessages().stream()
+                    .map(BucketedMessage::getMessageId)
+                    .filter(ids::contains)
+                    .forEach(stored::add);
+            }
+        });
+        return messages.stream()
+            .filter(message -> !stored.contains(message.getMessageId()))
+            .toList();
+    }
+
+    @Override
+    public List<Message> findLatest(Long chatroomId, int limit) {
+        return findBefore(chatroomId, null, limit);
+    }
+
+    @Override
+    public List<Message> findBefore(Long chatroomId, Long cursor, int limit) {
+        Criteria criteria = where("roomId").is(chatroomId);
+        if (cursor != null) {
+            criteria = criteria.and("firstMessageId").lt(cursor);
+        }
+        Query query = new Query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "lastMessageId"))
+            .cursorBatchSize(BUCKET_CURSOR_BATCH_SIZE);
+
+        // 커서 이전 메시지 중 가장 최신 limit건 유지 (messageId 중복 제거 겸용)
+        TreeMap<Long, BucketedMessage> collected = new TreeMap<>();
+        try (Stream<MessageBucket> buckets = mongoTemplate.stream(query, MessageBucket.class)) {
+            Iterator<MessageBucket> iterator = buckets.iterator();
+            while (iterator.hasNext()) {
+                MessageBucket bucket = iterator.next();
+                // 이미 limit건을 모았고 이후 버킷은 모두 더 오래된 메시지뿐이면 중단
+                if (collected.size() >= limit && bucket.getLastMessageId() < collected.firstKey()) {
+                    break;
+                }
+                for (BucketedMessage message : bucket.getMessages()) {
+                    if (cursor == null || message.getMessageId() < cursor) {
+                        collected.put(message.getMessageId(), message);
+                    }
+                }
+                while (collected.size() > limit) {
+                    collected.pollFirstEntry();
+                }
+            }
+        }
+
+        return collected.descendingMap().values().stream()
+            .map(message -> message.toMessage(chatroomId))
+            .toList();
+    }
+
+    @Override
+    public List<Message> findAfter(Long chatroomId, Long cursor, int limit) {
+        Query query = new Query(where("roomId").is(chatroomId).and("lastMessageId").gt(cursor))
+            .with(Sort.by(Sort.Direction.ASC, "firstMessageId"))
+            .cursorBatchSize(BUCKET_CURSOR_BATCH_SIZE);
+
+        // 커서 이후 메시지 중 가장 오래된 limit건 유지
+        TreeMap<Long, BucketedMessage> collected = new TreeMap<>();
+        try (Stream<MessageBucket> buckets = mongoTemplate.stream(query, MessageBucket.class)) {
+            Iterator<MessageBucket> iterator = buckets.iterator();
+            while (iterator.hasNext()) {
+                MessageBucket bucket = iterator.next();
+                if (collected.size() >= limit && bucket.getFirstMessageId() > collected.lastKey()) {
+                    break;
+                }
+                for (BucketedMessage message : bucket.getMessages()) {
+                    if (message.getMessageId() > cursor) {
+                        collected.put(message.getMessageId(), message);
+                    }
+                }
+                while (collected.size() > limit) {
+                    collected.pollLastEntry();
+                }
+            }
+        }
+
+        return collected.values().stream()
+            .map(message -> message.toMessage(chatroomId))
+            .toList();
+    }
+
+    @Override
+    public List<Message> findByIds(Long chatroomId, Collection<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = new HashSet<>(messageIds);
+        Query query = new Query(where("roomId").is(chatroomId).and("messages.messageId").in(ids));
+
+        TreeMap<Long, BucketedMessage> collected = new TreeMap<>();
+        for (MessageBucket bucket : mongoTemplate.find(query, MessageBucket.class)) {
+            for (BucketedMessage message : bucket.getMessages()) {
+                if (ids.contains(message.getMessageId())) {
+                    collected.put(message.getMessageId(), message);
+                }
+            }
+        }
+        return collected.descendingMap().values().stream()
+            .map(message -> message.toMessage(chatroomId))
+            .toList();
+    }
+
+    // 방별로 가장 많이 찬 열린 버킷의 메시지 수. 남은 자리를 계산하는 데만 쓰고, 실제 대상은 upsert 조건이 다시 고른다
+    private Map<Long, Integer> findOpenBucketCounts(Collection<Long> roomIds) {
+        Query query = new Query(where("roomId").in(roomIds).and("count").lt(bucketSize));
+        query.fields().include("roomId").include("count");
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (MessageBucket bucket : mongoTemplate.find(query, MessageBucket.class)) {
+            counts.merge(bucket.getRoomId(), bucket.getCount(), Math::max);
+        }
+        return counts;
+    }
+
+    // size건이 들어갈 자리가 남은 버킷. 없으면 upsert로 새 버킷 생성 (범위 조건은 새 문서에 복사되지 않음)
+    private Query bucketWithRoomFor(Long roomId, int size) {
+        return new Query(where("roomId").is(roomId).and("count").lte(bucketSize - size));
+    }
+
+    private Update appendTo(List<Message> roomMessages) {
+        List<BucketedMessage> bucketed = roomMessages.stream()
+            .map(BucketedMessage::from)
+            .toList();
+        long first = roomMessages.stream().mapToLong(Message::getMessageId).min().orElseThrow();
+        long last = roomMessages.stream().mapToLong(Message::getMessageId).max().orElseThrow();
+
+        // 버킷 내 배열은 messageId 오름차순을 유지
+        return new Update()
+            .push("messages").sort(Sort.by(Sort.Direction.ASC, "messageId")).each(bucketed.toArray())
+            .inc("count", bucketed.size())
+            .min("firstMessageId", first)
+            .max("lastMessageId", last);
+    }
+}
@@ -0,0 +1,84 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.repository.MessageRepository;
+import com.connective.server.chat.domain.repository.MessageStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MySQL message 테이블 저장소. 쓰기는 JDBC 배치 INSERT, 조회는 JPA keyset 쿼리를 사용한다.
+ * (MongoDB 마이그레이션 중에도 기본 저장소로 사용되도록 @Primary)
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "chat.message-store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RelationalMessageStore implements MessageStore {
+
+    private static final String INSERT_MESSAGE_SQL =
+        "INSERT INTO message (message_id, chatroom_id, user_id, message_type, message_content, message_send_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MessageRepository messageRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void saveAll(List<Message> messages) {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messages, messages.size(), (ps, message) -> {
+                ps.setLong(1, message.getMessageId());
+                ps.setLong(2, message.getChatroomId());
+                ps.setLong(3, message.getUserId());
+                ps.setString(4, message.getMessageType().name());
+                ps.setString(5, message.getMessageContent());
+                ps.setObject(6, message.getMessageSendAt());
+            }));
+    }
+
+    @Override
+    public List<Message> findLatest(Long chatroomId, int limit) {
+        return messageRepository.findByChatroomIdOrderByMessageIdDesc(chatroomId, Limit.of(limit));
+    }
+
+    @Override
+    public List<Message> findBefore(Long chatroomId, Long cursor, int limit) {
+        if (cursor == null) {
+            return findLatest(chatroomId, limit);
+        }
+        return messageRepository.findByChatroomIdAndMessageIdLessThanOrderByMessageIdDesc(
+            chatroomId, cursor, Limit.of(limit));
+    }
+
+    @Override
+    public List<Message> findAfter(Long chatroomId, Long cursor, int limit) {
+        return messageRepository.findByChatroomIdAndMessageIdGreaterThanOrderByMessageIdAsc(
+            chatroomId, cursor, Limit.of(limit));
+    }
+
+    @Override
+    public List<Message> findByIds(Long chatroomId, Collection<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+        return messageRepository.findByChatroomIdAndMessageIdInOrderByMessageIdDesc(chatroomId, messageIds);
+    }
+}
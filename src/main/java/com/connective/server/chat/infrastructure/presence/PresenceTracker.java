@@ -0,0 +1,346 @@
+package com.connective.server.chat.infrastructure.presence;
+
+import com.connective.server.chat.domain.dto.PresenceDiffResponse;
+import com.connective.server.chat.infrastructure.broker.PubSubTransport;
+import com.connective.server.chat.infrastructure.broker.RoomSubscriptionRegistry;
+import com.connective.server.chat.infrastructure.cache.ChatRoomMembershipCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 접속 상태 추적기.
+ * 이 노드의 사용자별 STOMP 세션 수는 샤드별 잠금으로 관리하고, 온라인/오프라인 전환만 chat:presence 채널로
+ * 다른 노드에 전파한다. 다른 노드가 죽어 전환을 놓치지 않도록 주기적으로 전체 스냅샷을 보내고,
+ * 스냅샷이 node-timeout 동안 오지 않은 노드의 사용자는 오프라인으로 간주한다.
+ * 전환과 스냅샷은 같은 flush 작업에서 차례로 발행해 다른 노드에 발행 순서대로 도착하게 한다.
+ * 채팅방에는 flush 주기마다 바뀐 멤버만 모아, 그 사용자들이 속한 채팅방 중 이 노드에 구독자가 있는 방의
+ * /topic/chat/{roomId}/presence 로 한 번 전송한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceTracker implements PubSubTransport.Listener {
+
+    static final String PRESENCE_CHANNEL = "chat:presence";
+
+    // 메시지 형식: "{D|S}\n{nodeId}\n{ids}" (D: "+1,-2" 형태의 전환, S: 온라인 사용자 전체)
+    private static final String DELTA = "D";
+    private static final String SNAPSHOT = "S";
+
+    private final PubSubTransport transport;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomSubscriptionRegistry roomSubscriptionRegistry;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${chat.presence.shards:64}")
+    private int shardCount;
+
+    @Value("${chat.presence.snapshot-interval-ms:15000}")
+    private long snapshotIntervalMillis;
+
+    @Value("${chat.presence.node-timeout-ms:45000}")
+    private long nodeTimeoutMillis;
+
+    private Shard[] shards;
+    private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
+    private final Map<Long, Boolean> localTransitions = new ConcurrentHashMap<>();
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+    private final Map<String, RemoteNode> remoteNodes = new ConcurrentHashMap<>();
+    private long nextSnapshotAtMillis; // flush 스레드에서만 접근
+
+    @PostConstruct
+    public void init() {
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        transport.subscribe(PRESENCE_CHANNEL, this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transport.unsubscribe(PRESENCE_CHANNEL, this);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long userId = userIdOf(event.getUser());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (userId == null || sessionId == null || sessionUsers.putIfAbsent(sessionId, userId) != null) {
+            return;
+        }
+        connect(userId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        // 같은 세션의 disconnect 이벤트가 여러 번 올 수 있으므로 세션을 먼저 제거
+        Long userId = sessionUsers.remove(event.getSessionId());
+        if (userId != null) {
+            disconnect(userId);
+        }
+    }
+
+    public boolean isOnline(Long userId) {
+        if (isLocallyOnline(userId)) {
+            return true;
+        }
+        for (RemoteNode node : remoteNodes.values()) {
+            if (node.users.contains(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 주어진 사용자 중 어느 노드에든 접속 중인 사용자 ID를 반환합니다. (원격 조회 없음)
+     */
+    public Set<Long> getOnlineUserIds(Collection<Long> userIds) {
+        Set<Long> online = new HashSet<>();
+        for (Long userId : userIds) {
+            if (isOnline(userId)) {
+                online.add(userId);
+            }
+        }
+        return online;
+    }
+
+    public int getLocalOnlineUserCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                count += shard.connectionCounts.size();
+            }
+        }
+        return count;
+    }
+
+    public int getRemoteNodeCount() {
+        return remoteNodes.size();
+    }
+
+    void connect(Long userId) {
+        Shard shard = shardOf(userId);
+        synchronized (shard) {
+            // 전환 기록도 샤드 잠금 안에서 남겨 동시 접속/종료 순서가 뒤바뀌지 않도록 함
+            if (shard.connectionCounts.merge(userId, 1, Integer::sum) == 1) {
+                localTransitions.put(userId, true);
+                changedUsers.add(userId);
+            }
+        }
+    }
+
+    void disconnect(Long userId) {
+        Shard shard = shardOf(userId);
+        synchronized (shard) {
+            Integer remaining = shard.connectionCounts.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+            if (remaining == null) {
+                localTransitions.put(userId, false);
+                changedUsers.add(userId);
+            }
+        }
+    }
+
+    /**
+     * 이 노드의 전환(주기가 되면 스냅샷도)을 다른 노드에 전파하고, 바뀐 사용자를 채팅방별 diff로 묶어
+     * 로컬 구독자에게 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.flush-interval-ms:1000}")
+    public void flush() {
+        // 별도 작업으로 발행하면 먼저 만든 스냅샷이 나중의 전환보다 늦게 도착해 전환을 되돌릴 수 있다
+        publishTransitions();
+        long now = System.currentTimeMillis();
+        if (now >= nextSnapshotAtMillis) {
+            nextSnapshotAtMillis = now + snapshotIntervalMillis;
+            publishSnapshot();
+        }
+
+        if (changedUsers.isEmpty()) {
+            return;
+        }
+        Set<Long> changed = new HashSet<>();
+        for (Long userId : changedUsers) {
+            if (changedUsers.remove(userId)) {
+                changed.add(userId);
+            }
+        }
+
+        // 바뀐 사용자의 채팅방만 찾아 이 노드에 구독자가 있는 방으로 묶는다
+        // 전환 시점이 아니라 전송 시점의 상태를 보내므로 주기 안에서 접속했다 끊은 사용자는 오프라인으로 한 번만 전송
+        Map<Long, RoomDiff> diffs = new HashMap<>();
+        chatRoomMembershipCache.getRoomIds(changed).forEach((userId, chatroomIds) -> {
+            boolean online = isOnline(userId);
+            for (Long chatroomId : chatroomIds) {
+                if (roomSubscriptionRegistry.isRoomSubscribed(chatroomId)) {
+                    RoomDiff diff = diffs.computeIfAbsent(chatroomId, id -> new RoomDiff());
+                    (online ? diff.online : diff.offline).add(userId);
+                }
+            }
+        });
+        diffs.forEach(this::sendRoomDiff);
+    }
+
+    /**
+     * 이 노드의 온라인 사용자 전체를 전파하고, 스냅샷이 끊긴 노드를 제거합니다. (snapshot-interval마다 flush에서 호출)
+     */
+    void publishSnapshot() {
+        StringJoiner ids = new StringJoiner(",");
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.connectionCounts.keySet().forEach(userId -> ids.add(String.valueOf(userId)));
+            }
+        }
+        publish(SNAPSHOT, ids.toString());
+        expireRemoteNodes();
+    }
+
+    @Override
+    public void onMessage(String channel, byte[] payload) {
+        String[] parts = new String(payload, StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length < 3 || nodeId.equals(parts[1])) {
+            return; // 자신이 보낸 메시지
+        }
+
+        RemoteNode node = remoteNodes.computeIfAbsent(parts[1], id -> new RemoteNode());
+        node.lastSeenMillis = System.currentTimeMillis();
+        if (DELTA.equals(parts[0])) {
+            applyDelta(node, parts[2]);
+        } else if (SNAPSHOT.equals(parts[0])) {
+            applySnapshot(node, parts[2]);
+        }
+    }
+
+    private void applyDelta(RemoteNode node, String body) {
+        for (String token : body.split(",")) {
+            if (token.length() < 2) {
+                continue;
+            }
+            Long userId = Long.valueOf(token.substring(1));
+            boolean changed = token.charAt(0) == '+' ? node.users.add(userId) : node.users.remove(userId);
+            if (changed) {
+                changedUsers.add(userId);
+            }
+        }
+    }
+
+    private void applySnapshot(RemoteNode node, String body) {
+        Set<Long> users = ConcurrentHashMap.newKeySet();
+        if (!body.isEmpty()) {
+            for (String id : body.split(",")) {
+                users.add(Long.valueOf(id));
+            }
+        }
+
+        Set<Long> previous = node.users;
+        node.users = users;
+        for (Long userId : users) {
+            if (!previous.contains(userId)) {
+                changedUsers.add(userId);
+            }
+        }
+        for (Long userId : previous) {
+            if (!users.contains(userId)) {
+                changedUsers.add(userId);
+            }
+        }
+    }
+
+    private void expireRemoteNodes() {
+        long deadline = System.currentTimeMillis() - nodeTimeoutMillis;
+        remoteNodes.forEach((id, node) -> {
+            if (node.lastSeenMillis < deadline && remoteNodes.remove(id, node)) {
+                changedUsers.addAll(node.users);
+                log.warn("Presence node {} timed out. Marked {} users offline", id, node.users.size());
+            }
+        });
+    }
+
+    private void publishTransitions() {
+        if (localTransitions.isEmpty()) {
+            return;
+        }
+        StringJoiner body = new StringJoiner(",");
+        for (Map.Entry<Long, Boolean> entry : localTransitions.entrySet()) {
+            if (localTransitions.remove(entry.getKey(), entry.getValue())) {
+                body.add((entry.getValue() ? "+" : "-") + entry.getKey());
+            }
+        }
+        publish(DELTA, body.toString());
+    }
+
+    private void sendRoomDiff(Long chatroomId, RoomDiff diff) {
+        String roomId = String.valueOf(chatroomId);
+        messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/presence", PresenceDiffResponse.builder()
+            .roomId(roomId)
+            .online(diff.online)
+            .offline(diff.offline)
+            .build());
+    }
+
+    private void publish(String type, String body) {
+        byte[] payload = (type + "\n" + nodeId + "\n" + body).getBytes(StandardCharsets.UTF_8);
+        transport.publish(List.of(new PubSubTransport.ChannelMessage(PRESENCE_CHANNEL, payload)));
+    }
+
+    private boolean isLocallyOnline(Long userId) {
+        Shard shard = shardOf(userId);
+        synchronized (shard) {
+            return shard.connectionCounts.containsKey(userId);
+        }
+    }
+
+    private Shard shardOf(Long userId) {
+        return shards[Math.floorMod(Long.hashCode(userId), shards.length)];
+    }
+
+    private static Long userIdOf(Principal principal) {
+        if (principal instanceof Authentication authentication && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    private static final class Shard {
+
+        private final Map<Long, Integer> connectionCounts = new HashMap<>();
+    }
+
+    private static final class RoomDiff {
+
+        private final List<Long> online = new ArrayList<>();
+        private final List<Long> offline = new ArrayList<>();
+    }
+
+    private static final class RemoteNode {
+
+        private volatile Set<Long> users = ConcurrentHashMap.newKeySet();
+        private volatile long lastSeenMillis = System.currentTimeMillis();
+    }
+}
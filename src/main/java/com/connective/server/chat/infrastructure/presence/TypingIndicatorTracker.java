@@ -0,0 +1,102 @@
+package com.connective.server.chat.infrastructure.presence;
+
+import com.connective.server.chat.domain.dto.TypingEventResponse;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중 표시 등 일시적인 신호 처리기.
+ * 메시지 저장/이력과 분리된 /topic/chat/{roomId}/typing 으로만 전달하며 DB에는 기록하지 않는다.
+ * 같은 (채팅방, 사용자)의 반복 입력 이벤트는 coalesce-window 동안 한 번만 전파하고,
+ * ttl 동안 갱신이 없으면 입력 중단을 전파한 뒤 상태를 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TypingIndicatorTracker {
+
+    private static final String TYPING_SUFFIX = "/typing";
+
+    private final RoomMessageBroadcaster roomMessageBroadcaster;
+
+    @Value("${chat.typing.coalesce-window-ms:3000}")
+    private long coalesceWindowMillis;
+
+    @Value("${chat.typing.ttl-ms:5000}")
+    private long ttlMillis;
+
+    private final Map<TypingKey, TypingState> typingStates = new ConcurrentHashMap<>();
+
+    public void onTyping(String roomId, Long userId, boolean typing) {
+        onTyping(roomId, userId, typing, System.currentTimeMillis());
+    }
+
+    /**
+     * 메시지를 보낸 사용자의 입력 중 표시를 즉시 지웁니다.
+     */
+    public void clear(String roomId, Long userId) {
+        onTyping(roomId, userId, false, System.currentTimeMillis());
+    }
+
+    public int getActiveCount() {
+        return typingStates.size();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.typing.sweep-interval-ms:1000}")
+    public void sweepExpired() {
+        sweepExpired(System.currentTimeMillis());
+    }
+
+    void onTyping(String roomId, Long userId, boolean typing, long now) {
+        TypingKey key = new TypingKey(roomId, userId);
+        if (!typing) {
+            if (typingStates.remove(key) != null) {
+                broadcast(key, false);
+            }
+            return;
+        }
+
+        // 만료 시각은 매번 연장하고, 전파는 마지막 전파 후 coalesce-window가 지났을 때만
+        boolean[] shouldBroadcast = new boolean[1];
+        typingStates.compute(key, (k, state) -> {
+            if (state == null || state.expiresAt <= now || now - state.lastBroadcastAt >= coalesceWindowMillis) {
+                shouldBroadcast[0] = true;
+                return new TypingState(now + ttlMillis, now);
+            }
+            return new TypingState(now + ttlMillis, state.lastBroadcastAt);
+        });
+        if (shouldBroadcast[0]) {
+            broadcast(key, true);
+        }
+    }
+
+    void sweepExpired(long now) {
+        typingStates.forEach((key, state) -> {
+            if (state.expiresAt <= now && typingStates.remove(key, state)) {
+                broadcast(key, false);
+            }
+        });
+    }
+
+    private void broadcast(TypingKey key, boolean typing) {
+        roomMessageBroadcaster.broadcastToRoom(key.roomId(), TYPING_SUFFIX, TypingEventResponse.builder()
+            .roomId(key.roomId())
+            .userId(key.userId())
+            .typing(typing)
+            .expiresInMs(typing ? ttlMillis : 0)
+            .build());
+    }
+
+    private record TypingKey(String roomId, Long userId) {
+    }
+
+    private record TypingState(long expiresAt, long lastBroadcastAt) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.connective.server.chat.infrastructure.ratelimit;
+
+import com.connective.server.chat.domain.dto.ChatErrorResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트가 보내는 SEND 프레임의 사용자별/채팅방별 전송 속도 제한.
+ * 채팅 메시지(/app/chat/{roomId})는 사용자 버킷과 채팅방 버킷을 함께 쓰고, 입력 중/읽음/이력 조회/입장/퇴장 같은
+ * 하위 destination은 빈도가 높고 서버에서 합쳐 처리하므로 사용자별 별도 버킷(ephemeral)만 쓴다.
+ * 인증 인터셉터 다음에 실행되며, 한도를 넘은 프레임은 버리고 발신자 개인 큐(/user/queue/errors)로 거절 사유를 보낸다.
+ * 거절 응답도 사용자별로 속도를 제한해, 계속 보내는 클라이언트에게 버린 프레임마다 응답이 나가지 않게 한다.
+ * 버킷은 최대 개수가 정해진 Caffeine 캐시에 두고 일정 시간 사용되지 않으면 제거한다.
+ */
+@Component
+@Slf4j
+public class InboundRateLimiter implements ChannelInterceptor {
+
+    private static final Pattern ROOM_APP_DESTINATION = Pattern.compile("^/app/chat/(\\d+)(/.*)?$");
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${chat.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.rate-limit.user.capacity:20}")
+    private int userCapacity;
+
+    @Value("${chat.rate-limit.user.refill-per-second:10}")
+    private double userRefillPerSecond;
+
+    @Value("${chat.rate-limit.room.capacity:200}")
+    private int roomCapacity;
+
+    @Value("${chat.rate-limit.room.refill-per-second:100}")
+    private double roomRefillPerSecond;
+
+    @Value("${chat.rate-limit.ephemeral.capacity:50}")
+    private int ephemeralCapacity;
+
+    @Value("${chat.rate-limit.ephemeral.refill-per-second:20}")
+    private double ephemeralRefillPerSecond;
+
+    @Value("${chat.rate-limit.error-reply.capacity:3}")
+    private int errorReplyCapacity;
+
+    @Value("${chat.rate-limit.error-reply.refill-per-second:1}")
+    private double errorReplyRefillPerSecond;
+
+    @Value("${chat.rate-limit.max-buckets:100000}")
+    private long maxBuckets;
+
+    @Value("${chat.rate-limit.idle-timeout:10m}")
+    private Duration idleTimeout;
+
+    private Cache<Long, TokenBucket> userBuckets;
+    private Cache<Long, TokenBucket> roomBuckets;
+    private Cache<Long, TokenBucket> ephemeralBuckets;
+    private Cache<Long, TokenBucket> errorReplyBuckets;
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder userThrottledCount = new LongAdder();
+    private final LongAdder roomThrottledCount = new LongAdder();
+    private final LongAdder ephemeralThrottledCount = new LongAdder();
+    private final LongAdder suppressedReplyCount = new LongAdder();
+
+    // 브로커 설정이 인터셉터 등록보다 나중에 끝나므로 템플릿은 지연 주입
+    public InboundRateLimiter(@Lazy SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.userBuckets = Caffeine.newBuilder()
+            .maximumSize(maxBuckets)
+            .expireAfterAccess(idleTimeout)
+            .build();
+        this.roomBuckets = Caffeine.newBuilder()
+            .maximumSize(maxBuckets)
+            .expireAfterAccess(idleTimeout)
+            .build();
+        this.ephemeralBuckets = Caffeine.newBuilder()
+            .maximumSize(maxBuckets)
+            .expireAfterAccess(idleTimeout)
+            .build();
+        this.errorReplyBuckets = Caffeine.newBuilder()
+            .maximumSize(maxBuckets)
+            .expireAfterAccess(idleTimeout)
+            .build();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        Long userId = accessor.getUser() instanceof Authentication authentication
+            && authentication.getPrincipal() instanceof Long id ? id : null;
+        if (userId == null) {
+            return message;
+        }
+
+        Matcher matcher = matchRoomDestination(accessor.getDestination());
+        if (matcher != null && matcher.group(2) != null) {
+            // 채팅방 하위 destination: 채팅 메시지 한도와 채팅방 한도를 쓰지 않는다
+            if (!ephemeralBuckets.get(userId, id -> new TokenBucket(ephemeralCapacity, ephemeralRefillPerSecond))
+                .tryAcquire()) {
+                ephemeralThrottledCount.increment();
+                reject(userId, accessor, ChatErrorResponse.ErrorCode.RATE_LIMITED_USER);
+                return null;
+            }
+            allowedCount.increment();
+            return message;
+        }
+
+        if (!userBuckets.get(userId, id -> new TokenBucket(userCapacity, userRefillPerSecond)).tryAcquire()) {
+            userThrottledCount.increment();
+            reject(userId, accessor, ChatErrorResponse.ErrorCode.RATE_LIMITED_USER);
+            return null;
+        }
+
+        Long roomId = matcher != null ? Long.valueOf(matcher.group(1)) : null;
+        if (roomId != null
+            && !roomBuckets.get(roomId, id -> new TokenBucket(roomCapacity, roomRefillPerSecond)).tryAcquire()) {
+            roomThrottledCount.increment();
+            reject(userId, accessor, ChatErrorResponse.ErrorCode.RATE_LIMITED_ROOM);
+            return null;
+        }
+
+        allowedCount.increment();
+        return message;
+    }
+
+    public long getAllowedCount() {
+        return allowedCount.sum();
+    }
+
+    public long getUserThrottledCount() {
+        return userThrottledCount.sum();
+    }
+
+    public long getRoomThrottledCount() {
+        return roomThrottledCount.sum();
+    }
+
+    public long getEphemeralThrottledCount() {
+        return ephemeralThrottledCount.sum();
+    }
+
+    public long getSuppressedReplyCount() {
+        return suppressedReplyCount.sum();
+    }
+
+    public long getTrackedBucketCount() {
+        return userBuckets.estimatedSize() + roomBuckets.estimatedSize()
+            + ephemeralBuckets.estimatedSize() + errorReplyBuckets.estimatedSize();
+    }
+
+    private void reject(Long userId, StompHeaderAccessor accessor, ChatErrorResponse.ErrorCode code) {
+        log.debug("Rejected frame from user {} to {}: {}", userId, accessor.getDestination(), code);
+        if (!errorReplyBuckets.get(userId, id -> new TokenBucket(errorReplyCapacity, errorReplyRefillPerSecond))
+            .tryAcquire()) {
+            suppressedReplyCount.increment();
+            return;
+        }
+        // STOMP ERROR 프레임은 연결을 끊으므로, 연결은 유지한 채 개인 큐로 거절 사유 전달
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), "/queue/errors", ChatErrorResponse.builder()
+            .code(code)
+            .destination(accessor.getDestination())
+            .receiptId(accessor.getReceipt())
+            .message("Too many messages. Please slow down.")
+            .timestamp(LocalDateTime.now())
+            .build());
+    }
+
+    // group(1): 채팅방 ID, group(2): 하위 경로 (채팅 메시지 destination이면 null)
+    private static Matcher matchRoomDestination(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_APP_DESTINATION.matcher(destination);
+        return matcher.matches() ? matcher : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.connective.server.chat.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷.
+ * 남은 토큰 수 대신 "버킷이 가득 차는 이론적 시각"(GCRA의 TAT) 하나만 AtomicLong으로 관리해
+ * 토큰 보충과 소비를 CAS 한 번으로 처리한다. capacity만큼 연속 요청(burst)을 허용하고,
+ * 이후에는 초당 refillPerSecond개씩 다시 허용한다.
+ */
+public class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and refill rate must be positive");
+        }
+        this.nanosPerToken = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.capacityNanos = nanosPerToken * capacity;
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat == Long.MIN_VALUE || tat - nowNanos < 0 ? nowNanos : tat;
+            long next = base + nanosPerToken;
+            if (next - nowNanos > capacityNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+}
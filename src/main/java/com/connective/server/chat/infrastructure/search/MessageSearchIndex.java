@@ -0,0 +1,149 @@
+package com.connective.server.chat.infrastructure.search;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.event.MessagesPersistedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방별 메시지 역색인 (message_search_token).
+ * 저장이 끝난 메시지 배치(MessagesPersistedEvent)를 큐에 넣고 전용 스레드가 모아서 색인하므로
+ * 발송 경로와 배치 저장 경로에는 토큰화/색인 비용이 더해지지 않는다.
+ * 큐가 가득 차면 해당 메시지는 색인하지 않고 건수만 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageSearchIndex {
+
+    private static final String INSERT_TOKEN_SQL =
+        "INSERT IGNORE INTO message_search_token (chatroom_id, token, message_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${chat.search.index.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.search.index.flush-interval-ms:200}")
+    private long flushIntervalMillis;
+
+    @Value("${chat.search.index.queue-capacity:50000}")
+    private int queueCapacity;
+
+    private BlockingQueue<Message> queue;
+    private Thread indexer;
+    private volatile boolean running;
+    private final LongAdder droppedCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.indexer = new Thread(this::runIndexLoop, "message-search-indexer");
+        this.indexer.setDaemon(true);
+        this.indexer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        indexer.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("Message search indexer stopped. Remaining queued messages: {}", queue.size());
+    }
+
+    @EventListener
+    public void onMessagesPersisted(MessagesPersistedEvent event) {
+        for (Message message : event.getMessages()) {
+            if (message.getMessageType() != Message.MessageType.TEXT || message.getMessageContent() == null) {
+                continue;
+            }
+            if (!running || !queue.offer(message)) {
+                droppedCount.increment();
+            }
+        }
+    }
+
+    /**
+     * 모든 토큰을 가진 메시지 ID를 최신순으로 조회합니다. bigram 일치 후보이므로 본문 확인이 필요합니다.
+     *
+     * @param cursor 이 ID보다 이전 메시지만 조회 (null이면 최신부터)
+     */
+    public List<Long> findCandidateIds(Long chatroomId, Collection<Long> tokens, Long cursor, int limit) {
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(tokens.size(), "?"));
+        String sql = "SELECT message_id FROM message_search_token"
+            + " WHERE chatroom_id = ? AND token IN (" + placeholders + ")"
+            + (cursor != null ? " AND message_id < ?" : "")
+            + " GROUP BY message_id HAVING COUNT(*) = ?"
+            + " ORDER BY message_id DESC LIMIT ?";
+
+        List<Object> args = new ArrayList<>(tokens.size() + 4);
+        args.add(chatroomId);
+        args.addAll(tokens);
+        if (cursor != null) {
+            args.add(cursor);
+        }
+        args.add(tokens.size());
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private void runIndexLoop() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                index(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to index {} messages for search: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void index(List<Message> messages) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Message message : messages) {
+            for (Long token : MessageTokenizer.tokenize(message.getMessageContent())) {
+                rows.add(new Object[]{message.getChatroomId(), token, message.getMessageId()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.connective.server.chat.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 메시지 검색용 bigram 토크나이저.
+ * 형태소 분석 없이 한국어를 검색할 수 있도록, 정규화(NFKC + 소문자)한 본문을 글자/숫자 단위 단어로 나누고
+ * 각 단어의 연속한 두 코드 포인트를 토큰으로 사용한다. 토큰은 두 코드 포인트를 하나의 long으로 묶어 충돌이 없다.
+ */
+public final class MessageTokenizer {
+
+    private static final int CODE_POINT_BITS = 21;
+
+    private MessageTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 텍스트를 글자/숫자가 이어진 단어로 나눕니다.
+     */
+    public static List<String> terms(String normalized) {
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(codePoint);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(normalized.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            terms.add(normalized.substring(start));
+        }
+        return terms;
+    }
+
+    /**
+     * 본문을 색인할 토큰 집합으로 변환합니다. 한 글자 단어는 토큰을 만들지 않습니다.
+     */
+    public static Set<Long> tokenize(String text) {
+        Set<Long> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String term : terms(normalize(text))) {
+            addTokens(term, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 단어들의 토큰 집합. 모든 토큰을 포함한 메시지가 후보가 됩니다.
+     * 한 글자 단어는 후보 조회에 쓰이지 않고 본문 확인 단계에서만 검사됩니다.
+     */
+    public static Set<Long> tokenize(List<String> terms) {
+        Set<Long> tokens = new LinkedHashSet<>();
+        for (String term : terms) {
+            addTokens(term, tokens);
+        }
+        return tokens;
+    }
+
+    private static void addTokens(String term, Set<Long> tokens) {
+        int[] codePoints = term.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(((long) codePoints[i] << CODE_POINT_BITS) | codePoints[i + 1]);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.connective.server.chat.infrastructure.security;
 
-import com.connective.server.user.infrastructure.security.JwtTokenProvider;
+import com.connective.server.chat.infrastructure.cache.ChatRoomMembershipCache;
+import com.connective.server.user.infrastructure.security.JwtAuthenticationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -10,17 +11,26 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
 import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private static final String ROOM_TOPIC_PREFIX = "/topic/chat/";
+    private static final String ROOM_APP_PREFIX = "/app/chat/";
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/(?:topic|app)/chat/(\\d+)(?:/.*)?$");
+
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -34,9 +44,8 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
                 token = token.substring(7);
                 
                 try {
-                    if (jwtTokenProvider.validateToken(token)) {
-                        Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                        
+                    Long userId = jwtAuthenticationCache.authenticate(token);
+                    if (userId != null) {
                         // 인증 정보를 WebSocket 세션에 설정
                         UsernamePasswordAuthenticationToken authentication = 
                             new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
@@ -58,7 +67,41 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
                 throw new IllegalArgumentException("Missing Authorization header");
             }
         }
+
+        if (accessor != null && (StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+                || StompCommand.SEND.equals(accessor.getCommand()))) {
+            // 채팅방 구독/전송은 해당 채팅방 멤버만 가능 (캐시 조회로 DB 접근 없음)
+            authorizeRoomAccess(accessor);
+        }
         
         return message;
     }
+
+    private void authorizeRoomAccess(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null
+                || !(destination.startsWith(ROOM_TOPIC_PREFIX) || destination.startsWith(ROOM_APP_PREFIX))) {
+            return;
+        }
+
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid chat room destination: " + destination);
+        }
+
+        Long roomId = Long.valueOf(matcher.group(1));
+        Long userId = getUserId(accessor.getUser());
+        if (userId == null || !chatRoomMembershipCache.isMember(roomId, userId)) {
+            log.warn("User {} denied {} to chat room {}", userId, accessor.getCommand(), roomId);
+            throw new IllegalArgumentException("User " + userId + " is not a member of chat room " + roomId);
+        }
+    }
+
+    private Long getUserId(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+package com.connective.server.chat.infrastructure.stomp;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MESSAGE 프레임을 공유 풀에서 빌린 버퍼에 조립하는 StompEncoder.
+ * 브로드캐스트 시 구독자 수만큼 호출되므로, 프레임 조립 중 생기는 중간 버퍼 없이
+ * 최종 프레임 배열 하나만 할당한다. 그 외 프레임은 기본 구현을 그대로 사용한다.
+ * VIRTUAL 모드에서는 작업마다 새 가상 스레드가 만들어져 스레드별 버퍼가 재사용되지 않으므로,
+ * 스레드와 무관한 크기 제한 풀을 쓴다. 풀이 비어 있으면 새 버퍼를 만들고, 가득 차면 반납된 버퍼를 버린다.
+ */
+public class PooledStompEncoder extends StompEncoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+    private static final int HEADER_KEY_CACHE_LIMIT = 64;
+
+    private static final byte LF = '\n';
+    private static final byte COLON = ':';
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CONTENT_LENGTH = "content-length:".getBytes(StandardCharsets.UTF_8);
+
+    private final Queue<FrameBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledCount = new AtomicInteger();
+    private final int maxPooledBuffers;
+    private final Map<String, byte[]> headerKeyCache = new ConcurrentHashMap<>();
+
+    public PooledStompEncoder() {
+        // 동시에 프레임을 조립하는 스레드 수는 대략 코어 수 정도이므로 그만큼만 보관한다
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * @param maxPooledBuffers 풀에 보관할 최대 버퍼 수
+     */
+    public PooledStompEncoder(int maxPooledBuffers) {
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    @Override
+    public byte[] encode(Map<String, Object> headers, byte[] payload) {
+        if (StompHeaderAccessor.getCommand(headers) != StompCommand.MESSAGE) {
+            return super.encode(headers, payload);
+        }
+
+        FrameBuffer buffer = acquire();
+        try {
+            buffer.write(MESSAGE_COMMAND);
+            writeHeaders(headers, buffer);
+            buffer.write(CONTENT_LENGTH);
+            buffer.writeAscii(Integer.toString(payload.length));
+            buffer.write(LF);
+            buffer.write(LF);
+            buffer.write(payload);
+            buffer.write((byte) 0);
+            return buffer.toByteArray();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    public int getPooledBufferCount() {
+        return pooledCount.get();
+    }
+
+    private FrameBuffer acquire() {
+        FrameBuffer buffer = pool.poll();
+        if (buffer == null) {
+            return new FrameBuffer();
+        }
+        pooledCount.decrementAndGet();
+        buffer.reset();
+        return buffer;
+    }
+
+    private void release(FrameBuffer buffer) {
+        buffer.shrinkIfOversized();
+        if (pooledCount.incrementAndGet() > maxPooledBuffers) {
+            pooledCount.decrementAndGet();
+            return;
+        }
+        pool.offer(buffer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeHeaders(Map<String, Object> headers, FrameBuffer buffer) {
+        Map<String, List<String>> nativeHeaders =
+            (Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        if (nativeHeaders == null) {
+            return;
+        }
+        for (Map.Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+            // content-length는 실제 payload 길이로 다시 기록
+            if ("content-length".equals(entry.getKey())) {
+                continue;
+            }
+            byte[] key = encodeHeaderKey(entry.getKey());
+            for (String value : entry.getValue()) {
+                buffer.write(key);
+                buffer.write(COLON);
+                writeEscaped(value, buffer);
+                buffer.write(LF);
+            }
+        }
+    }
+
+    private byte[] encodeHeaderKey(String key) {
+        byte[] cached = headerKeyCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] encoded = escape(key).getBytes(StandardCharsets.UTF_8);
+        if (headerKeyCache.size() < HEADER_KEY_CACHE_LIMIT) {
+            headerKeyCache.put(key, encoded);
+        }
+        return encoded;
+    }
+
+    // ASCII 값은 문자열을 새로 만들지 않고 바로 버퍼에 기록
+    private static void writeEscaped(String value, FrameBuffer buffer) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x80) {
+                buffer.write(escape(value.substring(i)).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            switch (ch) {
+                case '\\' -> buffer.writeAscii("\\\\");
+                case ':' -> buffer.writeAscii("\\c");
+                case '\n' -> buffer.writeAscii("\\n");
+                case '\r' -> buffer.writeAscii("\\r");
+                default -> buffer.write((byte) ch);
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '\\' -> builder.append("\\\\");
+                case ':' -> builder.append("\\c");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                default -> builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static final class FrameBuffer {
+
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int size;
+
+        private void reset() {
+            size = 0;
+        }
+
+        private void write(byte b) {
+            ensureCapacity(1);
+            bytes[size++] = b;
+        }
+
+        private void write(byte[] source) {
+            ensureCapacity(source.length);
+            System.arraycopy(source, 0, bytes, size, source.length);
+            size += source.length;
+        }
+
+        private void writeAscii(String value) {
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                bytes[size++] = (byte) value.charAt(i);
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        // 큰 프레임 한 번 때문에 커진 버퍼를 풀에 계속 들고 있지 않도록 축소
+        private void shrinkIfOversized() {
+            if (bytes.length > MAX_POOLED_BUFFER_SIZE) {
+                bytes = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        private void ensureCapacity(int additional) {
+            int required = size + additional;
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.connective.server.chat.infrastructure.stomp;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP 엔드포인트 등록이 끝난 뒤(서버 기동 전) StompSubProtocolHandler의 인코더를 PooledStompEncoder로 교체한다.
+ * StompEndpointRegistry에는 인코더 설정 지점이 없어 핸들러에 직접 설정한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompEncoderInstaller implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        PooledStompEncoder encoder = new PooledStompEncoder();
+        beanFactory.getBeansOfType(SubProtocolWebSocketHandler.class).values().forEach(handler ->
+            handler.getProtocolHandlers().stream()
+                .filter(StompSubProtocolHandler.class::isInstance)
+                .map(StompSubProtocolHandler.class::cast)
+                .forEach(stompHandler -> {
+                    stompHandler.setEncoder(encoder);
+                    log.info("Installed pooled STOMP encoder on {}", stompHandler);
+                }));
+    }
+}
@@ -0,0 +1,13 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+/**
+ * STOMP 채널 실행기의 스레드 종류
+ */
+public enum ChannelThreadMode {
+
+    PLATFORM,
+
+    // 작업마다 가상 스레드를 만들어 블로킹 JPA/Redis 호출 중에도 캐리어 스레드를 점유하지 않음
+    // (풀 설정 대신 virtual-concurrency-limit이 동시 처리 상한)
+    VIRTUAL
+}
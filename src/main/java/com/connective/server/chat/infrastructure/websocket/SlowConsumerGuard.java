@@ -0,0 +1,227 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 구독자 보호.
+ * clientOutboundChannel에 들어온 MESSAGE 프레임 수와 실제 소켓에 쓰인 프레임 수의 차이로 세션별 적체량을 추적하고,
+ * 적체량이 max-pending-messages를 넘거나 소켓 쓰기가 max-send-blocked-ms 이상 막혀 있으면 정책(DROP/COALESCE/DISCONNECT)을 적용한다.
+ * 한 세션의 적체가 outbound 스레드와 세션 버퍼를 잡고 있지 않도록 Spring의 send-time/buffer 한도보다 먼저 개입한다.
+ */
+@Component
+@Slf4j
+public class SlowConsumerGuard implements ChannelInterceptor {
+
+    private static final byte[] MESSAGE_FRAME_PREFIX = "MESSAGE\n".getBytes(StandardCharsets.UTF_8);
+
+    @Value("${chat.websocket.slow-consumer.policy:DISCONNECT}")
+    private SlowConsumerPolicy policy;
+
+    @Value("${chat.websocket.slow-consumer.max-pending-messages:256}")
+    private int maxPendingMessages;
+
+    @Value("${chat.websocket.slow-consumer.max-send-blocked-ms:2000}")
+    private long maxSendBlockedMillis;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong disconnectedCount = new AtomicLong();
+    private volatile MessageChannel outboundChannel;
+
+    /**
+     * WebSocketTransportRegistration에 등록하는 핸들러 데코레이터. 세션별 전송 상태를 추적한다.
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState(session);
+                sessions.put(session.getId(), state);
+                // 하위 핸들러(SubProtocolWebSocketHandler)는 이 세션을 ConcurrentWebSocketSessionDecorator로 감싸 사용
+                super.afterConnectionEstablished(new TrackingSession(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        SessionState state = sessions.get(SimpMessageHeaderAccessor.getSessionId(headers));
+        if (state == null) {
+            return message;
+        }
+        if (outboundChannel == null) {
+            outboundChannel = channel;
+        }
+
+        if (!isSlow(state)) {
+            state.pending.incrementAndGet();
+            return message;
+        }
+
+        switch (policy) {
+            case DROP -> droppedCount.incrementAndGet();
+            case COALESCE -> {
+                String destination = SimpMessageHeaderAccessor.getDestination(headers);
+                state.coalesced.put(destination != null ? destination : "", message);
+                coalescedCount.incrementAndGet();
+            }
+            case DISCONNECT -> disconnect(state);
+        }
+        return null;
+    }
+
+    public SlowConsumerPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getTrackedSessionCount() {
+        return sessions.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getDisconnectedCount() {
+        return disconnectedCount.get();
+    }
+
+    private boolean isSlow(SessionState state) {
+        if (state.pending.get() >= maxPendingMessages) {
+            return true;
+        }
+        long sendStartedNanos = state.sendStartedNanos;
+        return sendStartedNanos != 0
+            && System.nanoTime() - sendStartedNanos > TimeUnit.MILLISECONDS.toNanos(maxSendBlockedMillis);
+    }
+
+    private void disconnect(SessionState state) {
+        if (!state.closing.compareAndSet(false, true)) {
+            return;
+        }
+        disconnectedCount.incrementAndGet();
+        log.warn("Closing slow WebSocket session {} (pending={})", state.session.getId(), state.pending.get());
+        try {
+            state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | RuntimeException e) {
+            // 막혀 있는 쓰기 때문에 닫기에 실패하면 send-time-limit에 의해 정리됨
+            log.debug("Failed to close slow session {}: {}", state.session.getId(), e.getMessage());
+        }
+    }
+
+    private void onMessageFrameWritten(SessionState state) {
+        int remaining = state.pending.decrementAndGet();
+        if (remaining < 0) {
+            state.pending.compareAndSet(remaining, 0);
+        }
+        // 적체가 해소되면 모아둔 최신 메시지를 다시 outbound 채널로 보낸다
+        MessageChannel channel = outboundChannel;
+        if (remaining <= 0 && channel != null && !state.coalesced.isEmpty()) {
+            Iterator<Message<?>> iterator = state.coalesced.values().iterator();
+            while (iterator.hasNext()) {
+                Message<?> coalesced = iterator.next();
+                iterator.remove();
+                channel.send(coalesced);
+            }
+        }
+    }
+
+    private static boolean isMessageFrame(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage textMessage) {
+            return textMessage.getPayload().startsWith("MESSAGE\n");
+        }
+        if (message instanceof BinaryMessage binaryMessage) {
+            ByteBuffer payload = binaryMessage.getPayload();
+            if (payload.remaining() < MESSAGE_FRAME_PREFIX.length) {
+                return false;
+            }
+            for (int i = 0; i < MESSAGE_FRAME_PREFIX.length; i++) {
+                if (payload.get(payload.position() + i) != MESSAGE_FRAME_PREFIX[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static final class SessionState {
+
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean();
+        private final Map<String, Message<?>> coalesced = new ConcurrentHashMap<>();
+        private volatile long sendStartedNanos;
+
+        private SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+
+    // 소켓 쓰기 시작 시각과 실제로 쓰인 MESSAGE 프레임을 기록
+    private final class TrackingSession extends WebSocketSessionDecorator {
+
+        private final SessionState state;
+
+        private TrackingSession(WebSocketSession delegate, SessionState state) {
+            super(delegate);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            boolean messageFrame = isMessageFrame(message);
+            state.sendStartedNanos = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                state.sendStartedNanos = 0;
+                if (messageFrame) {
+                    onMessageFrameWritten(state);
+                }
+            }
+        }
+    }
+}
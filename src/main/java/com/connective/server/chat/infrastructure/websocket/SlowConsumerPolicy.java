@@ -0,0 +1,16 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+/**
+ * 전송이 밀린 세션으로 향하는 브로드캐스트 메시지 처리 방식
+ */
+public enum SlowConsumerPolicy {
+
+    // 밀린 동안의 메시지를 버린다 (클라이언트는 커서 기반 이력 조회로 복구)
+    DROP,
+
+    // destination별 가장 최신 메시지만 남겨두었다가 전송이 풀리면 보낸다 (읽음/입력 중 같은 상태성 메시지에 적합)
+    COALESCE,
+
+    // 세션을 끊어 재연결 후 이력 조회로 동기화하도록 한다
+    DISCONNECT
+}
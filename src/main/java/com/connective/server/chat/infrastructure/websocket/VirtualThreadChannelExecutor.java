@@ -0,0 +1,85 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 채널 작업마다 가상 스레드를 새로 만들어 실행하는 실행기 (VIRTUAL 모드).
+ * 가상 스레드는 풀에 두지 않고, 동시에 실행되는 작업 수만 세마포어로 제한한다.
+ * 상한을 DB 커넥션 풀 크기로 두면 블로킹 JPA 호출이 몰려도 커넥션을 기다리는 작업이 풀 밖에서 대기한다.
+ * 허가를 기다리는 작업은 큐 대신 대기 중인 가상 스레드로 남으므로 대기 수를 큐 적체량으로 보고한다.
+ */
+public class VirtualThreadChannelExecutor implements Executor {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore permits; // null이면 동시 실행 수 제한 없음
+    private final int concurrencyLimit;
+
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder completedCount = new LongAdder();
+
+    /**
+     * @param concurrencyLimit 동시에 실행할 최대 작업 수 (0 이하면 제한 없음)
+     */
+    public VirtualThreadChannelExecutor(String threadNamePrefix, int concurrencyLimit) {
+        this.delegate = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        this.delegate.setVirtualThreads(true);
+        this.permits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        waitingCount.incrementAndGet();
+        try {
+            delegate.execute(() -> run(task));
+        } catch (RuntimeException e) {
+            waitingCount.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedCount.sum();
+    }
+
+    private void run(Runnable task) {
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                waitingCount.decrementAndGet();
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        waitingCount.decrementAndGet();
+        activeCount.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            activeCount.decrementAndGet();
+            completedCount.increment();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단.
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독해, synchronized 블록 등에서 캐리어 스레드를
+ * threshold 이상 점유한 경우 호출 위치를 로그로 남기고 횟수/누적 시간을 집계한다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.threads.pinning-monitor.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    @Value("${chat.threads.pinning-monitor.threshold-ms:20}")
+    private long thresholdMillis;
+
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final AtomicLong pinnedNanos = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+            .withThreshold(Duration.ofMillis(thresholdMillis))
+            .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold={}ms)", thresholdMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        recordingStream.close();
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    public Duration getTotalPinnedDuration() {
+        return Duration.ofNanos(pinnedNanos.get());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        pinnedNanos.addAndGet(event.getDuration().toNanos());
+        log.warn("Virtual thread pinned for {}ms on {}:\n\t{}", event.getDuration().toMillis(),
+            event.getThread() != null ? event.getThread().getJavaName() : "unknown", topFrames(event));
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+            .limit(LOGGED_FRAMES)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber())
+            .collect(Collectors.joining("\n\t"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * clientInboundChannel / clientOutboundChannel 실행기의 큐 적체량과 느린 구독자 처리 현황을 주기적으로 기록한다.
+ */
+@Component
+@Slf4j
+public class WebSocketChannelMonitor {
+
+    private final Executor inboundExecutor;
+    private final Executor outboundExecutor;
+    private final SlowConsumerGuard slowConsumerGuard;
+
+    @Value("${chat.websocket.monitor.queue-warn-threshold:1000}")
+    private int queueWarnThreshold;
+
+    public WebSocketChannelMonitor(@Qualifier("clientInboundChannelExecutor") Executor inboundExecutor,
+        @Qualifier("clientOutboundChannelExecutor") Executor outboundExecutor,
+        SlowConsumerGuard slowConsumerGuard) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.slowConsumerGuard = slowConsumerGuard;
+    }
+
+    public ChannelStats getInboundStats() {
+        return ChannelStats.of(inboundExecutor);
+    }
+
+    public ChannelStats getOutboundStats() {
+        return ChannelStats.of(outboundExecutor);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.websocket.monitor.interval-ms:30000}")
+    public void logChannelStats() {
+        ChannelStats inbound = getInboundStats();
+        ChannelStats outbound = getOutboundStats();
+        boolean backlogged = inbound.queueSize() >= queueWarnThreshold || outbound.queueSize() >= queueWarnThreshold;
+
+        String format = "WebSocket channels - inbound: {}, outbound: {}, slow consumers(policy={}): "
+            + "dropped={}, coalesced={}, disconnected={}";
+        Object[] args = {inbound, outbound, slowConsumerGuard.getPolicy(), slowConsumerGuard.getDroppedCount(),
+            slowConsumerGuard.getCoalescedCount(), slowConsumerGuard.getDisconnectedCount()};
+        if (backlogged) {
+            log.warn(format, args);
+        } else {
+            log.debug(format, args);
+        }
+    }
+
+    // VIRTUAL 모드에서는 살아있는 가상 스레드 수를 poolSize로, 허가를 기다리는 스레드 수를 queueSize로 보고한다
+    public record ChannelStats(int poolSize, int activeCount, int queueSize, long completedTaskCount) {
+
+        private static ChannelStats of(Executor executor) {
+            if (executor instanceof VirtualThreadChannelExecutor virtual) {
+                int waiting = virtual.getWaitingCount();
+                int active = virtual.getActiveCount();
+                return new ChannelStats(waiting + active, active, waiting, virtual.getCompletedTaskCount());
+            }
+            var threadPool = ((ThreadPoolTaskExecutor) executor).getThreadPoolExecutor();
+            return new ChannelStats(threadPool.getPoolSize(), threadPool.getActiveCount(),
+                threadPool.getQueue().size(), threadPool.getCompletedTaskCount());
+        }
+    }
+}
@@ -2,53 +2,120 @@ package com.connective.server.chat.presentation;
 
 import com.connective.server.chat.application.service.ChatRoomService;
 import com.connective.server.chat.application.service.MessageService;
+import com.connective.server.chat.application.service.ReadReceiptService;
+import com.connective.server.chat.domain.dto.ChatHistoryRequest;
+import com.connective.server.chat.domain.dto.ChatHistoryResponse;
+import com.connective.server.chat.domain.dto.ChatMessageReceipt;
 import com.connective.server.chat.domain.dto.ChatMessageRequest;
 import com.connective.server.chat.domain.dto.ChatMessageResponse;
+import com.connective.server.chat.domain.dto.ChatReadRequest;
+import com.connective.server.chat.domain.dto.TypingRequest;
 import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import com.connective.server.chat.infrastructure.metrics.ChatMetrics;
+import com.connective.server.chat.infrastructure.presence.TypingIndicatorTracker;
+import com.connective.server.user.application.service.UserProfileService;
+import com.connective.server.user.domain.dto.profile.UserProfileDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class ChatController {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final RoomMessageBroadcaster roomMessageBroadcaster;
     private final MessageService messageService;
     private final ChatRoomService chatRoomService;
+    private final UserProfileService userProfileService;
+    private final ReadReceiptService readReceiptService;
+    private final TypingIndicatorTracker typingIndicatorTracker;
+    private final ChatMetrics chatMetrics;
 
     @MessageMapping("/chat/{roomId}")
     public void sendMessage(@DestinationVariable String roomId, 
                            @Payload ChatMessageRequest request,
                            Authentication authentication) {
         
+        long receivedAt = System.nanoTime();
         Long userId = (Long) authentication.getPrincipal();
-        log.info("Received message from user {} in room {}: {}", userId, roomId, request.getContent());
-        
-        // TODO: 메시지 저장 로직 (서비스 레이어)
-        // Message savedMessage = chatService.saveMessage(roomId, userId, request);
+        log.debug("Received message from user {} in room {}", userId, roomId);
         
-        // 임시 응답 객체 생성
-        ChatMessageResponse response = ChatMessageResponse.builder()
-                .roomId(roomId)
-                .senderId(userId)
-                .senderNickname("User" + userId) // TODO: 실제 닉네임 조회
-                .content(request.getContent())
-                .messageType(request.getMessageType())
-                .timestamp(LocalDateTime.now())
-                .build();
+        Message message = messageService.prepareMessage(roomId, userId, request);
+        chatMetrics.recordReceived(message.getMessageType());
+        // 발신자 프로필은 캐시에서 조회
+        ChatMessageResponse response = messageService.createMessageResponse(message);
+        response.setClientMessageId(request.getClientMessageId());
+
+        // 메시지 저장은 write-behind 큐에 위임하고 브로드캐스트는 커밋을 기다리지 않음
+        CompletableFuture<Message> persisted = messageService.saveMessageAsync(message, response);
+        persisted.whenComplete((saved, ex) ->
+                chatMetrics.recordPersisted(message.getMessageType(), receivedAt, ex == null));
+
+        if (persisted.isCompletedExceptionally()) {
+            // 저장 큐가 가득 찬 경우 브로드캐스트하지 않고 발신자에게 실패 receipt 전송
+            persisted.whenComplete((saved, ex) -> sendReceipt(userId, roomId, request, message, ex));
+            return;
+        }
         
-        // 해당 채팅방 구독자들에게 메시지 전송
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, response);
+        // 해당 채팅방 구독자들에게 메시지 전송 (다른 노드의 구독자 포함)
+        roomMessageBroadcaster.broadcastToRoom(roomId, response);
+        chatMetrics.recordBroadcast(message.getMessageType(), receivedAt);
+        typingIndicatorTracker.clear(roomId, userId);
+
+        // 배치 커밋 후 발신자에게 저장 결과 receipt 전송
+        persisted.whenComplete((saved, ex) -> sendReceipt(userId, roomId, request, message, ex));
         
-        log.info("Message sent to room {}", roomId);
+        log.debug("Message sent to room {}", roomId);
+    }
+
+    @MessageMapping("/chat/{roomId}/history")
+    @SendToUser("/queue/history")
+    public ChatHistoryResponse getHistory(@DestinationVariable String roomId,
+                                          @Payload ChatHistoryRequest request,
+                                          Authentication authentication) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        if (!chatRoomService.isMemberOfChatRoom(Long.parseLong(roomId), userId)) {
+            throw new IllegalArgumentException("User " + userId + " is not a member of chat room " + roomId);
+        }
+
+        // 커서 기반 이력 조회 결과는 요청한 사용자 개인 큐(/user/queue/history)로 응답
+        int size = request.getSize() != null ? request.getSize() : 50;
+        return request.getAfter() != null
+                ? messageService.getMessagesAfter(roomId, request.getAfter(), size)
+                : messageService.getMessagesBefore(roomId, request.getBefore(), size);
+    }
+
+    @MessageMapping("/chat/{roomId}/read")
+    public void markRead(@DestinationVariable String roomId,
+                         @Payload ChatReadRequest request,
+                         Authentication authentication) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        // 읽음 보고는 모아서 저장하고, 채팅방에는 /topic/chat/{roomId}/read 로 주기적으로 전파
+        readReceiptService.recordRead(Long.parseLong(roomId), userId, request.getLastReadMessageId());
+    }
+
+    @MessageMapping("/chat/{roomId}/typing")
+    public void typing(@DestinationVariable String roomId,
+                       @Payload TypingRequest request,
+                       Authentication authentication) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        // 저장하지 않는 일시적 신호. 반복 이벤트는 합쳐서 /topic/chat/{roomId}/typing 으로 전파
+        typingIndicatorTracker.onTyping(roomId, userId, request.isTyping());
     }
 
     @MessageMapping("/chat/{roomId}/join")
@@ -59,17 +126,19 @@ public class ChatController {
         log.info("User {} joined room {}", userId, roomId);
         
         // 입장 메시지 생성
+        UserProfileDTO sender = userProfileService.getProfile(userId);
         ChatMessageResponse joinMessage = ChatMessageResponse.builder()
                 .roomId(roomId)
                 .senderId(userId)
-                .senderNickname("User" + userId) // TODO: 실제 닉네임 조회
+                .senderNickname(sender.getNickname())
+                .senderProfileCharacterType(sender.getProfileCharacterType())
                 .content("님이 입장하셨습니다.")
                 .messageType(Message.MessageType.TEXT)
                 .timestamp(LocalDateTime.now())
                 .build();
         
         // 채팅방 구독자들에게 입장 알림
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, joinMessage);
+        roomMessageBroadcaster.broadcastToRoom(roomId, joinMessage);
     }
 
     @MessageMapping("/chat/{roomId}/leave")
@@ -80,16 +149,37 @@ public class ChatController {
         log.info("User {} left room {}", userId, roomId);
         
         // 퇴장 메시지 생성
+        UserProfileDTO sender = userProfileService.getProfile(userId);
         ChatMessageResponse leaveMessage = ChatMessageResponse.builder()
                 .roomId(roomId)
                 .senderId(userId)
-                .senderNickname("User" + userId) // TODO: 실제 닉네임 조회
+                .senderNickname(sender.getNickname())
+                .senderProfileCharacterType(sender.getProfileCharacterType())
                 .content("님이 퇴장하셨습니다.")
                 .messageType(Message.MessageType.TEXT)
                 .timestamp(LocalDateTime.now())
                 .build();
         
         // 채팅방 구독자들에게 퇴장 알림
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, leaveMessage);
+        roomMessageBroadcaster.broadcastToRoom(roomId, leaveMessage);
+    }
+
+    private void sendReceipt(Long userId, String roomId, ChatMessageRequest request,
+                             Message message, Throwable ex) {
+        ChatMessageReceipt receipt = ChatMessageReceipt.builder()
+                .clientMessageId(request.getClientMessageId())
+                .roomId(roomId)
+                .messageId(message.getMessageId())
+                .status(ex == null ? ChatMessageReceipt.ReceiptStatus.PERSISTED
+                        : ChatMessageReceipt.ReceiptStatus.FAILED)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        if (ex != null) {
+            log.warn("Message from user {} in room {} was not persisted: {}", userId, roomId, ex.getMessage());
+        }
+
+        // 발신자 개인 큐(/user/queue/receipts)로 저장 결과 전달
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), "/queue/receipts", receipt);
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.connective.server.chat.presentation;
+
+import com.connective.server.chat.application.service.ChatRoomService;
+import com.connective.server.chat.application.service.ChatRoomSummaryService;
+import com.connective.server.chat.application.service.MessageSearchService;
+import com.connective.server.chat.application.service.MessageService;
+import com.connective.server.chat.application.service.ReadReceiptService;
+import com.connective.server.chat.application.service.UnreadCountService;
+import com.connective.server.chat.domain.dto.ChatHistoryResponse;
+import com.connective.server.chat.domain.dto.ChatRoomSummaryResponse;
+import com.connective.server.chat.domain.dto.MessageSearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/chat/rooms")
+@RequiredArgsConstructor
+public class ChatRoomController {
+
+    private final ChatRoomService chatRoomService;
+    private final MessageService messageService;
+    private final UnreadCountService unreadCountService;
+    private final ReadReceiptService readReceiptService;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final MessageSearchService messageSearchService;
+
+    /**
+     * 내가 참여한 채팅방 목록을 마지막 활동 순으로 조회합니다.
+     * 마지막 메시지 미리보기, 멤버 수, 안 읽은 메시지 수가 함께 내려갑니다.
+     */
+    @GetMapping
+    public ResponseEntity<List<ChatRoomSummaryResponse>> getChatRooms(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(chatRoomSummaryService.getChatRoomSummaries(userId));
+    }
+
+    /**
+     * 내가 참여한 모든 채팅방의 안 읽은 메시지 수를 조회합니다. (채팅방 ID -> 안 읽은 메시지 수)
+     * 안 읽은 메시지가 없는 채팅방은 응답에 포함되지 않습니다.
+     */
+    @GetMapping("/unread-counts")
+    public ResponseEntity<Map<Long, Long>> getUnreadCounts(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(unreadCountService.getUnreadCounts(userId));
+    }
+
+    /**
+     * 채팅방 메시지 이력을 커서 기반으로 조회합니다.
+     * before가 주어지면 해당 메시지 이전(최신순), after가 주어지면 해당 메시지 이후(오래된 순),
+     * 둘 다 없으면 최신 메시지부터 조회합니다.
+     */
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<ChatHistoryResponse> getMessages(@PathVariable Long roomId,
+        @RequestParam(required = false) Long before,
+        @RequestParam(required = false) Long after,
+        @RequestParam(defaultValue = "50") int size,
+        Authentication authentication) {
+        if (before != null && after != null) {
+            return ResponseEntity.badRequest().body(null);
+        }
+
+        Long userId = (Long) authentication.getPrincipal();
+        if (!chatRoomService.isMemberOfChatRoom(roomId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+
+        ChatHistoryResponse history = after != null
+            ? messageService.getMessagesAfter(String.valueOf(roomId), after, size)
+            : messageService.getMessagesBefore(String.valueOf(roomId), before, size);
+        return ResponseEntity.ok(history);
+    }
+
+    /**
+     * 채팅방 메시지를 검색합니다. 공백으로 구분된 모든 단어를 포함한 메시지를 최신순으로 조회하며,
+     * 응답의 nextCursor를 cursor로 전달해 다음 결과를 조회합니다.
+     */
+    @GetMapping("/{roomId}/messages/search")
+    public ResponseEntity<MessageSearchResponse> searchMessages(@PathVariable Long roomId,
+        @RequestParam("q") String query,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "20") int size,
+        Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        if (!chatRoomService.isMemberOfChatRoom(roomId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+        try {
+            return ResponseEntity.ok(messageSearchService.search(roomId, query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    /**
+     * 채팅방의 messageId까지 읽었음을 기록합니다. 읽음 위치와 안 읽은 메시지 수는 주기적으로 일괄 반영됩니다.
+     */
+    @PutMapping("/{roomId}/read")
+    public ResponseEntity<Void> markRead(@PathVariable Long roomId,
+        @RequestParam Long messageId,
+        Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        if (!chatRoomService.isMemberOfChatRoom(roomId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        readReceiptService.recordRead(roomId, userId, messageId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 채팅방에서 나갑니다. 열려 있는 이 채팅방 구독은 모든 노드에서 해제되고, 이후 구독과 메시지 전송이 거부됩니다.
+     */
+    @DeleteMapping("/{roomId}/members/me")
+    public ResponseEntity<Void> leaveChatRoom(@PathVariable Long roomId, Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        if (!chatRoomService.isMemberOfChatRoom(roomId, userId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        chatRoomService.removeMemberFromChatRoom(roomId, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.connective.server.chat.presentation;
+
+import com.connective.server.chat.infrastructure.presence.PresenceTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/chat/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+
+    private static final int MAX_USER_IDS = 1000;
+
+    private final PresenceTracker presenceTracker;
+
+    /**
+     * 주어진 사용자 중 현재 접속 중인 사용자 ID 목록을 조회합니다.
+     */
+    @GetMapping
+    public ResponseEntity<Set<Long>> getOnlineUsers(@RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_USER_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(presenceTracker.getOnlineUserIds(userIds));
+    }
+}
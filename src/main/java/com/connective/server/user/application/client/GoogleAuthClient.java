@@ -2,6 +2,9 @@ package com.connective.server.user.application.client;
 
 import com.connective.server.user.domain.dto.auth.GoogleTokenResponseDTO;
 import com.connective.server.user.domain.dto.auth.GoogleUserInfoResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -14,6 +17,7 @@ import org.springframework.util.MultiValueMap;
 public class GoogleAuthClient {
 
     private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
 
     @Value("${google.client-id}")
     private String googleClientId;
@@ -24,8 +28,9 @@ public class GoogleAuthClient {
     @Value("${google.redirect-uri}")
     private String googleRedirectUri;
 
-    public GoogleAuthClient(WebClient.Builder webClientBuilder) {
+    public GoogleAuthClient(WebClient.Builder webClientBuilder, MeterRegistry meterRegistry) {
         this.webClient = webClientBuilder.build();
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -47,7 +52,7 @@ public class GoogleAuthClient {
         formData.add("grant_type", "authorization_code");
 
         try {
-            return webClient.post()
+            return timed("token", () -> webClient.post()
                 .uri(GOOGLE_TOKEN_URL)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(formData)
@@ -63,7 +68,7 @@ public class GoogleAuthClient {
                             return new RuntimeException("Google Token API Server Error: " + body);
                         }))
                 .bodyToMono(GoogleTokenResponseDTO.class)
-                .block(); // 여기서 블로킹하여 Mono의 결과를 동기적으로 가져옵니다.
+                .block()); // 여기서 블로킹하여 Mono의 결과를 동기적으로 가져옵니다.
         } catch (WebClientResponseException e) {
             throw new RuntimeException("Failed to request Google access token: " + e.getMessage(),
                 e);
@@ -85,7 +90,7 @@ public class GoogleAuthClient {
         String GOOGLE_USERINFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
 
         try {
-            return webClient.get()
+            return timed("userinfo", () -> webClient.get()
                 .uri(GOOGLE_USERINFO_URL)
                 .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
@@ -102,7 +107,7 @@ public class GoogleAuthClient {
                                 "Google UserInfo API Server Error: " + body);
                         }))
                 .bodyToMono(GoogleUserInfoResponseDTO.class)
-                .block();
+                .block());
         } catch (WebClientResponseException e) {
             throw new RuntimeException("Failed to request Google user info: " + e.getMessage(), e);
         } catch (Exception e) {
@@ -110,5 +115,20 @@ public class GoogleAuthClient {
         }
     }
 
-
+    // Google API 호출 시간 기록 (operation: token | userinfo)
+    private <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.google.requests")
+                .description("Google OAuth API call latency")
+                .tags("operation", operation, "outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.connective.server.user.application.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
@@ -11,27 +14,51 @@ import org.springframework.stereotype.Service;
 public class RedisServiceImpl implements RedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void setValues(String key, String value) {
         ValueOperations<String, String> values = redisTemplate.opsForValue();
-        values.set(key, value);
+        timed("set", () -> {
+            values.set(key, value);
+            return null;
+        });
     }
 
     @Override
     public void setValues(String key, String value, Duration duration) {
         ValueOperations<String, String> values = redisTemplate.opsForValue();
-        values.set(key, value, duration);
+        timed("set", () -> {
+            values.set(key, value, duration);
+            return null;
+        });
     }
 
     @Override
     public String getValue(String key) {
         ValueOperations<String, String> values = redisTemplate.opsForValue();
-        return values.get(key);
+        return timed("get", () -> values.get(key));
     }
 
     @Override
     public void deleteValue(String key) {
-        redisTemplate.delete(key);
+        timed("delete", () -> redisTemplate.delete(key));
+    }
+
+    // 명령별 왕복 시간 기록 (키는 사용자별로 달라지므로 태그로 쓰지 않음)
+    private <T> T timed(String command, Supplier<T> operation) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("redis.commands")
+                .description("Redis round-trip time in RedisService")
+                .tags("command", command, "outcome", outcome)
+                .register(meterRegistry));
+        }
     }
 }
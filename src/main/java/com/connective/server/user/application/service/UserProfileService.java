@@ -0,0 +1,14 @@
+package com.connective.server.user.application.service;
+
+import com.connective.server.user.domain.dto.profile.UserProfileDTO;
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserProfileService {
+
+    UserProfileDTO getProfile(Long userId);
+
+    Map<Long, UserProfileDTO> getProfiles(Collection<Long> userIds);
+
+    void evictProfile(Long userId);
+}
@@ -0,0 +1,81 @@
+package com.connective.server.user.application.service;
+
+import com.connective.server.user.domain.dto.profile.UserProfileDTO;
+import com.connective.server.user.domain.event.UserProfileChangedEvent;
+import com.connective.server.user.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileServiceImpl implements UserProfileService {
+
+    private final UserRepository userRepository;
+
+    @Value("${user.profile-cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${user.profile-cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<Long, UserProfileDTO> profileCache;
+
+    @PostConstruct
+    public void init() {
+        this.profileCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public UserProfileDTO getProfile(Long userId) {
+        UserProfileDTO profile = profileCache.get(userId, id -> userRepository.findById(id)
+            .map(UserProfileDTO::from)
+            .orElse(null));
+        if (profile == null) {
+            throw new IllegalArgumentException("User not found: " + userId);
+        }
+        return profile;
+    }
+
+    /**
+     * 여러 사용자의 프로필을 조회합니다. 캐시에 없는 사용자만 모아 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param userIds 조회할 사용자 ID 목록
+     * @return 사용자 ID별 프로필 (존재하지 않는 사용자는 제외)
+     */
+    @Override
+    public Map<Long, UserProfileDTO> getProfiles(Collection<Long> userIds) {
+        return profileCache.getAll(userIds, missingIds -> {
+            log.debug("Loading {} user profiles from database", missingIds.size());
+            return userRepository.findAllById(missingIds).stream()
+                .map(UserProfileDTO::from)
+                .collect(Collectors.toMap(UserProfileDTO::getUserId, Function.identity()));
+        });
+    }
+
+    @Override
+    public void evictProfile(Long userId) {
+        profileCache.invalidate(userId);
+    }
+
+    // 트랜잭션 커밋 후 캐시 무효화 (트랜잭션 밖에서 save된 경우 즉시 실행)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        evictProfile(event.getUserId());
+        log.debug("Evicted cached profile of user {}", event.getUserId());
+    }
+}
@@ -0,0 +1,30 @@
+package com.connective.server.user.domain.dto.profile;
+
+import com.connective.server.user.domain.entity.User;
+import com.connective.server.user.domain.enums.ProfileCharacterType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 메시지 렌더링에 필요한 사용자 프로필 정보 (캐시에 보관되므로 불변)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserProfileDTO {
+
+    private final Long userId;
+    private final String nickname;
+    private final ProfileCharacterType profileCharacterType;
+    private final String statusMessage;
+
+    public static UserProfileDTO from(User user) {
+        return UserProfileDTO.builder()
+            .userId(user.getId())
+            .nickname(user.getNickname())
+            .profileCharacterType(user.getProfileCharacterType())
+            .statusMessage(user.getStatusMessage())
+            .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.connective.server.user.domain.entity;
 
 import com.connective.server.user.domain.enums.ProfileCharacterType;
 import com.connective.server.user.domain.enums.SocialProviderType;
+import com.connective.server.user.domain.event.UserProfileChangedEvent;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -18,6 +19,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -25,7 +27,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-public class User {
+public class User extends AbstractAggregateRoot<User> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -79,14 +81,24 @@ public class User {
 
     public void updateNickname(String nickname) {
         this.nickname = nickname;
+        registerProfileChanged();
     }
 
     public void updateStatusMessage(String statusMessage) {
         this.statusMessage = statusMessage;
+        registerProfileChanged();
     }
 
     public void updateProfileCharacterType(ProfileCharacterType profileCharacterType) {
         this.profileCharacterType = profileCharacterType;
+        registerProfileChanged();
+    }
+
+    // repository.save() 시점에 발행되어 프로필 캐시를 무효화
+    private void registerProfileChanged() {
+        if (this.id != null) {
+            registerEvent(new UserProfileChangedEvent(this.id));
+        }
     }
 
 
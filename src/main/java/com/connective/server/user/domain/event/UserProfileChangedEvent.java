@@ -0,0 +1,14 @@
+package com.connective.server.user.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 닉네임, 프로필 캐릭터, 상태 메시지가 변경되었을 때 User 엔티티가 등록하는 도메인 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+}
@@ -5,14 +5,19 @@ import com.connective.server.user.infrastructure.security.JwtAuthenticationEntry
 import com.connective.server.user.infrastructure.security.JwtAuthenticationFilter;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -28,7 +33,42 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    private static final String METRICS_ROLE = "METRICS";
+
+    // Prometheus 수집용 계정 (비밀번호가 없으면 메트릭 엔드포인트를 열지 않음)
+    @Value("${monitoring.prometheus.username:prometheus}")
+    private String prometheusUsername;
+
+    @Value("${monitoring.prometheus.password:}")
+    private String prometheusPassword;
+
+    // 액추에이터 요청은 JWT 대신 별도 규칙을 적용: 헬스 체크만 공개하고 메트릭은 수집용 계정의 Basic 인증을 요구
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/actuator/**")
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(sessionManagement ->
+                sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .httpBasic(Customizer.withDefaults())
+            .userDetailsService(prometheusUserDetailsService())
+            .authorizeHttpRequests(authorizeRequests -> {
+                authorizeRequests.requestMatchers("/actuator/health", "/actuator/health/**").permitAll();
+                if (prometheusPassword.isBlank()) {
+                    authorizeRequests.anyRequest().denyAll();
+                } else {
+                    authorizeRequests.requestMatchers("/actuator/prometheus").hasRole(METRICS_ROLE)
+                        .anyRequest().denyAll();
+                }
+            });
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable) // // CSRF 보호 비활성화
@@ -56,6 +96,7 @@ public class SecurityConfig {
                     // - /auth/**: Google 로그인 관련 (콜백 포함)
                     // - /api/auth/reissue: Refresh Token 재발급 (나중에 구현할 예정)
                     // - /error: Spring Boot 기본 에러 페이지
+                    // (/actuator/** 는 actuatorSecurityFilterChain에서 처리)
                     .requestMatchers(
                         "/auth/**",
                         "/api/auth/reissue", // Refresh Token 재발급 엔드포인트 (구현 예정)
@@ -76,6 +117,17 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // 액추에이터 체인에서만 쓰는 계정 저장소 (애플리케이션 사용자 인증은 JWT 필터가 담당)
+    private InMemoryUserDetailsManager prometheusUserDetailsService() {
+        if (prometheusPassword.isBlank()) {
+            return new InMemoryUserDetailsManager();
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(prometheusUsername)
+            .password(passwordEncoder().encode(prometheusPassword))
+            .roles(METRICS_ROLE)
+            .build());
+    }
+
     // CORS 설정 Bean
     // Nginx & server 모두 cors 허용 설정
     @Bean
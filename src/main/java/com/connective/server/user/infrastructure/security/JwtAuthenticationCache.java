@@ -0,0 +1,159 @@
+package com.connective.server.user.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 인증 fast path.
+ * 한 번 검증된 토큰은 토큰 원문 대신 SHA-256 digest를 키로 exp 시각까지 캐시하고,
+ * 검증에 실패한 토큰은 짧은 시간 동안 negative cache에 두어 같은 토큰의 반복 파싱/서명 검증을 생략한다.
+ * HTTP 요청(JwtAuthenticationFilter)과 WebSocket CONNECT(WebSocketAuthInterceptor)가 함께 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${jwt.cache.negative-max-size:10000}")
+    private long negativeMaxSize;
+
+    @Value("${jwt.cache.negative-ttl:30s}")
+    private Duration negativeTtl;
+
+    private Cache<String, VerifiedToken> verifiedTokens;
+    private Cache<String, Boolean> rejectedTokens;
+
+    // 검증 결과별 카운터 (cached: 캐시 적중, verified: 파싱 후 유효, rejected: 파싱 후 거부, rejected_cached: negative cache 적중)
+    private Counter cachedCounter;
+    private Counter verifiedCounter;
+    private Counter rejectedCounter;
+    private Counter rejectedCachedCounter;
+
+    @PostConstruct
+    public void init() {
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new ExpireAtTokenExpiry())
+            .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+            .maximumSize(negativeMaxSize)
+            .expireAfterWrite(negativeTtl)
+            .build();
+
+        this.cachedCounter = validationCounter("cached");
+        this.verifiedCounter = validationCounter("verified");
+        this.rejectedCounter = validationCounter("rejected");
+        this.rejectedCachedCounter = validationCounter("rejected_cached");
+        Gauge.builder("auth.jwt.cache.size", verifiedTokens, Cache::estimatedSize)
+            .description("Verified access tokens held in the authentication cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Access Token을 검증하고 사용자 ID를 반환합니다.
+     *
+     * @param token Bearer 접두사를 제거한 토큰 문자열
+     * @return 사용자 ID, 유효하지 않은 토큰이면 null
+     */
+    public Long authenticate(String token) {
+        String digest = digest(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            cachedCounter.increment();
+            return cached.userId();
+        }
+        if (rejectedTokens.getIfPresent(digest) != null) {
+            rejectedCachedCounter.increment();
+            return null;
+        }
+
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            rejectedTokens.put(digest, Boolean.TRUE);
+            rejectedCounter.increment();
+            return null;
+        }
+        verifiedTokens.put(digest, verified);
+        verifiedCounter.increment();
+        return verified.userId();
+    }
+
+    public long getCachedTokenCount() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    private Counter validationCounter(String outcome) {
+        return Counter.builder("auth.jwt.validations")
+            .description("Access token validations by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtTokenProvider.verifyClaims(token);
+        if (claims == null || claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+        try {
+            return new VerifiedToken(Long.valueOf(claims.getSubject()), claims.getExpiration().getTime());
+        } catch (NumberFormatException e) {
+            log.debug("JWT subject is not a user ID: {}", claims.getSubject());
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+    }
+
+    // 캐시 항목을 토큰의 exp 시각에 만료
+    private static final class ExpireAtTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.connective.server.user.infrastructure.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
 
     @Override
@@ -31,31 +30,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. HTTP 요청 헤더에서 accessToken 추출
         String accessToken = resolveToken(request);
 
-        // 2. accessToken 유효성 검증
-        if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
+        // 2. accessToken 유효성 검증 (검증된 토큰은 캐시에서 바로 사용자 ID를 얻음)
+        Long userId = accessToken != null ? jwtAuthenticationCache.authenticate(accessToken) : null;
+        if (userId != null) {
             // 3. 토큰이 유효하면 인증정보 설정
-            try {
-                // claim 추출
-                Claims claims = jwtTokenProvider.parseClaims(accessToken);
+            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                userId, // Principal (사용자 식별자)
+                null,   // Credentials (비밀번호 등, JWT에서는 필요 없음)
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"))
+                // 권한 (예: USER, ADMIN)
+            );
 
-                String userIdString = claims.getSubject();
-                Long userId = Long.valueOf(userIdString);
-
-                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userId, // Principal (사용자 식별자)
-                    null,   // Credentials (비밀번호 등, JWT에서는 필요 없음)
-                    Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"))
-                    // 권한 (예: USER, ADMIN)
-                );
-
-                // securityContextHolder에 Authentication 객체 설정
-                // 현재 요청에 대한 사용자가 인증되었음을 Spring Security에 알림
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("Authenticated user: {}", userId);
-            } catch (Exception e) {
-                log.error("Failed to set user authentication in security context: {}",
-                    e.getMessage());
-            }
+            // securityContextHolder에 Authentication 객체 설정
+            // 현재 요청에 대한 사용자가 인증되었음을 Spring Security에 알림
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            log.debug("Authenticated user: {}", userId);
         } else {
             log.debug("No valid JWT token found for request: {}", request.getRequestURI());
         }
@@ -3,10 +3,10 @@ package com.connective.server.user.infrastructure.security;
 import com.connective.server.user.domain.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
@@ -36,10 +36,16 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성해 재사용
+    private JwtParser jwtParser;
+
     @PostConstruct
     public void init() {
         // secretKey 문자열을 바이트 배열로 변환하여 Key 객체 생성
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
         log.info("JWT Secret Key initialized.");
     }
 
@@ -91,45 +97,44 @@ public class JwtTokenProvider {
      */
     // JWT 토큰의 유효성을 검증
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
 
+    /**
+     * 토큰의 서명과 만료 시간을 검증하고 클레임을 반환합니다. 검증과 클레임 추출을 한 번의 파싱으로 처리합니다.
+     *
+     * @param token 검증할 토큰
+     * @return 유효한 토큰의 Claims 객체, 유효하지 않으면 null
+     */
+    public Claims verifyClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT Token", e);
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT Token", e);
-        } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT Token", e);
+            log.debug("Expired JWT Token: {}", e.getMessage());
+        } catch (JwtException e) {
+            // 서명 불일치, 형식 오류, 지원하지 않는 토큰 (요청마다 발생할 수 있어 스택 트레이스는 남기지 않음)
+            log.debug("Invalid JWT Token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.", e);
+            log.debug("JWT claims string is empty.");
         }
-        return false;
+        return null;
     }
 
     /**
-     * 토큰에서 클레임 정보 추출 (주로 JwtAuthenticationFilter에서 토큰의 사용자 ID 등을 얻을 때 사용)
+     * 토큰에서 클레임 정보 추출 (만료된 토큰의 클레임도 반환)
      *
      * @param token 토큰 문자열
      * @return 토큰의 Claims 객체
      */
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token).
-                getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
-            log.warn("Expired JWT Token. Claims can still be retrieved.", e);
+            log.debug("Expired JWT Token. Claims can still be retrieved.");
             return e.getClaims();
-        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException |
-                 IllegalArgumentException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             // TODO: 커스텀예외 던지기
-            log.error("Invalid or malformed JWT Token. Cannot parse claims.", e);
+            log.warn("Invalid or malformed JWT Token. Cannot parse claims: {}", e.getMessage());
             return null;
         }
     }
@@ -0,0 +1,46 @@
+-- 초기 스키마 (Flyway 도입 전 ddl-auto: update가 엔티티로부터 만들던 테이블 그대로)
+-- ddl-auto로 이미 테이블이 만들어진 DB는 baseline-on-migrate로 이 버전을 기준선으로 간주하고 건너뛴다
+-- 따라서 이후의 스키마 변경은 이 파일을 고치지 않고 V2 이후 마이그레이션으로 추가한다
+
+CREATE TABLE IF NOT EXISTS user (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    email                  VARCHAR(255) NOT NULL,
+    nickname               VARCHAR(255),
+    profile_character_type ENUM ('BEAR', 'DOLPHIN', 'RABBIT'),
+    status_message         VARCHAR(255),
+    social_provider        ENUM ('GOOGLE', 'KAKAO') NOT NULL,
+    social_id              VARCHAR(255) NOT NULL,
+    created_at             DATETIME(6),
+    updated_at             DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_social_id UNIQUE (social_id)
+);
+
+CREATE TABLE IF NOT EXISTS chat_room (
+    chatroom_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    chatroom_type   ENUM ('GROUP', 'ONE_TO_ONE') NOT NULL,
+    chatroom_name   VARCHAR(255),
+    chatroom_status ENUM ('ACTIVE', 'ARCHIVED', 'DELETED') NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (chatroom_id)
+);
+
+CREATE TABLE IF NOT EXISTS chat_room_member (
+    chatroom_member_id   BIGINT NOT NULL AUTO_INCREMENT,
+    chatroom_id          BIGINT NOT NULL,
+    user_id              BIGINT NOT NULL,
+    last_read_message_id BIGINT,
+    PRIMARY KEY (chatroom_member_id)
+);
+
+CREATE TABLE IF NOT EXISTS message (
+    message_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    chatroom_id     BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    message_type    ENUM ('FILE', 'IMAGE', 'TEXT') NOT NULL,
+    message_content VARCHAR(255),
+    message_send_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (message_id)
+);
@@ -0,0 +1,2 @@
+-- message_id는 애플리케이션에서 발급하는 시간 순서 ID (Snowflake)이므로 AUTO_INCREMENT를 제거한다
+ALTER TABLE message MODIFY message_id BIGINT NOT NULL;
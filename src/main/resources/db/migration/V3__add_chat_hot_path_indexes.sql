@@ -0,0 +1,30 @@
+-- 채팅 조회 경로용 인덱스
+
+-- 커서(keyset) 이력 조회: WHERE chatroom_id = ? AND message_id < ? ORDER BY message_id DESC LIMIT ?
+-- 인덱스 범위 스캔으로 limit건만 읽고, 본문은 클러스터드 PK(message_id)로 바로 찾는다
+CREATE INDEX idx_message_room_id ON message (chatroom_id, message_id);
+
+-- 발송 시각 기준 조회 (오프셋 페이지 조회, 최근 메시지 조회)
+CREATE INDEX idx_message_room_sent_at ON message (chatroom_id, message_send_at);
+
+-- 동시 입장으로 생긴 중복 멤버십 정리 후 (채팅방, 사용자) 유니크 인덱스 생성
+-- findUserIdsByChatroomId, existsBy/deleteByChatroomIdAndUserId 는 이 인덱스만으로 처리된다 (커버링)
+DELETE FROM chat_room_member
+WHERE chatroom_member_id NOT IN (
+    SELECT keep_id FROM (
+        SELECT MIN(chatroom_member_id) AS keep_id
+        FROM chat_room_member
+        GROUP BY chatroom_id, user_id
+    ) AS kept
+);
+
+CREATE UNIQUE INDEX uk_chat_room_member ON chat_room_member (chatroom_id, user_id);
+
+-- 사용자별 채팅방 조회: findByUserId
+CREATE INDEX idx_chat_room_member_user ON chat_room_member (user_id, chatroom_id);
+
+-- 소셜 로그인 사용자 조회: findBySocialProviderAndSocialId
+CREATE UNIQUE INDEX uk_user_social ON user (social_provider, social_id);
+
+-- 상태별 채팅방 조회: findByChatroomStatusOrderByUpdatedAtDesc
+CREATE INDEX idx_chat_room_status_updated ON chat_room (chatroom_status, updated_at);
@@ -0,0 +1,32 @@
+-- 채팅방 목록 조회용 비정규화 요약 (채팅방별 마지막 메시지, 멤버 수)
+CREATE TABLE IF NOT EXISTS chat_room_summary (
+    chatroom_id          BIGINT       NOT NULL,
+    last_message_id      BIGINT,
+    last_message_type    VARCHAR(20),
+    last_message_snippet VARCHAR(100),
+    last_sender_id       BIGINT,
+    last_message_at      DATETIME(6),
+    member_count         BIGINT       NOT NULL,
+    last_activity_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (chatroom_id)
+);
+
+-- 요약이 없는 기존 채팅방의 요약 생성
+-- 마지막 메시지는 채팅방별 MAX(message_id) 행으로 채운다 (V3의 (chatroom_id, message_id) 인덱스로 방마다 한 건만 읽음)
+-- 메시지가 없는 채팅방은 마지막 메시지 정보 없이 채팅방 수정 시각을 마지막 활동 시각으로 쓴다
+INSERT INTO chat_room_summary (chatroom_id, last_message_id, last_message_type, last_message_snippet,
+                               last_sender_id, last_message_at, member_count, last_activity_at)
+SELECT cr.chatroom_id,
+       m.message_id,
+       m.message_type,
+       LEFT(m.message_content, 100),
+       m.user_id,
+       m.message_send_at,
+       (SELECT COUNT(*) FROM chat_room_member crm WHERE crm.chatroom_id = cr.chatroom_id),
+       COALESCE(m.message_send_at, cr.updated_at)
+FROM chat_room cr
+LEFT JOIN (SELECT chatroom_id, MAX(message_id) AS message_id
+           FROM message
+           GROUP BY chatroom_id) latest ON latest.chatroom_id = cr.chatroom_id
+LEFT JOIN message m ON m.message_id = latest.message_id
+WHERE NOT EXISTS (SELECT 1 FROM chat_room_summary s WHERE s.chatroom_id = cr.chatroom_id);
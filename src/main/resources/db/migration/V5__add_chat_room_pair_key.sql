@@ -0,0 +1,5 @@
+-- 1:1 채팅방을 (작은 사용자 ID, 큰 사용자 ID) 쌍으로 식별한다 (그룹 채팅방은 NULL)
+ALTER TABLE chat_room ADD COLUMN pair_low_user_id BIGINT;
+ALTER TABLE chat_room ADD COLUMN pair_high_user_id BIGINT;
+
+ALTER TABLE chat_room ADD CONSTRAINT uk_chat_room_pair UNIQUE (pair_low_user_id, pair_high_user_id);
@@ -0,0 +1,9 @@
+-- 채팅방별 메시지 검색용 역색인 (bigram 토큰 -> 메시지)
+-- token은 연속한 두 코드 포인트를 (앞 << 21 | 뒤)로 묶은 값
+-- PK가 (chatroom_id, token, message_id) 순서라 검색은 채팅방 범위 안에서만 읽는다
+CREATE TABLE message_search_token (
+    chatroom_id BIGINT NOT NULL,
+    token       BIGINT NOT NULL,
+    message_id  BIGINT NOT NULL,
+    PRIMARY KEY (chatroom_id, token, message_id)
+);
@@ -0,0 +1,40 @@
+-- 사용자 쌍이 기록되지 않은 기존 1:1 채팅방에 멤버 두 명의 ID를 (작은 ID, 큰 ID)로 채운다
+-- 같은 쌍의 채팅방이 여럿이면 가장 먼저 만들어진 채팅방만 쌍으로 조회되게 한다 (uk_chat_room_pair)
+CREATE TABLE chat_room_pair_backfill (
+    chatroom_id       BIGINT NOT NULL,
+    pair_low_user_id  BIGINT NOT NULL,
+    pair_high_user_id BIGINT NOT NULL,
+    PRIMARY KEY (chatroom_id)
+);
+
+INSERT INTO chat_room_pair_backfill (chatroom_id, pair_low_user_id, pair_high_user_id)
+SELECT crm.chatroom_id, MIN(crm.user_id), MAX(crm.user_id)
+FROM chat_room_member crm
+JOIN chat_room cr ON cr.chatroom_id = crm.chatroom_id
+WHERE cr.chatroom_type = 'ONE_TO_ONE'
+  AND cr.pair_low_user_id IS NULL
+GROUP BY crm.chatroom_id
+HAVING COUNT(DISTINCT crm.user_id) = 2;
+
+-- 이미 쌍이 기록된 채팅방과 겹치는 쌍은 제외
+DELETE FROM chat_room_pair_backfill
+WHERE EXISTS (
+    SELECT 1 FROM chat_room cr
+    WHERE cr.pair_low_user_id = chat_room_pair_backfill.pair_low_user_id
+      AND cr.pair_high_user_id = chat_room_pair_backfill.pair_high_user_id
+);
+
+UPDATE chat_room
+SET pair_low_user_id  = (SELECT b.pair_low_user_id FROM chat_room_pair_backfill b
+                         WHERE b.chatroom_id = chat_room.chatroom_id),
+    pair_high_user_id = (SELECT b.pair_high_user_id FROM chat_room_pair_backfill b
+                         WHERE b.chatroom_id = chat_room.chatroom_id)
+WHERE chatroom_id IN (
+    SELECT first_room_id FROM (
+        SELECT MIN(chatroom_id) AS first_room_id
+        FROM chat_room_pair_backfill
+        GROUP BY pair_low_user_id, pair_high_user_id
+    ) AS first_rooms
+);
+
+DROP TABLE chat_room_pair_backfill;
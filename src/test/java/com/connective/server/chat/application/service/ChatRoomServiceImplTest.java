@@ -0,0 +1,140 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.entity.ChatRoom;
+import com.connective.server.chat.domain.repository.ChatRoomMemberRepository;
+import com.connective.server.chat.domain.repository.ChatRoomRepository;
+import com.connective.server.chat.domain.repository.ChatRoomSummaryRepository;
+import com.connective.server.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatRoomServiceImplTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private ChatRoomSummaryRepository chatRoomSummaryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ChatRoomServiceImpl chatRoomService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatRoomService, "creationLockStripes", 16);
+        chatRoomService.init();
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(chatRoomSummaryRepository.adjustMemberCount(any(), anyLong())).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자 쌍으로 동시에 요청해도 채팅방은 하나만 생성된다")
+    void createOrGetOneToOneChatRoom_CreatesOnceUnderContention() throws Exception {
+        // given
+        AtomicReference<ChatRoom> created = new AtomicReference<>();
+        when(chatRoomRepository.findByPairLowUserIdAndPairHighUserId(1L, 2L))
+            .thenAnswer(invocation -> Optional.ofNullable(created.get()));
+        when(chatRoomRepository.saveAndFlush(any(ChatRoom.class))).thenAnswer(invocation -> {
+            ChatRoom chatRoom = invocation.getArgument(0);
+            ReflectionTestUtils.setField(chatRoom, "chatroomId", 100L);
+            created.set(chatRoom);
+            return chatRoom;
+        });
+
+        // when
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ChatRoom>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            boolean reversed = i % 2 == 0;
+            results.add(executor.submit(() -> {
+                start.await();
+                return reversed
+                    ? chatRoomService.createOrGetOneToOneChatRoom(2L, 1L)
+                    : chatRoomService.createOrGetOneToOneChatRoom(1L, 2L);
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<ChatRoom> result : results) {
+            assertThat(result.get().getChatroomId()).isEqualTo(100L);
+        }
+        executor.shutdown();
+        verify(chatRoomRepository, times(1)).saveAndFlush(any(ChatRoom.class));
+        assertThat(created.get().getPairLowUserId()).isEqualTo(1L);
+        assertThat(created.get().getPairHighUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 생성해 유니크 제약에 걸리면 생성된 채팅방을 다시 조회해 반환한다")
+    void createOrGetOneToOneChatRoom_ReadsBackAfterConstraintViolation() {
+        // given
+        ChatRoom existing = ChatRoom.builder()
+            .chatroomType(ChatRoom.ChatRoomType.ONE_TO_ONE)
+            .build();
+        existing.assignPair(1L, 2L);
+        when(chatRoomRepository.findByPairLowUserIdAndPairHighUserId(1L, 2L))
+            .thenReturn(Optional.empty(), Optional.empty(), Optional.of(existing));
+        when(chatRoomRepository.saveAndFlush(any(ChatRoom.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_chat_room_pair"));
+
+        // when
+        ChatRoom chatRoom = chatRoomService.createOrGetOneToOneChatRoom(1L, 2L);
+
+        // then
+        assertThat(chatRoom).isSameAs(existing);
+        verify(chatRoomMemberRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("자기 자신과의 채팅방은 만들 수 없다")
+    void createOrGetOneToOneChatRoom_RejectsSelf() {
+        assertThatThrownBy(() -> chatRoomService.createOrGetOneToOneChatRoom(1L, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.ChatRoomSummaryResponse;
+import com.connective.server.chat.domain.dto.ChatRoomSummaryRow;
+import com.connective.server.chat.domain.entity.ChatRoom;
+import com.connective.server.chat.domain.entity.ChatRoomSummary;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.repository.ChatRoomSummaryRepository;
+import com.connective.server.user.application.service.UserProfileService;
+import com.connective.server.user.domain.dto.profile.UserProfileDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSummaryServiceImplTest {
+
+    @Mock
+    private ChatRoomSummaryRepository chatRoomSummaryRepository;
+
+    @Mock
+    private UserProfileService userProfileService;
+
+    @Mock
+    private UnreadCountService unreadCountService;
+
+    @InjectMocks
+    private ChatRoomSummaryServiceImpl chatRoomSummaryService;
+
+    @Test
+    @DisplayName("채팅방 목록은 한 번의 쿼리와 일괄 프로필 조회로 구성된다")
+    void getChatRoomSummaries_UsesSingleQuery() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<ChatRoomSummaryRow> rows = List.of(
+            new ChatRoomSummaryRow(1L, ChatRoom.ChatRoomType.ONE_TO_ONE, null,
+                100L, Message.MessageType.TEXT, "hello", 10L, now, 2L, now),
+            new ChatRoomSummaryRow(2L, ChatRoom.ChatRoomType.GROUP, "group",
+                null, null, null, null, null, null, now.minusDays(1)));
+        when(chatRoomSummaryRepository.findSummariesByUserId(10L)).thenReturn(rows);
+        when(unreadCountService.getUnreadCounts(10L)).thenReturn(Map.of(2L, 5L));
+        when(userProfileService.getProfiles(Set.of(10L))).thenReturn(Map.of(10L, UserProfileDTO.builder()
+            .userId(10L)
+            .nickname("sender")
+            .build()));
+
+        // when
+        List<ChatRoomSummaryResponse> summaries = chatRoomSummaryService.getChatRoomSummaries(10L);
+
+        // then
+        assertThat(summaries).extracting(ChatRoomSummaryResponse::getRoomId).containsExactly(1L, 2L);
+        assertThat(summaries.get(0).getLastSenderNickname()).isEqualTo("sender");
+        assertThat(summaries.get(0).getUnreadCount()).isZero();
+        assertThat(summaries.get(1).getUnreadCount()).isEqualTo(5L);
+        assertThat(summaries.get(1).getMemberCount()).isZero();
+        verify(chatRoomSummaryRepository, times(1)).findSummariesByUserId(10L);
+    }
+
+    @Test
+    @DisplayName("미리보기는 코드 포인트 기준으로 잘린다")
+    void snippetOf_TruncatesByCodePoint() {
+        // given
+        String content = "a".repeat(ChatRoomSummary.SNIPPET_MAX_LENGTH - 1) + "😀😀";
+
+        // when
+        String snippet = ChatRoomSummary.snippetOf(content);
+
+        // then
+        assertThat(snippet).endsWith("😀");
+        assertThat(snippet.codePointCount(0, snippet.length())).isEqualTo(ChatRoomSummary.SNIPPET_MAX_LENGTH);
+    }
+}
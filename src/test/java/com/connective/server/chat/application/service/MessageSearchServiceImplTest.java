@@ -0,0 +1,127 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.MessageSearchResponse;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.repository.MessageStore;
+import com.connective.server.chat.infrastructure.archive.ColdMessageStore;
+import com.connective.server.chat.infrastructure.search.MessageSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSearchServiceImplTest {
+
+    @Mock
+    private MessageSearchIndex messageSearchIndex;
+
+    @Mock
+    private MessageStore messageStore;
+
+    @Mock
+    private ColdMessageStore coldMessageStore;
+
+    @InjectMocks
+    private MessageSearchServiceImpl messageSearchService;
+
+    @Test
+    @DisplayName("bigram만 일치하고 검색어가 없는 후보는 결과에서 제외한다")
+    void search_FiltersBigramFalsePositives() {
+        // given
+        when(messageSearchIndex.findCandidateIds(eq(1L), any(), isNull(), anyInt())).thenReturn(List.of(3L, 2L));
+        when(messageStore.findByIds(1L, List.of(3L, 2L))).thenReturn(List.of(
+            message(3L, "남역강남 말고 다른 곳"),
+            message(2L, "강남역 2번 출구에서 봐요")));
+
+        // when
+        MessageSearchResponse response = messageSearchService.search(1L, "강남역", null, 10);
+
+        // then
+        assertThat(response.getResults()).extracting(MessageSearchResponse.Hit::getMessageId).containsExactly(2L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("결과가 size보다 많으면 마지막 결과 ID를 다음 커서로 반환한다")
+    void search_ReturnsCursorWhenMoreResults() {
+        // given
+        when(messageSearchIndex.findCandidateIds(eq(1L), any(), isNull(), anyInt())).thenReturn(List.of(30L, 20L, 10L));
+        when(messageStore.findByIds(1L, List.of(30L, 20L, 10L))).thenReturn(List.of(
+            message(30L, "회의 취소"), message(20L, "회의 연기"), message(10L, "회의 자료")));
+
+        // when
+        MessageSearchResponse response = messageSearchService.search(1L, "회의", null, 2);
+
+        // then
+        assertThat(response.getResults()).extracting(MessageSearchResponse.Hit::getMessageId).containsExactly(30L, 20L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("hot 테이블에 없는 후보는 콜드 저장소에서 찾아 최신순으로 합친다")
+    void search_FallsBackToColdStore() {
+        // given
+        when(messageSearchIndex.findCandidateIds(eq(1L), any(), isNull(), anyInt())).thenReturn(List.of(30L, 20L, 10L));
+        when(messageStore.findByIds(1L, List.of(30L, 20L, 10L))).thenReturn(List.of(message(30L, "회의 취소")));
+        when(coldMessageStore.hasArchive(1L)).thenReturn(true);
+        when(coldMessageStore.findByIds(1L, Set.of(20L, 10L))).thenReturn(List.of(
+            message(20L, "회의 연기"), message(10L, "회의 자료")));
+
+        // when
+        MessageSearchResponse response = messageSearchService.search(1L, "회의", null, 10);
+
+        // then
+        assertThat(response.getResults()).extracting(MessageSearchResponse.Hit::getMessageId)
+            .containsExactly(30L, 20L, 10L);
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("두 글자 이상인 단어가 없는 검색어는 거절한다")
+    void search_RejectsTooShortQuery() {
+        assertThatThrownBy(() -> messageSearchService.search(1L, "밥 ?", null, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스니펫은 검색어 주변만 잘라 보여준다")
+    void snippetOf_CutsAroundTerm() {
+        // given
+        String content = "가".repeat(50) + "강남역" + "나".repeat(100);
+
+        // when
+        String snippet = MessageSearchServiceImpl.snippetOf(content, "강남역");
+
+        // then
+        assertThat(snippet).startsWith("…").endsWith("…").contains("강남역");
+        assertThat(snippet.codePointCount(0, snippet.length())).isEqualTo(82);
+    }
+
+    private Message message(Long messageId, String content) {
+        return Message.builder()
+            .messageId(messageId)
+            .chatroomId(1L)
+            .userId(7L)
+            .messageType(Message.MessageType.TEXT)
+            .messageContent(content)
+            .messageSendAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.ChatHistoryResponse;
+import com.connective.server.chat.domain.dto.ChatMessageResponse;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.repository.MessageStore;
+import com.connective.server.chat.infrastructure.archive.ColdMessageStore;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import com.connective.server.chat.infrastructure.broker.RoomSubscriptionRegistry;
+import com.connective.server.chat.infrastructure.cache.RecentMessageCache;
+import com.connective.server.chat.infrastructure.id.IdGenerator;
+import com.connective.server.chat.infrastructure.persistence.MessageBatchWriter;
+import com.connective.server.user.application.service.UserProfileService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커서(keyset) 이력 조회의 페이지 경계 테스트.
+ * 최근 메시지 캐시는 목(용량 0)이라 모든 조회가 MessageStore로 간다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageServiceImplTest {
+
+    @Mock
+    private MessageStore messageStore;
+
+    @Mock
+    private UserProfileService userProfileService;
+
+    @Mock
+    private MessageBatchWriter messageBatchWriter;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @Mock
+    private RecentMessageCache recentMessageCache;
+
+    @Mock
+    private ColdMessageStore coldMessageStore;
+
+    @Mock
+    private RoomSubscriptionRegistry roomSubscriptionRegistry;
+
+    @Mock
+    private RoomMessageBroadcaster roomMessageBroadcaster;
+
+    @InjectMocks
+    private MessageServiceImpl messageService;
+
+    @Test
+    @DisplayName("size보다 한 건 더 조회되면 size건만 반환하고 마지막 메시지 ID를 다음 커서로 준다")
+    void getMessagesBefore_HasNextWhenExtraRowExists() {
+        // given
+        when(messageStore.findBefore(1L, 100L, 4)).thenReturn(messages(99L, 98L, 97L, 96L));
+
+        // when
+        ChatHistoryResponse response = messageService.getMessagesBefore("1", 100L, 3);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessageResponse::getMessageId)
+            .containsExactly(99L, 98L, 97L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(97L);
+    }
+
+    @Test
+    @DisplayName("정확히 size건이면 다음 페이지가 없다")
+    void getMessagesBefore_NoNextWhenExactlySize() {
+        // given
+        when(messageStore.findLatest(1L, 4)).thenReturn(messages(30L, 20L, 10L));
+
+        // when
+        ChatHistoryResponse response = messageService.getMessagesBefore("1", null, 3);
+
+        // then
+        assertThat(response.getMessages()).hasSize(3);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("메시지가 없는 채팅방은 빈 페이지와 null 커서를 반환한다")
+    void getMessagesBefore_EmptyRoom() {
+        // given
+        when(messageStore.findLatest(1L, 51)).thenReturn(List.of());
+
+        // when
+        ChatHistoryResponse response = messageService.getMessagesBefore("1", null, 50);
+
+        // then
+        assertThat(response.getRoomId()).isEqualTo("1");
+        assertThat(response.getMessages()).isEmpty();
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 size는 1 이상 100 이하로 제한된다")
+    void getMessagesBefore_ClampsSize() {
+        // given
+        when(messageStore.findLatest(1L, 101)).thenReturn(List.of());
+        when(messageStore.findBefore(1L, 50L, 2)).thenReturn(List.of());
+
+        // when
+        messageService.getMessagesBefore("1", null, 1000);
+        messageService.getMessagesBefore("1", 50L, 0);
+
+        // then
+        verify(messageStore).findLatest(1L, 101);
+        verify(messageStore).findBefore(1L, 50L, 2);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 메시지는 모든 노드의 최근 메시지 캐시에서 제거하도록 알린다")
+    void saveMessageAsync_RemovesFailedMessageFromEveryNode() {
+        // given
+        Message message = messages(42L).get(0);
+        ChatMessageResponse response = ChatMessageResponse.builder().messageId(42L).roomId("1").build();
+        when(messageBatchWriter.enqueue(message))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("write failed")));
+
+        // when
+        CompletableFuture<Message> persisted = messageService.saveMessageAsync(message, response);
+
+        // then
+        assertThat(persisted).isCompletedExceptionally();
+        verify(recentMessageCache).append(1L, response);
+        verify(roomMessageBroadcaster).removeRecentMessage(1L, 42L);
+    }
+
+    @Test
+    @DisplayName("커서 이후 조회는 오래된 순서를 유지하고 가장 최신 메시지 ID를 다음 커서로 준다")
+    void getMessagesAfter_KeepsAscendingOrder() {
+        // given
+        when(messageStore.findAfter(1L, 10L, 3)).thenReturn(messages(11L, 12L, 13L));
+
+        // when
+        ChatHistoryResponse response = messageService.getMessagesAfter("1", 10L, 2);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessageResponse::getMessageId)
+            .containsExactly(11L, 12L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(12L);
+    }
+
+    private static List<Message> messages(Long... messageIds) {
+        List<Message> messages = new ArrayList<>();
+        for (Long messageId : messageIds) {
+            messages.add(Message.builder()
+                .messageId(messageId)
+                .chatroomId(1L)
+                .userId(7L)
+                .messageType(Message.MessageType.TEXT)
+                .messageContent("message " + messageId)
+                .messageSendAt(LocalDateTime.now())
+                .build());
+        }
+        return messages;
+    }
+}
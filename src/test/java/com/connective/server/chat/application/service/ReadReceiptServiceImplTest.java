@@ -0,0 +1,100 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.domain.dto.ChatReadStateResponse;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReceiptServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UnreadCountService unreadCountService;
+
+    @Mock
+    private RoomMessageBroadcaster roomMessageBroadcaster;
+
+    @InjectMocks
+    private ReadReceiptServiceImpl readReceiptService;
+
+    @BeforeEach
+    void setUp() {
+        readReceiptService.init();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 읽음 보고는 가장 큰 메시지 ID 하나로 합쳐 저장된다")
+    @SuppressWarnings("unchecked")
+    void flushReads_KeepsMaximumPerMember() {
+        // given
+        readReceiptService.recordRead(1L, 10L, 5L);
+        readReceiptService.recordRead(1L, 10L, 9L);
+        readReceiptService.recordRead(1L, 10L, 3L); // 늦게 도착한 과거 보고
+
+        // when
+        readReceiptService.flushReads();
+
+        // then
+        ArgumentCaptor<Collection<Map.Entry<?, Long>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        assertThat(captor.getValue()).extracting(Map.Entry::getValue).containsExactly(9L);
+        verify(unreadCountService).markRead(1L, 10L, 9L);
+        assertThat(readReceiptService.getPendingWriteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("읽음 상태는 채팅방마다 한 번에 묶어 전파된다")
+    void broadcastReads_SendsOneFramePerRoom() {
+        // given
+        readReceiptService.recordRead(1L, 10L, 5L);
+        readReceiptService.recordRead(1L, 20L, 7L);
+        readReceiptService.recordRead(2L, 10L, 3L);
+
+        // when
+        readReceiptService.broadcastReads();
+
+        // then
+        ArgumentCaptor<ChatReadStateResponse> captor = ArgumentCaptor.forClass(ChatReadStateResponse.class);
+        verify(roomMessageBroadcaster).broadcastToRoom(eq("1"), eq("/read"), captor.capture());
+        assertThat(captor.getValue().getLastReadMessageIds()).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 5L, 20L, 7L));
+        verify(roomMessageBroadcaster, times(1)).broadcastToRoom(eq("2"), eq("/read"), any());
+    }
+
+    @Test
+    @DisplayName("보고가 없으면 UPDATE를 실행하지 않는다")
+    void flushReads_SkipsWhenNothingPending() {
+        // when
+        readReceiptService.flushReads();
+
+        // then
+        verifyNoInteractions(jdbcTemplate, unreadCountService);
+    }
+}
@@ -0,0 +1,163 @@
+package com.connective.server.chat.application.service;
+
+import com.connective.server.chat.application.service.UnreadCountServiceImpl.UnreadDelta;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.event.MessagesPersistedEvent;
+import com.connective.server.chat.domain.repository.MessageStore;
+import com.connective.server.chat.infrastructure.cache.ChatRoomMembershipCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnreadCountServiceImplTest {
+
+    @Test
+    @DisplayName("메시지를 보내지 않은 멤버는 배치의 메시지 수만큼 카운터가 증가한다")
+    void computeDeltas_IncrementsReceivers() {
+        // given
+        List<Message> messages = List.of(message(1L, 10L), message(2L, 10L), message(3L, 20L));
+
+        // when
+        Map<Long, UnreadDelta> deltas = byUser(UnreadCountServiceImpl.computeDeltas(1L, messages, Set.of(10L, 20L, 30L),
+            Map.of()));
+
+        // then
+        assertThat(deltas.get(30L).count()).isEqualTo(3);
+        assertThat(deltas.get(30L).reset()).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 안에서 메시지를 보낸 멤버는 마지막 발신 이후 다른 멤버의 메시지 수로 재설정된다")
+    void computeDeltas_ResetsSenders() {
+        // given
+        List<Message> messages = List.of(message(1L, 10L), message(2L, 20L), message(3L, 10L), message(4L, 20L));
+
+        // when
+        Map<Long, UnreadDelta> deltas = byUser(UnreadCountServiceImpl.computeDeltas(1L, messages, Set.of(10L, 20L), Map.of()));
+
+        // then
+        assertThat(deltas.get(10L).reset()).isTrue();
+        assertThat(deltas.get(10L).count()).isEqualTo(1); // 3번 이후 20번 사용자의 4번 메시지
+        assertThat(deltas.get(20L).reset()).isTrue();
+        assertThat(deltas.get(20L).count()).isZero();
+        assertThat(deltas.get(20L).readUpTo()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("읽음 처리에서 이미 다시 센 메시지는 늦게 반영되더라도 카운터에 더하지 않는다")
+    void computeDeltas_SkipsMessagesCountedByMarkRead() {
+        // given: 30번 사용자는 읽음 처리에서 2번까지 반영했고, 10번 사용자는 자신의 3번 메시지 이후까지 읽었다
+        List<Message> messages = List.of(message(1L, 10L), message(2L, 20L), message(3L, 10L), message(4L, 20L));
+
+        // when
+        Map<Long, UnreadDelta> deltas = byUser(UnreadCountServiceImpl.computeDeltas(1L, messages,
+            Set.of(10L, 20L, 30L), Map.of(30L, 2L, 10L, 4L)));
+
+        // then
+        assertThat(deltas.get(30L).count()).isEqualTo(2);
+        assertThat(deltas.get(30L).reset()).isFalse();
+        assertThat(deltas).doesNotContainKey(10L);
+    }
+
+    @Test
+    @DisplayName("읽음 처리는 다시 센 마지막 메시지 ID를 카운터와 함께 기록한다")
+    void markRead_StoresCountedUpToWithCount() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        MessageStore messageStore = mock(MessageStore.class);
+        when(messageStore.findAfter(1L, 2L, 999)).thenReturn(List.of(message(3L, 10L), message(5L, 20L)));
+        UnreadCountServiceImpl service =
+            new UnreadCountServiceImpl(redisTemplate, mock(ChatRoomMembershipCache.class), messageStore);
+        ReflectionTestUtils.setField(service, "maxCount", 999);
+
+        // when
+        service.markRead(1L, 20L, 2L);
+
+        // then
+        verify(hashOps).putAll("chat:unread:20", Map.of("1", "1", "1:read", "5"));
+    }
+
+    @Test
+    @DisplayName("Redis 갱신이 실패해도 이벤트 발행 스레드로 예외가 전파되지 않고 실패 건수만 기록된다")
+    void onMessagesPersisted_CountsRedisFailuresOffThePublisherThread() throws InterruptedException {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ChatRoomMembershipCache membershipCache = mock(ChatRoomMembershipCache.class);
+        when(membershipCache.getMemberIds(1L)).thenReturn(Set.of(10L, 20L));
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+            .thenThrow(new RedisConnectionFailureException("connection refused"))
+            .thenReturn(Arrays.asList(null, null))
+            .thenReturn(List.of());
+        UnreadCountServiceImpl service = createService(redisTemplate, membershipCache);
+
+        try {
+            // when
+            service.onMessagesPersisted(new MessagesPersistedEvent(List.of(message(1L, 10L))));
+            awaitFailedCount(service, 1);
+            service.onMessagesPersisted(new MessagesPersistedEvent(List.of(message(2L, 20L))));
+
+            // then: 실패 이후 도착한 배치는 계속 처리된다 (반영 기준 조회 + 카운터 갱신)
+            verify(redisTemplate, timeout(1000).times(3)).executePipelined(any(RedisCallback.class));
+            assertThat(service.getFailedCount()).isEqualTo(1);
+            assertThat(service.getDroppedCount()).isZero();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private UnreadCountServiceImpl createService(StringRedisTemplate redisTemplate,
+                                                 ChatRoomMembershipCache membershipCache) {
+        UnreadCountServiceImpl service =
+            new UnreadCountServiceImpl(redisTemplate, membershipCache, mock(MessageStore.class));
+        ReflectionTestUtils.setField(service, "maxCount", 999);
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        ReflectionTestUtils.setField(service, "flushIntervalMillis", 10L);
+        ReflectionTestUtils.setField(service, "queueCapacity", 100);
+        service.init();
+        return service;
+    }
+
+    private void awaitFailedCount(UnreadCountServiceImpl service, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (service.getFailedCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(service.getFailedCount()).isEqualTo(expected);
+    }
+
+    private Map<Long, UnreadDelta> byUser(List<UnreadDelta> deltas) {
+        return deltas.stream().collect(Collectors.toMap(UnreadDelta::userId, Function.identity()));
+    }
+
+    private Message message(Long messageId, Long userId) {
+        return Message.builder()
+            .messageId(messageId)
+            .chatroomId(1L)
+            .userId(userId)
+            .messageType(Message.MessageType.TEXT)
+            .messageContent("message-" + messageId)
+            .messageSendAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.connective.server.chat.infrastructure.archive;
+
+import com.connective.server.chat.domain.entity.Message;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColdMessageStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("여러 세그먼트에 걸친 이전/이후 조회를 이어서 반환한다")
+    void find_AcrossSegments() {
+        // given
+        ColdMessageStore store = createStore(Duration.ofMinutes(1));
+        store.archive(1L, messages(1, 30));
+        store.archive(1L, messages(31, 30));
+
+        // when
+        List<Message> before = store.findBefore(1L, 36L, 10);
+        List<Message> after = store.findAfter(1L, 25L, 10);
+
+        // then
+        assertThat(before).extracting(Message::getMessageId)
+            .containsExactly(35L, 34L, 33L, 32L, 31L, 30L, 29L, 28L, 27L, 26L);
+        assertThat(after).extracting(Message::getMessageId)
+            .containsExactly(26L, 27L, 28L, 29L, 30L, 31L, 32L, 33L, 34L, 35L);
+        assertThat(store.findByIds(1L, List.of(3L, 45L))).extracting(Message::getMessageId)
+            .containsExactly(45L, 3L);
+        assertThat(store.getArchivedUpTo(1L)).isEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("재시작 후에는 디렉터리의 세그먼트 목록을 다시 읽는다")
+    void loadsExistingSegments() {
+        // given
+        createStore(Duration.ofMinutes(1)).archive(1L, messages(1, 20));
+
+        // when
+        ColdMessageStore restarted = createStore(Duration.ofMinutes(1));
+
+        // then
+        assertThat(restarted.hasArchive(1L)).isTrue();
+        assertThat(restarted.hasArchive(2L)).isFalse();
+        assertThat(restarted.findBefore(1L, null, 1)).extracting(Message::getMessageId).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("이미 보관된 범위의 메시지는 다시 보관하지 않는다")
+    void archive_RejectsOverlap() {
+        // given
+        ColdMessageStore store = createStore(Duration.ofMinutes(1));
+        store.archive(1L, messages(1, 20));
+
+        // when & then
+        assertThatThrownBy(() -> store.archive(1L, messages(15, 10)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 쓴 세그먼트는 목록 유효 시간이 지나면 다시 읽어 반영한다")
+    void revalidatesSegmentListAfterTtl() throws InterruptedException {
+        // given: 같은 디렉터리를 공유하는 두 노드
+        ColdMessageStore writer = createStore(Duration.ofMinutes(1));
+        ColdMessageStore reader = createStore(Duration.ofMillis(100));
+        writer.archive(1L, messages(1, 20));
+        assertThat(reader.getArchivedUpTo(1L)).isEqualTo(20L);
+
+        // when
+        writer.archive(1L, messages(21, 20));
+
+        // then
+        assertThat(reader.getArchivedUpTo(1L)).isEqualTo(20L);
+        Thread.sleep(200);
+        assertThat(reader.getArchivedUpTo(1L)).isEqualTo(40L);
+        assertThat(reader.findBefore(1L, null, 1)).extracting(Message::getMessageId).containsExactly(40L);
+    }
+
+    private ColdMessageStore createStore(Duration segmentListTtl) {
+        return new ColdMessageStore(tempDir.toString(), 8, 10, 100, segmentListTtl);
+    }
+
+    private static List<Message> messages(long firstId, int count) {
+        List<Message> messages = new ArrayList<>(count);
+        for (long id = firstId; id < firstId + count; id++) {
+            messages.add(Message.builder()
+                .messageId(id)
+                .chatroomId(1L)
+                .userId(7L)
+                .messageType(Message.MessageType.TEXT)
+                .messageContent("message " + id)
+                .messageSendAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id))
+                .build());
+        }
+        return messages;
+    }
+}
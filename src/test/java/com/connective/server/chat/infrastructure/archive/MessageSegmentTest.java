@@ -0,0 +1,97 @@
+package com.connective.server.chat.infrastructure.archive;
+
+import com.connective.server.chat.domain.entity.Message;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageSegmentTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("여러 블록에 나눠 쓴 메시지를 내용 그대로 다시 읽는다")
+    void writeAndRead_RoundTrip() {
+        // given
+        Path path = tempDir.resolve("1/10-109.seg");
+        List<Message> messages = messages(10, 100);
+        messages.set(5, message(15L, Message.MessageType.IMAGE, null));
+
+        // when
+        MessageSegment.write(path, messages, 16);
+        MessageSegment segment = MessageSegment.open(path, 1L);
+
+        // then
+        List<Message> read = segment.findAfter(0L, 1000);
+        assertThat(segment.getMessageCount()).isEqualTo(100);
+        assertThat(read).hasSize(100);
+        assertThat(read).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(messages);
+        assertThat(Files.exists(path.resolveSibling("10-109.seg.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 이전 조회는 블록 경계를 넘어 최신순으로 limit건을 반환한다")
+    void findBefore_CrossesBlocks() {
+        // given
+        Path path = tempDir.resolve("1/10-109.seg");
+        MessageSegment.write(path, messages(10, 100), 16);
+        MessageSegment segment = MessageSegment.open(path, 1L);
+
+        // when
+        List<Message> page = segment.findBefore(50L, 20);
+
+        // then
+        assertThat(page).extracting(Message::getMessageId)
+            .startsWith(49L, 48L)
+            .endsWith(30L)
+            .hasSize(20);
+        assertThat(segment.findBefore(null, 1)).extracting(Message::getMessageId).containsExactly(109L);
+        assertThat(segment.findBefore(10L, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 이후 조회와 ID 조회는 해당 범위의 메시지만 반환한다")
+    void findAfterAndByIds() {
+        // given
+        Path path = tempDir.resolve("1/10-109.seg");
+        MessageSegment.write(path, messages(10, 100), 16);
+        MessageSegment segment = MessageSegment.open(path, 1L);
+
+        // when & then
+        assertThat(segment.findAfter(100L, 20)).extracting(Message::getMessageId)
+            .containsExactly(101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L);
+        assertThat(segment.findByIds(Set.of(12L, 77L, 500L))).extracting(Message::getMessageId)
+            .containsExactly(12L, 77L);
+    }
+
+    private static List<Message> messages(long firstId, int count) {
+        List<Message> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(message(firstId + i, Message.MessageType.TEXT, "메시지 " + i + " 😀"));
+        }
+        return messages;
+    }
+
+    private static Message message(Long messageId, Message.MessageType type, String content) {
+        return Message.builder()
+            .messageId(messageId)
+            .chatroomId(1L)
+            .userId(messageId % 3)
+            .messageType(type)
+            .messageContent(content)
+            .messageSendAt(BASE_TIME.plusSeconds(messageId))
+            .build();
+    }
+}
@@ -0,0 +1,298 @@
+package com.connective.server.chat.infrastructure.broker;
+
+import com.connective.server.chat.domain.dto.ChatMessageResponse;
+import com.connective.server.chat.domain.entity.Message.MessageType;
+import com.connective.server.chat.domain.event.ChatRoomMembershipChangedEvent;
+import com.connective.server.chat.infrastructure.cache.RecentMessageCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomMessageBroadcasterTest {
+
+    // 두 노드가 하나의 인메모리 전송 계층(Redis 대용)을 공유
+    private final InMemoryPubSubTransport transport = new InMemoryPubSubTransport();
+
+    private SimpMessagingTemplate templateA;
+    private SimpMessagingTemplate templateB;
+    private MessageChannel brokerChannelA;
+    private MessageChannel brokerChannelB;
+    private RoomMessageBroadcaster broadcasterA;
+    private RoomMessageBroadcaster broadcasterB;
+    private RoomSubscriptionRegistry registryA;
+    private RoomSubscriptionRegistry registryB;
+    private RecentMessageCache cacheA;
+    private RecentMessageCache cacheB;
+
+    @BeforeEach
+    void setUp() {
+        templateA = mock(SimpMessagingTemplate.class);
+        templateB = mock(SimpMessagingTemplate.class);
+        brokerChannelA = mock(MessageChannel.class);
+        brokerChannelB = mock(MessageChannel.class);
+        when(templateA.getMessageChannel()).thenReturn(brokerChannelA);
+        when(templateB.getMessageChannel()).thenReturn(brokerChannelB);
+        cacheA = new RecentMessageCache(100, 1 << 20);
+        cacheB = new RecentMessageCache(100, 1 << 20);
+        broadcasterA = createBroadcaster(templateA, cacheA);
+        broadcasterB = createBroadcaster(templateB, cacheB);
+        registryA = new RoomSubscriptionRegistry(transport, broadcasterA, cacheA, templateA);
+        registryB = new RoomSubscriptionRegistry(transport, broadcasterB, cacheB, templateB);
+        registryA.init();
+        registryB.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        registryA.shutdown();
+        registryB.shutdown();
+        broadcasterA.shutdown();
+        broadcasterB.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 구독자에게 직렬화된 본문 그대로 전달된다")
+    void broadcastToRoom_DeliversToOtherNode() {
+        // given
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-1", "/topic/chat/1"));
+        registryB.onSubscribe(subscribeEvent("session-b", "sub-1", "/topic/chat/1"));
+
+        // when
+        broadcasterA.broadcastToRoom("1", Map.of("content", "hello"));
+
+        // then
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(templateB, timeout(1000)).send(eq("/topic/chat/1"), captor.capture());
+        assertThat(new String((byte[]) captor.getValue().getPayload(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"content\":\"hello\"}");
+
+        // 발행한 노드는 로컬 구독자에게 한 번만 전달하고 자신의 메시지를 다시 전달하지 않음
+        verify(templateA, after(100).times(1)).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("로컬 구독자가 없는 방의 채널은 구독하지 않는다")
+    void broadcastToRoom_SkipsNodeWithoutLocalSubscribers() {
+        // given
+        registryB.onSubscribe(subscribeEvent("session-b", "sub-1", "/topic/chat/1"));
+        registryB.onDisconnect(new SessionDisconnectEvent(this, disconnectMessage("session-b"),
+            "session-b", CloseStatus.NORMAL));
+
+        // when
+        broadcasterA.broadcastToRoom("1", Map.of("content", "hello"));
+
+        // then
+        assertThat(registryB.getSubscribedRoomCount()).isZero();
+        verify(templateB, after(100).never()).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 발송된 채팅 메시지는 이 노드의 최근 메시지 캐시에도 추가된다")
+    void onMessage_AppendsRemoteMessagesToRecentCache() {
+        // given: 노드 B는 방 1의 전체 이력(1건)을 캐시에 갖고 있다
+        registryB.onSubscribe(subscribeEvent("session-b", "sub-1", "/topic/chat/1"));
+        cacheB.warm(1L, List.of(chatMessage(10L, "first")), true);
+
+        // when: 노드 A에서 새 메시지와 입장 안내(ID 없음), 읽음 상태(하위 destination)를 발송
+        broadcasterA.broadcastToRoom("1", chatMessage(20L, "second"));
+        broadcasterA.broadcastToRoom("1", chatMessage(null, "님이 입장하셨습니다."));
+        broadcasterA.broadcastToRoom("1", "/read", Map.of("userId", 7));
+
+        // then
+        verify(templateB, timeout(1000).times(2)).send(eq("/topic/chat/1"), any(Message.class));
+        verify(templateB, timeout(1000)).send(eq("/topic/chat/1/read"), any(Message.class));
+        RecentMessageCache.CachedPage page = cacheB.getBefore(1L, null, 10).orElseThrow();
+        assertThat(page.messages()).extracting(ChatMessageResponse::getMessageId).containsExactly(20L, 10L);
+        assertThat(page.messages().get(0).getContent()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 메시지는 발송 노드와 다른 노드의 최근 메시지 캐시에서 모두 제거된다")
+    void removeRecentMessage_RemovesFromEveryNode() {
+        // given: 노드 A에서 발송된 메시지가 두 노드의 캐시에 들어가 있다
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-1", "/topic/chat/1"));
+        registryB.onSubscribe(subscribeEvent("session-b", "sub-1", "/topic/chat/1"));
+        cacheA.warm(1L, List.of(chatMessage(10L, "first")), true);
+        cacheB.warm(1L, List.of(chatMessage(10L, "first")), true);
+        cacheA.append(1L, chatMessage(20L, "second"));
+        broadcasterA.broadcastToRoom("1", chatMessage(20L, "second"));
+
+        // when
+        broadcasterA.removeRecentMessage(1L, 20L);
+
+        // then: 제거는 방 메시지 뒤에 발행되므로 B에서도 추가된 뒤 제거된다
+        verify(templateB, timeout(1000)).send(eq("/topic/chat/1"), any(Message.class));
+        assertThat(cacheA.getBefore(1L, null, 10).orElseThrow().messages())
+            .extracting(ChatMessageResponse::getMessageId).containsExactly(10L);
+        awaitCachedIds(cacheB, List.of(10L));
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 구독자가 나가 방 채널 구독을 해제하면 그 방의 캐시를 비운다")
+    void onDisconnect_EvictsRecentCacheWhenChannelIsReleased() {
+        // given
+        registryB.onSubscribe(subscribeEvent("session-b", "sub-1", "/topic/chat/1"));
+        cacheB.warm(1L, List.of(chatMessage(10L, "first")), true);
+        assertThat(registryB.isRoomSubscribed(1L)).isTrue();
+
+        // when
+        registryB.onDisconnect(new SessionDisconnectEvent(this, disconnectMessage("session-b"),
+            "session-b", CloseStatus.NORMAL));
+
+        // then
+        assertThat(registryB.isRoomSubscribed(1L)).isFalse();
+        assertThat(cacheB.getBefore(1L, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 방의 하위 destination 구독은 하나의 채널 구독으로 집계된다")
+    void onSubscribe_CountsSubDestinationsPerRoom() {
+        // when
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-1", "/topic/chat/1"));
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-2", "/topic/chat/1/read"));
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-3", "/user/queue/receipts"));
+
+        // then
+        assertThat(registryA.getLocalSubscriberCount("1")).isEqualTo(2);
+        assertThat(registryA.getSubscribedRoomCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅방을 나간 사용자의 방 구독은 모든 노드의 브로커에서 해제된다")
+    void onMembershipChanged_RevokesSubscriptionsOfLeftUserOnEveryNode() {
+        // given: 사용자 7은 노드 A와 B에 세션이 있고, 사용자 8은 노드 B에서 같은 방을 구독 중
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-1", "/topic/chat/1", () -> "7"));
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-2", "/topic/chat/1/read", () -> "7"));
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-3", "/topic/chat/2", () -> "7"));
+        registryB.onSubscribe(subscribeEvent("session-b", "sub-1", "/topic/chat/1", () -> "7"));
+        registryB.onSubscribe(subscribeEvent("session-c", "sub-1", "/topic/chat/1", () -> "8"));
+
+        // when
+        registryA.onMembershipChanged(new ChatRoomMembershipChangedEvent(1L, 7L,
+            ChatRoomMembershipChangedEvent.ChangeType.LEFT));
+
+        // then
+        ArgumentCaptor<Message<?>> unsubscribesA = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannelA, times(2)).send(unsubscribesA.capture());
+        assertThat(unsubscribesA.getAllValues())
+            .allSatisfy(message -> assertUnsubscribe(message, "session-a"))
+            .extracting(message -> SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()))
+            .containsExactlyInAnyOrder("sub-1", "sub-2");
+        ArgumentCaptor<Message<?>> unsubscribesB = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannelB).send(unsubscribesB.capture());
+        assertUnsubscribe(unsubscribesB.getValue(), "session-b");
+
+        assertThat(registryA.isRoomSubscribed(1L)).isFalse();
+        assertThat(registryA.getLocalSubscriberCount("2")).isEqualTo(1);
+        assertThat(registryB.getLocalSubscriberCount("1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅방에 새로 들어온 경우에는 구독을 해제하지 않는다")
+    void onMembershipChanged_IgnoresJoin() {
+        // given
+        registryA.onSubscribe(subscribeEvent("session-a", "sub-1", "/topic/chat/1", () -> "7"));
+
+        // when
+        registryA.onMembershipChanged(new ChatRoomMembershipChangedEvent(1L, 7L,
+            ChatRoomMembershipChangedEvent.ChangeType.JOINED));
+
+        // then
+        verify(brokerChannelA, never()).send(any());
+        assertThat(registryA.getLocalSubscriberCount("1")).isEqualTo(1);
+    }
+
+    private void awaitCachedIds(RecentMessageCache cache, List<Long> expected) {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!cachedIds(cache).equals(expected) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(cachedIds(cache)).isEqualTo(expected);
+    }
+
+    private List<Long> cachedIds(RecentMessageCache cache) {
+        return cache.getBefore(1L, null, 10).orElseThrow().messages().stream()
+            .map(ChatMessageResponse::getMessageId)
+            .toList();
+    }
+
+    private void assertUnsubscribe(Message<?> message, String sessionId) {
+        assertThat(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))
+            .isEqualTo(SimpMessageType.UNSUBSCRIBE);
+        assertThat(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())).isEqualTo(sessionId);
+    }
+
+    private RoomMessageBroadcaster createBroadcaster(SimpMessagingTemplate template, RecentMessageCache cache) {
+        RoomMessageBroadcaster broadcaster = new RoomMessageBroadcaster(template, transport,
+            new ObjectMapper().findAndRegisterModules(), cache);
+        ReflectionTestUtils.setField(broadcaster, "batchSize", 16);
+        ReflectionTestUtils.setField(broadcaster, "flushIntervalMillis", 5L);
+        ReflectionTestUtils.setField(broadcaster, "queueCapacity", 100);
+        broadcaster.init();
+        return broadcaster;
+    }
+
+    private ChatMessageResponse chatMessage(Long messageId, String content) {
+        return ChatMessageResponse.builder()
+            .messageId(messageId)
+            .roomId("1")
+            .senderId(7L)
+            .content(content)
+            .messageType(MessageType.TEXT)
+            .timestamp(LocalDateTime.of(2025, 1, 1, 9, 0))
+            .build();
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination) {
+        return subscribeEvent(sessionId, subscriptionId, destination, null);
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination,
+                                                 Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+            user);
+    }
+
+    private Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
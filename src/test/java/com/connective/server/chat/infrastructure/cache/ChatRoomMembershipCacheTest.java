@@ -0,0 +1,122 @@
+package com.connective.server.chat.infrastructure.cache;
+
+import com.connective.server.chat.domain.entity.ChatRoomMember;
+import com.connective.server.chat.domain.event.ChatRoomMembershipChangedEvent;
+import com.connective.server.chat.domain.repository.ChatRoomMemberRepository;
+import com.connective.server.chat.infrastructure.broker.InMemoryPubSubTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatRoomMembershipCacheTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository = mock(ChatRoomMemberRepository.class);
+    private final InMemoryPubSubTransport transport = new InMemoryPubSubTransport();
+    private ChatRoomMembershipCache nodeA;
+    private ChatRoomMembershipCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = createCache();
+        nodeB = createCache();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 반복 검사는 DB를 한 번만 조회한다")
+    void isMember_LoadsRoomOnce() {
+        // given
+        when(chatRoomMemberRepository.findUserIdsByChatroomId(ROOM_ID)).thenReturn(List.of(10L, 20L));
+
+        // when
+        boolean member = nodeA.isMember(ROOM_ID, 10L);
+        boolean stillMember = nodeA.isMember(ROOM_ID, 20L);
+        boolean stranger = nodeA.isMember(ROOM_ID, 30L);
+
+        // then
+        assertThat(member).isTrue();
+        assertThat(stillMember).isTrue();
+        assertThat(stranger).isFalse();
+        verify(chatRoomMemberRepository, times(1)).findUserIdsByChatroomId(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("멤버십 변경 이벤트는 다른 노드의 캐시까지 무효화한다")
+    void onMembershipChanged_InvalidatesAllNodes() {
+        // given
+        when(chatRoomMemberRepository.findUserIdsByChatroomId(ROOM_ID))
+            .thenReturn(List.of(10L))
+            .thenReturn(List.of(10L))
+            .thenReturn(List.of(10L, 30L));
+        nodeA.isMember(ROOM_ID, 30L);
+        nodeB.isMember(ROOM_ID, 30L);
+
+        // when
+        nodeA.onMembershipChanged(new ChatRoomMembershipChangedEvent(
+            ROOM_ID, 30L, ChatRoomMembershipChangedEvent.ChangeType.JOINED));
+
+        // then
+        assertThat(nodeB.isMember(ROOM_ID, 30L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자들의 채팅방은 한 번에 조회하고, 멤버십이 바뀐 사용자만 다시 읽는다")
+    void getRoomIds_LoadsMissingUsersTogether() {
+        // given
+        List<ChatRoomMember> members = new ArrayList<>(
+            List.of(member(ROOM_ID, 10L), member(2L, 10L), member(ROOM_ID, 20L)));
+        when(chatRoomMemberRepository.findByUserIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+            return members.stream()
+                .filter(member -> userIds.contains(member.getUserId()))
+                .toList();
+        });
+        nodeA.getRoomIds(List.of(10L, 20L, 30L));
+
+        // when: 10번 사용자가 채팅방 2를 나간다
+        members.removeIf(member -> member.getChatroomId().equals(2L));
+        nodeA.onMembershipChanged(new ChatRoomMembershipChangedEvent(
+            2L, 10L, ChatRoomMembershipChangedEvent.ChangeType.LEFT));
+        Map<Long, Set<Long>> rooms = nodeA.getRoomIds(List.of(10L, 20L, 30L));
+
+        // then
+        assertThat(rooms).containsEntry(10L, Set.of(ROOM_ID))
+            .containsEntry(20L, Set.of(ROOM_ID))
+            .containsEntry(30L, Set.of());
+        verify(chatRoomMemberRepository).findByUserIdIn(argThat(userIds -> userIds.size() == 3));
+        verify(chatRoomMemberRepository).findByUserIdIn(List.of(10L));
+    }
+
+    private ChatRoomMember member(Long chatroomId, Long userId) {
+        return ChatRoomMember.builder()
+            .chatroomId(chatroomId)
+            .userId(userId)
+            .build();
+    }
+
+    private ChatRoomMembershipCache createCache() {
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(chatRoomMemberRepository, transport);
+        ReflectionTestUtils.setField(cache, "maxRooms", 100L);
+        ReflectionTestUtils.setField(cache, "maxUsers", 100L);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(10));
+        cache.init();
+        return cache;
+    }
+}
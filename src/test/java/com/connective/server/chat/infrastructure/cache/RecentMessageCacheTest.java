@@ -0,0 +1,170 @@
+package com.connective.server.chat.infrastructure.cache;
+
+import com.connective.server.chat.domain.dto.ChatMessageResponse;
+import com.connective.server.chat.domain.entity.Message;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentMessageCacheTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Test
+    @DisplayName("최신 페이지 조회 - warm 이전에는 캐시 미스")
+    void getBefore_MissBeforeWarm() {
+        // given
+        RecentMessageCache cache = new RecentMessageCache(10, Long.MAX_VALUE);
+        cache.append(ROOM_ID, message(1));
+
+        // when & then
+        assertThat(cache.getBefore(ROOM_ID, null, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최신 페이지 조회 - warm 후 발송된 메시지와 병합되어 최신순으로 반환")
+    void getBefore_MergesWarmAndAppended() {
+        // given
+        RecentMessageCache cache = new RecentMessageCache(10, Long.MAX_VALUE);
+        cache.append(ROOM_ID, message(5)); // 아직 DB에 반영되지 않은 메시지
+        cache.warm(ROOM_ID, List.of(message(4), message(3), message(2), message(1)), true);
+
+        // when
+        RecentMessageCache.CachedPage page = cache.getBefore(ROOM_ID, null, 3).orElseThrow();
+
+        // then
+        assertThat(page.messages()).extracting(ChatMessageResponse::getMessageId).containsExactly(5L, 4L, 3L);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 전체 이력을 가진 방은 마지막 페이지까지 캐시에서 응답")
+    void getBefore_CompleteRoomServesLastPage() {
+        // given
+        RecentMessageCache cache = new RecentMessageCache(10, Long.MAX_VALUE);
+        cache.warm(ROOM_ID, List.of(message(3), message(2), message(1)), true);
+
+        // when
+        RecentMessageCache.CachedPage page = cache.getBefore(ROOM_ID, 3L, 5).orElseThrow();
+
+        // then
+        assertThat(page.messages()).extracting(ChatMessageResponse::getMessageId).containsExactly(2L, 1L);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 버퍼 범위를 벗어나면 캐시 미스")
+    void getBefore_MissWhenCursorBeyondBuffer() {
+        // given
+        RecentMessageCache cache = new RecentMessageCache(3, Long.MAX_VALUE);
+        cache.warm(ROOM_ID, List.of(message(10), message(9), message(8)), false);
+
+        // when & then
+        assertThat(cache.getBefore(ROOM_ID, 9L, 2)).isEmpty();
+        assertThat(cache.getBefore(ROOM_ID, null, 3)).isPresent();
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 용량을 넘으면 가장 오래된 메시지부터 밀려남")
+    void append_DropsOldestWhenFull() {
+        // given
+        RecentMessageCache cache = new RecentMessageCache(3, Long.MAX_VALUE);
+        cache.warm(ROOM_ID, List.of(), true);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            cache.append(ROOM_ID, message(id));
+        }
+
+        // then
+        RecentMessageCache.CachedPage page = cache.getBefore(ROOM_ID, null, 3).orElseThrow();
+        assertThat(page.messages()).extracting(ChatMessageResponse::getMessageId).containsExactly(5L, 4L, 3L);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장 실패 - 제거된 메시지는 조회되지 않음")
+    void remove_FailedMessage() {
+        // given
+        RecentMessageCache cache = new RecentMessageCache(10, Long.MAX_VALUE);
+        cache.warm(ROOM_ID, List.of(message(2), message(1)), true);
+        cache.append(ROOM_ID, message(3));
+
+        // when
+        cache.remove(ROOM_ID, 3L);
+
+        // then
+        assertThat(cache.getBefore(ROOM_ID, null, 10).orElseThrow().messages())
+            .extracting(ChatMessageResponse::getMessageId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("메모리 한도 - 초과 시 가장 오래 접근되지 않은 방부터 제거")
+    void append_EvictsLeastRecentlyUsedRooms() {
+        // given
+        long perMessage = RecentMessageCache.estimateBytes(message(1));
+        RecentMessageCache cache = new RecentMessageCache(10, perMessage * 4);
+        cache.append(1L, message(1));
+        cache.append(2L, message(2));
+        cache.append(3L, message(3));
+
+        // when
+        cache.append(4L, message(4));
+        cache.append(4L, message(5));
+
+        // then
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(perMessage * 4);
+        assertThat(cache.getRoomCount()).isLessThan(4);
+    }
+
+    @Test
+    @DisplayName("동시성 - 같은 방에 여러 스레드가 발송해도 순서와 개수가 유지됨")
+    void append_ConcurrentSendersKeepOrder() throws InterruptedException {
+        // given
+        int capacity = 500;
+        RecentMessageCache cache = new RecentMessageCache(capacity, Long.MAX_VALUE);
+        cache.warm(ROOM_ID, List.of(), true);
+        AtomicLong ids = new AtomicLong();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 200; i++) {
+                    cache.append(ROOM_ID, message(ids.incrementAndGet()));
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        List<ChatMessageResponse> messages = cache.getBefore(ROOM_ID, null, capacity).orElseThrow().messages();
+        assertThat(messages).hasSize(capacity);
+        assertThat(messages).extracting(ChatMessageResponse::getMessageId)
+            .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(messages.get(0).getMessageId()).isEqualTo(threads * 200L);
+    }
+
+    private ChatMessageResponse message(long messageId) {
+        return ChatMessageResponse.builder()
+            .messageId(messageId)
+            .roomId(String.valueOf(ROOM_ID))
+            .senderId(1L)
+            .senderNickname("tester")
+            .content("message " + messageId)
+            .messageType(Message.MessageType.TEXT)
+            .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.connective.server.chat.infrastructure.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("ID 발급 - 같은 ms 안에서도 단조 증가")
+    void nextId_MonotonicWithinSameMillisecond() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> SnowflakeIdGenerator.EPOCH + 1000);
+
+        // when
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+
+            // then
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("ID 발급 - 시계가 뒤로 가도 단조 증가")
+    void nextId_MonotonicWhenClockMovesBackwards() {
+        // given
+        AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH + 5000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, now::get);
+        long first = generator.nextId();
+
+        // when
+        now.addAndGet(-3000);
+        long second = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("ID 발급 - 발급 시각과 노드 ID가 ID에 기록됨")
+    void nextId_EncodesTimestampAndNode() {
+        // given
+        long millis = Instant.parse("2026-10-17T00:00:00Z").toEpochMilli();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(37, () -> millis);
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(millis);
+        assertThat((id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(37);
+        assertThat(id).isGreaterThanOrEqualTo(SnowflakeIdGenerator.lowerBoundOf(Instant.ofEpochMilli(millis)));
+        assertThat(id).isLessThan(SnowflakeIdGenerator.lowerBoundOf(Instant.ofEpochMilli(millis + 1)));
+    }
+
+    @Test
+    @DisplayName("ID 발급 - 여러 스레드, 여러 노드에서 중복 없음")
+    void nextId_UniqueAcrossThreadsAndNodes() throws InterruptedException {
+        // given
+        List<SnowflakeIdGenerator> nodes = new ArrayList<>();
+        for (int node = 0; node < 4; node++) {
+            nodes.add(new SnowflakeIdGenerator(node));
+        }
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int idsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            SnowflakeIdGenerator generator = nodes.get(t % nodes.size());
+            executor.execute(() -> {
+                for (int i = 0; i < idsPerThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                done.countDown();
+            });
+        }
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("생성 - 범위를 벗어난 노드 ID")
+    void constructor_InvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 H2(MySQL 모드)에 적용하고, 채팅 조회 쿼리의 실행 계획이
+ * 테이블 전체 스캔 없이 의도한 인덱스를 사용하는지 확인한다.
+ */
+class ChatSchemaMigrationTest {
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:schema-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+            "sa", "");
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("커서 이력 조회는 (chatroom_id, message_id) 인덱스를 사용한다")
+    void messageKeysetQuery_UsesRoomIdIndex() {
+        assertUsesIndex("SELECT * FROM message WHERE chatroom_id = 1 AND message_id < 100 "
+            + "ORDER BY message_id DESC LIMIT 50", "idx_message_room_id");
+    }
+
+    @Test
+    @DisplayName("발송 시각 기준 조회는 채팅방 인덱스를 사용한다")
+    void messageSentAtQuery_UsesRoomIndex() {
+        assertUsesIndex("SELECT * FROM message WHERE chatroom_id = 1 ORDER BY message_send_at DESC LIMIT 1",
+            "idx_message_room_sent_at", "idx_message_room_id");
+    }
+
+    @Test
+    @DisplayName("채팅방 멤버 ID 조회는 멤버십 유니크 인덱스를 사용한다")
+    void memberIdsQuery_UsesMembershipIndex() {
+        assertUsesIndex("SELECT user_id FROM chat_room_member WHERE chatroom_id = 1", "uk_chat_room_member");
+    }
+
+    @Test
+    @DisplayName("사용자별 채팅방 조회는 사용자 인덱스를 사용한다")
+    void roomsByUserQuery_UsesUserIndex() {
+        assertUsesIndex("SELECT chatroom_id FROM chat_room_member WHERE user_id = 1", "idx_chat_room_member_user");
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 사용자 조회는 인덱스로 처리된다")
+    void socialUserQuery_UsesSocialIndex() {
+        assertUsesIndex("SELECT * FROM user WHERE social_provider = 'GOOGLE' AND social_id = 'google-1'",
+            "uk_user_social", "uk_user_social_id");
+    }
+
+    @Test
+    @DisplayName("1:1 채팅방 조회는 사용자 쌍 유니크 인덱스를 사용한다")
+    void oneToOneRoomQuery_UsesPairIndex() {
+        assertUsesIndex("SELECT * FROM chat_room WHERE pair_low_user_id = 1 AND pair_high_user_id = 2",
+            "uk_chat_room_pair");
+    }
+
+    @Test
+    @DisplayName("메시지 검색 후보 조회는 채팅방 범위의 검색 토큰 PK를 사용한다")
+    void searchCandidateQuery_UsesTokenPrimaryKey() {
+        assertUsesIndex("SELECT message_id FROM message_search_token WHERE chatroom_id = 1 AND token IN (1, 2) "
+            + "GROUP BY message_id HAVING COUNT(*) = 2 ORDER BY message_id DESC LIMIT 41", "primary_key");
+    }
+
+    private void assertUsesIndex(String sql, String... candidateIndexes) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+        assertThat(plan).doesNotContain("tablescan");
+        assertThat(candidateIndexes).anySatisfy(index -> assertThat(plan).contains(index));
+    }
+}
@@ -0,0 +1,122 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 ddl-auto로 만들어진 DB에 운영 설정(baseline-on-migrate, baseline-version 1)으로
+ * 마이그레이션을 적용해 V2 이후 변경이 모두 반영되는지 확인한다.
+ */
+class LegacySchemaMigrationTest {
+
+    private static JdbcTemplate jdbcTemplate;
+    private static Flyway flyway;
+
+    @BeforeAll
+    static void migrateLegacyDatabase() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:legacy-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+            "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy/ddl_auto_schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // ddl-auto 시절 데이터: 같은 사용자 쌍의 1:1 채팅방 두 개 (동시 입장으로 생긴 중복 멤버십 포함)와 메시지
+        jdbcTemplate.update("INSERT INTO user (email, social_provider, social_id) VALUES "
+            + "('a@test.com', 'GOOGLE', 'google-a'), ('b@test.com', 'GOOGLE', 'google-b')");
+        jdbcTemplate.update("INSERT INTO chat_room (chatroom_type, chatroom_status, created_at, updated_at) VALUES "
+            + "('ONE_TO_ONE', 'ACTIVE', '2025-01-01 00:00:00', '2025-01-02 00:00:00'), "
+            + "('ONE_TO_ONE', 'ACTIVE', '2025-01-01 00:00:01', '2025-01-01 00:00:01')");
+        jdbcTemplate.update("INSERT INTO chat_room_member (chatroom_id, user_id) VALUES "
+            + "(1, 2), (1, 1), (1, 2), (2, 1), (2, 2)");
+        jdbcTemplate.update("INSERT INTO message (chatroom_id, user_id, message_type, message_content, message_send_at) "
+            + "VALUES (1, 1, 'TEXT', 'first', '2025-01-02 09:00:00'), (1, 2, 'TEXT', 'hello', '2025-01-02 09:30:00')");
+
+        flyway = Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load();
+        flyway.migrate();
+    }
+
+    @Test
+    @DisplayName("기준선 이후 마이그레이션이 모두 적용된다")
+    void appliesAllMigrationsAfterBaseline() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).extracting(info -> info.getVersion().getVersion())
+            .startsWith("1", "2");
+    }
+
+    @Test
+    @DisplayName("기존 채팅방의 요약이 중복 멤버십을 제외한 멤버 수와 마지막 메시지로 생성된다")
+    void backfillsRoomSummaries() {
+        Map<String, Object> summary = jdbcTemplate.queryForMap(
+            "SELECT member_count, last_message_id, last_message_type, last_message_snippet, last_sender_id, "
+                + "last_message_at, last_activity_at FROM chat_room_summary WHERE chatroom_id = 1");
+
+        assertThat(((Number) summary.get("member_count")).longValue()).isEqualTo(2L);
+        assertThat(((Number) summary.get("last_message_id")).longValue()).isEqualTo(2L);
+        assertThat(summary.get("last_message_type")).isEqualTo("TEXT");
+        assertThat(summary.get("last_message_snippet")).isEqualTo("hello");
+        assertThat(((Number) summary.get("last_sender_id")).longValue()).isEqualTo(2L);
+        assertThat(summary.get("last_message_at")).isEqualTo(Timestamp.valueOf("2025-01-02 09:30:00"));
+        assertThat(summary.get("last_activity_at")).isEqualTo(Timestamp.valueOf("2025-01-02 09:30:00"));
+    }
+
+    @Test
+    @DisplayName("메시지가 없는 채팅방은 채팅방 수정 시각을 마지막 활동 시각으로 쓴다")
+    void backfillsRoomSummariesWithoutMessages() {
+        Map<String, Object> summary = jdbcTemplate.queryForMap(
+            "SELECT last_message_id, last_activity_at FROM chat_room_summary WHERE chatroom_id = 2");
+
+        assertThat(summary.get("last_message_id")).isNull();
+        assertThat(summary.get("last_activity_at")).isEqualTo(Timestamp.valueOf("2025-01-01 00:00:01"));
+    }
+
+    @Test
+    @DisplayName("애플리케이션이 발급한 메시지 ID로 저장할 수 있다")
+    void acceptsApplicationAssignedMessageIds() {
+        jdbcTemplate.update("INSERT INTO message (message_id, chatroom_id, user_id, message_type, message_content, "
+            + "message_send_at) VALUES (7300000000000000000, 1, 2, 'TEXT', 'snowflake', '2025-01-03 00:00:00')");
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM message WHERE chatroom_id = 1", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기존 1:1 채팅방의 사용자 쌍을 채우고 같은 쌍의 중복 채팅방은 비워 둔다")
+    void backfillsOneToOnePairs() {
+        Map<String, Object> first = jdbcTemplate.queryForMap(
+            "SELECT pair_low_user_id, pair_high_user_id FROM chat_room WHERE chatroom_id = 1");
+        Map<String, Object> duplicate = jdbcTemplate.queryForMap(
+            "SELECT pair_low_user_id, pair_high_user_id FROM chat_room WHERE chatroom_id = 2");
+
+        assertThat(((Number) first.get("pair_low_user_id")).longValue()).isEqualTo(1L);
+        assertThat(((Number) first.get("pair_high_user_id")).longValue()).isEqualTo(2L);
+        assertThat(duplicate.get("pair_low_user_id")).isNull();
+        assertThat(duplicate.get("pair_high_user_id")).isNull();
+    }
+
+    @Test
+    @DisplayName("1:1 채팅방 사용자 쌍 컬럼과 유니크 제약이 추가된다")
+    void addsPairColumns() {
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.columns WHERE table_name = 'chat_room' "
+                + "AND column_name IN ('pair_low_user_id', 'pair_high_user_id')", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.table_constraints WHERE constraint_name = 'uk_chat_room_pair'",
+            Integer.class)).isEqualTo(1);
+    }
+}
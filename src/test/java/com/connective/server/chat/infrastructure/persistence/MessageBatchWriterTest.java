@@ -0,0 +1,153 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.domain.event.MessagesPersistedEvent;
+import com.connective.server.chat.domain.repository.MessageStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MessageBatchWriterTest {
+
+    @Mock
+    private MessageStore messageStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MessageBatchWriter messageBatchWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (messageBatchWriter != null) {
+            messageBatchWriter.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 메시지를 batch-size 단위로 모아 저장하고 future를 완료한다")
+    void enqueue_PersistsInBatches() throws Exception {
+        // given
+        startWriter(3, 200, 100);
+
+        // when
+        List<CompletableFuture<Message>> futures = List.of(
+            messageBatchWriter.enqueue(message(1L, "a")),
+            messageBatchWriter.enqueue(message(2L, "b")),
+            messageBatchWriter.enqueue(message(3L, "c")),
+            messageBatchWriter.enqueue(message(4L, "d")),
+            messageBatchWriter.enqueue(message(5L, "e")));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> batches = ArgumentCaptor.forClass(List.class);
+        verify(messageStore, times(2)).saveAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(3, 2);
+        assertThat(futures.get(4).get().getMessageId()).isEqualTo(5L);
+        verify(eventPublisher, timeout(1000).times(2)).publishEvent(any(MessagesPersistedEvent.class));
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 한 건씩 다시 저장하고 실패한 메시지의 future만 예외로 완료한다")
+    void flush_FallsBackToIndividualSaves() throws Exception {
+        // given
+        Message broken = message(2L, "broken");
+        doAnswer(invocation -> {
+            List<Message> messages = invocation.getArgument(0);
+            if (messages.contains(broken)) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return null;
+        }).when(messageStore).saveAll(anyList());
+        startWriter(3, 200, 100);
+
+        // when
+        CompletableFuture<Message> first = messageBatchWriter.enqueue(message(1L, "a"));
+        CompletableFuture<Message> failed = messageBatchWriter.enqueue(broken);
+        CompletableFuture<Message> third = messageBatchWriter.enqueue(message(3L, "c"));
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).getMessageId()).isEqualTo(1L);
+        assertThat(third.get(5, TimeUnit.SECONDS).getMessageId()).isEqualTo(3L);
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<MessagesPersistedEvent> event = ArgumentCaptor.forClass(MessagesPersistedEvent.class);
+        verify(eventPublisher, timeout(1000)).publishEvent(event.capture());
+        assertThat(event.getValue().getMessages()).extracting(Message::getMessageId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("저장 큐가 가득 차면 future를 즉시 RejectedExecutionException으로 완료한다")
+    void enqueue_RejectsWhenQueueIsFull() throws Exception {
+        // given: flusher가 첫 메시지를 저장하는 동안 멈춰 있게 한다
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(messageStore).saveAll(anyList());
+        startWriter(1, 10, 1);
+
+        CompletableFuture<Message> inFlight = messageBatchWriter.enqueue(message(1L, "a"));
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Message> queued = messageBatchWriter.enqueue(message(2L, "b"));
+
+        // when
+        CompletableFuture<Message> rejected = messageBatchWriter.enqueue(message(3L, "c"));
+
+        // then
+        assertThat(rejected.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getMessageId()).isEqualTo(1L);
+        assertThat(queued.get(5, TimeUnit.SECONDS).getMessageId()).isEqualTo(2L);
+    }
+
+    private void startWriter(int batchSize, long flushIntervalMillis, int queueCapacity) {
+        messageBatchWriter = new MessageBatchWriter(messageStore, eventPublisher);
+        ReflectionTestUtils.setField(messageBatchWriter, "batchSize", batchSize);
+        ReflectionTestUtils.setField(messageBatchWriter, "flushIntervalMillis", flushIntervalMillis);
+        ReflectionTestUtils.setField(messageBatchWriter, "queueCapacity", queueCapacity);
+        messageBatchWriter.init();
+    }
+
+    private Message message(Long messageId, String content) {
+        return Message.builder()
+            .messageId(messageId)
+            .chatroomId(1L)
+            .userId(7L)
+            .messageType(Message.MessageType.TEXT)
+            .messageContent(content)
+            .messageSendAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.connective.server.chat.infrastructure.persistence;
+
+import com.connective.server.chat.domain.document.MessageBucket;
+import com.connective.server.chat.domain.entity.Message;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.bson.Document;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoBucketMessageStoreTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private MongoBucketMessageStore messageStore;
+
+    @Test
+    @DisplayName("범위가 겹치는 버킷을 병합해 커서 이전 메시지를 최신순으로 중복 없이 반환한다")
+    void findBefore_MergesOverlappingBuckets() {
+        // given - 동시 생성으로 messageId 범위가 겹친 두 버킷과 마이그레이션 재실행으로 생긴 중복(5)
+        MessageBucket newer = bucket(4, 6, 8, 10);
+        MessageBucket older = bucket(1, 3, 5, 7, 9);
+        MessageBucket oldest = bucket(5);
+        when(mongoTemplate.stream(any(Query.class), eq(MessageBucket.class)))
+            .thenReturn(Stream.of(newer, older, oldest));
+
+        // when
+        List<Message> messages = messageStore.findBefore(1L, 10L, 4);
+
+        // then
+        assertThat(messages).extracting(Message::getMessageId).containsExactly(9L, 8L, 7L, 6L);
+    }
+
+    @Test
+    @DisplayName("limit건을 모은 뒤 더 오래된 버킷만 남으면 읽기를 중단한다")
+    void findLatest_StopsAfterEnoughMessages() {
+        // given
+        MessageBucket latest = bucket(LongStream.rangeClosed(11, 20).toArray());
+        MessageBucket previous = bucket(LongStream.rangeClosed(1, 10).toArray());
+        when(mongoTemplate.stream(any(Query.class), eq(MessageBucket.class)))
+            .thenReturn(Stream.of(latest, previous));
+
+        // when
+        List<Message> messages = messageStore.findLatest(1L, 5);
+
+        // then
+        assertThat(messages).extracting(Message::getMessageId).containsExactly(20L, 19L, 18L, 17L, 16L);
+        assertThat(messages).allMatch(message -> message.getChatroomId().equals(1L));
+    }
+
+    @Test
+    @DisplayName("커서 이후 메시지는 오래된 순으로 limit건 반환한다")
+    void findAfter_ReturnsOldestFirst() {
+        // given
+        MessageBucket first = bucket(1, 2, 3, 4);
+        MessageBucket second = bucket(5, 6, 7);
+        when(mongoTemplate.stream(any(Query.class), eq(MessageBucket.class)))
+            .thenReturn(Stream.of(first, second));
+
+        // when
+        List<Message> messages = messageStore.findAfter(1L, 2L, 3);
+
+        // then
+        assertThat(messages).extracting(Message::getMessageId).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("열린 버킷의 남은 자리를 먼저 채우고 나머지는 bucket-size를 넘지 않게 나눠 쓴다")
+    void saveAll_SplitsMessagesSoNoBucketExceedsBucketSize() {
+        // given - 방 1의 열린 버킷에는 199건이 있고 한 번에 250건을 저장
+        ReflectionTestUtils.setField(messageStore, "bucketSize", 200);
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageBucket.class)).thenReturn(bulk);
+        MessageBucket open = bucket(LongStream.rangeClosed(1, 199).toArray());
+        when(mongoTemplate.find(any(Query.class), eq(MessageBucket.class))).thenReturn(List.of(open));
+
+        List<Message> messages = new ArrayList<>();
+        LongStream.rangeClosed(200, 449).forEach(id -> messages.add(message(id)));
+
+        // when
+        messageStore.saveAll(messages);
+
+        // then - 1건은 남은 자리에, 나머지는 200건과 49건 조각으로 자리가 있는 버킷에 추가
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(3)).upsert(queries.capture(), updates.capture());
+        verify(bulk).execute();
+
+        assertThat(updates.getAllValues())
+            .extracting(update -> ((Document) update.getUpdateObject().get("$inc")).get("count"))
+            .containsExactly(1, 200, 49);
+        assertThat(queries.getAllValues())
+            .extracting(query -> ((Document) query.getQueryObject().get("count")).get("$lte"))
+            .containsExactly(199, 0, 151);
+        assertThat(((Document) updates.getAllValues().get(0).getUpdateObject().get("$min")).get("firstMessageId"))
+            .isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("이미 버킷에 저장된 메시지는 마이그레이션 재시작 시 다시 쓰지 않는다")
+    void excludeStored_SkipsMessagesAlreadyInBuckets() {
+        // given
+        when(mongoTemplate.find(any(Query.class), eq(MessageBucket.class))).thenReturn(List.of(bucket(1, 2, 3)));
+
+        // when
+        List<Message> remaining = messageStore.excludeStored(List.of(message(2), message(3), message(4), message(5)));
+
+        // then
+        assertThat(remaining).extracting(Message::getMessageId).containsExactly(4L, 5L);
+    }
+
+    private Message message(long messageId) {
+        return Message.builder()
+            .messageId(messageId)
+            .chatroomId(1L)
+            .userId(1L)
+            .messageType(Message.MessageType.TEXT)
+            .messageContent("message-" + messageId)
+            .messageSendAt(LocalDateTime.now())
+            .build();
+    }
+
+    private MessageBucket bucket(long... messageIds) {
+        List<MessageBucket.BucketedMessage> messages = LongStream.of(messageIds)
+            .mapToObj(id -> MessageBucket.BucketedMessage.from(Message.builder()
+                .messageId(id)
+                .chatroomId(1L)
+                .userId(1L)
+                .messageType(Message.MessageType.TEXT)
+                .messageContent("message-" + id)
+                .messageSendAt(LocalDateTime.now())
+                .build()))
+            .toList();
+
+        MessageBucket bucket = BeanUtils.instantiateClass(MessageBucket.class);
+        ReflectionTestUtils.setField(bucket, "roomId", 1L);
+        ReflectionTestUtils.setField(bucket, "count", messages.size());
+        ReflectionTestUtils.setField(bucket, "firstMessageId", LongStream.of(messageIds).min().orElseThrow());
+        ReflectionTestUtils.setField(bucket, "lastMessageId", LongStream.of(messageIds).max().orElseThrow());
+        ReflectionTestUtils.setField(bucket, "messages", messages);
+        return bucket;
+    }
+}
@@ -0,0 +1,148 @@
+package com.connective.server.chat.infrastructure.presence;
+
+import com.connective.server.chat.domain.dto.PresenceDiffResponse;
+import com.connective.server.chat.infrastructure.broker.InMemoryPubSubTransport;
+import com.connective.server.chat.infrastructure.broker.RoomSubscriptionRegistry;
+import com.connective.server.chat.infrastructure.cache.ChatRoomMembershipCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PresenceTrackerTest {
+
+    // 두 노드가 하나의 인메모리 전송 계층(Redis 대용)을 공유
+    private final InMemoryPubSubTransport transport = new InMemoryPubSubTransport();
+
+    private SimpMessagingTemplate templateB;
+    private PresenceTracker trackerA;
+    private PresenceTracker trackerB;
+
+    @BeforeEach
+    void setUp() {
+        // 10, 20번 사용자는 채팅방 1, 2의 멤버이고 이 노드들에는 채팅방 1의 구독자만 있다
+        Map<Long, Set<Long>> roomsByUser = Map.of(10L, Set.of(1L, 2L), 20L, Set.of(1L), 30L, Set.of(2L));
+        ChatRoomMembershipCache membershipCache = mock(ChatRoomMembershipCache.class);
+        when(membershipCache.getRoomIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+            Map<Long, Set<Long>> rooms = new HashMap<>();
+            userIds.forEach(userId -> rooms.put(userId, roomsByUser.getOrDefault(userId, Set.of())));
+            return rooms;
+        });
+        RoomSubscriptionRegistry registry = mock(RoomSubscriptionRegistry.class);
+        when(registry.isRoomSubscribed(1L)).thenReturn(true);
+
+        templateB = mock(SimpMessagingTemplate.class);
+        trackerA = createTracker(mock(SimpMessagingTemplate.class), registry, membershipCache);
+        trackerB = createTracker(templateB, registry, membershipCache);
+    }
+
+    @Test
+    @DisplayName("사용자의 모든 세션이 끊겨야 오프라인이 된다")
+    void disconnect_KeepsOnlineWhileOtherSessionsRemain() {
+        // given
+        trackerA.connect(10L);
+        trackerA.connect(10L);
+
+        // when
+        trackerA.disconnect(10L);
+
+        // then
+        assertThat(trackerA.isOnline(10L)).isTrue();
+        trackerA.disconnect(10L);
+        assertThat(trackerA.isOnline(10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 접속 전환이 전파되고 채팅방에는 한 번의 diff로 전송된다")
+    void flush_ReplicatesAndBatchesRoomDiff() {
+        // given
+        trackerA.connect(10L);
+        trackerA.connect(20L);
+        trackerA.connect(30L); // 채팅방 멤버가 아님
+
+        // when
+        trackerA.flush();
+        trackerB.flush();
+
+        // then
+        assertThat(trackerB.getOnlineUserIds(List.of(10L, 20L, 30L, 40L))).containsExactlyInAnyOrder(10L, 20L, 30L);
+        ArgumentCaptor<PresenceDiffResponse> captor = ArgumentCaptor.forClass(PresenceDiffResponse.class);
+        verify(templateB, times(1)).convertAndSend(eq("/topic/chat/1/presence"), captor.capture());
+        assertThat(captor.getValue().getOnline()).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(captor.getValue().getOffline()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush 주기가 스냅샷 주기에 이르면 전환 뒤에 스냅샷을 같은 작업에서 발행한다")
+    void flush_PublishesSnapshotAfterTransitions() {
+        // given: B는 A의 스냅샷을 받아 10번 사용자를 알고 있다
+        trackerA.connect(10L);
+        trackerA.flush();
+        trackerA.disconnect(10L);
+        trackerA.connect(20L);
+        ReflectionTestUtils.setField(trackerA, "nextSnapshotAtMillis", 0L);
+
+        // when
+        trackerA.flush();
+
+        // then: 전환과 스냅샷이 모두 최신 상태를 가리킨다
+        assertThat(trackerB.getOnlineUserIds(List.of(10L, 20L))).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 끊긴 노드의 사용자는 오프라인으로 간주한다")
+    void publishSnapshot_ExpiresSilentNodes() {
+        // given
+        trackerA.connect(10L);
+        trackerA.flush();
+        assertThat(trackerB.isOnline(10L)).isTrue();
+        ReflectionTestUtils.setField(trackerB, "nodeTimeoutMillis", -1L);
+
+        // when
+        trackerB.publishSnapshot();
+
+        // then
+        assertThat(trackerB.isOnline(10L)).isFalse();
+        assertThat(trackerB.getRemoteNodeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("바뀐 사용자가 없으면 diff를 전송하지 않는다")
+    void flush_SkipsWhenNothingChanged() {
+        // when
+        trackerB.flush();
+
+        // then
+        verify(templateB, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private PresenceTracker createTracker(SimpMessagingTemplate template, RoomSubscriptionRegistry registry,
+                                          ChatRoomMembershipCache membershipCache) {
+        PresenceTracker tracker = new PresenceTracker(transport, template, registry, membershipCache);
+        ReflectionTestUtils.setField(tracker, "shardCount", 4);
+        ReflectionTestUtils.setField(tracker, "snapshotIntervalMillis", 15000L);
+        ReflectionTestUtils.setField(tracker, "nodeTimeoutMillis", 45000L);
+        tracker.init();
+        return tracker;
+    }
+}
@@ -0,0 +1,76 @@
+package com.connective.server.chat.infrastructure.presence;
+
+import com.connective.server.chat.domain.dto.TypingEventResponse;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TypingIndicatorTrackerTest {
+
+    @Mock
+    private RoomMessageBroadcaster roomMessageBroadcaster;
+
+    @InjectMocks
+    private TypingIndicatorTracker typingIndicatorTracker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(typingIndicatorTracker, "coalesceWindowMillis", 3000L);
+        ReflectionTestUtils.setField(typingIndicatorTracker, "ttlMillis", 5000L);
+    }
+
+    @Test
+    @DisplayName("coalesce 구간 안의 반복 입력 이벤트는 한 번만 전파된다")
+    void onTyping_CoalescesWithinWindow() {
+        // when
+        typingIndicatorTracker.onTyping("1", 10L, true, 0);
+        typingIndicatorTracker.onTyping("1", 10L, true, 500);
+        typingIndicatorTracker.onTyping("1", 10L, true, 2900);
+        typingIndicatorTracker.onTyping("1", 10L, true, 3000);
+
+        // then
+        verify(roomMessageBroadcaster, times(2)).broadcastToRoom(eq("1"), eq("/typing"), any());
+    }
+
+    @Test
+    @DisplayName("ttl 동안 갱신이 없으면 입력 중단을 전파하고 상태를 제거한다")
+    void sweepExpired_BroadcastsStop() {
+        // given
+        typingIndicatorTracker.onTyping("1", 10L, true, 0);
+
+        // when
+        typingIndicatorTracker.sweepExpired(4999);
+        typingIndicatorTracker.sweepExpired(5000);
+
+        // then
+        ArgumentCaptor<TypingEventResponse> captor = ArgumentCaptor.forClass(TypingEventResponse.class);
+        verify(roomMessageBroadcaster, times(2)).broadcastToRoom(eq("1"), eq("/typing"), captor.capture());
+        assertThat(captor.getAllValues().get(1).isTyping()).isFalse();
+        assertThat(typingIndicatorTracker.getActiveCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("입력 중이 아닌 사용자의 중단 이벤트는 전파하지 않는다")
+    void onTyping_IgnoresStopWithoutState() {
+        // when
+        typingIndicatorTracker.onTyping("1", 10L, false, 0);
+
+        // then
+        verify(roomMessageBroadcaster, never()).broadcastToRoom(any(), any(), any());
+    }
+}
@@ -0,0 +1,106 @@
+package com.connective.server.chat.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class InboundRateLimiterTest {
+
+    // 테스트 중에는 사실상 보충되지 않는 속도
+    private static final double NO_REFILL = 0.001;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private InboundRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new InboundRateLimiter(messagingTemplate);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "userCapacity", 2);
+        ReflectionTestUtils.setField(rateLimiter, "userRefillPerSecond", NO_REFILL);
+        ReflectionTestUtils.setField(rateLimiter, "roomCapacity", 3);
+        ReflectionTestUtils.setField(rateLimiter, "roomRefillPerSecond", NO_REFILL);
+        ReflectionTestUtils.setField(rateLimiter, "ephemeralCapacity", 5);
+        ReflectionTestUtils.setField(rateLimiter, "ephemeralRefillPerSecond", NO_REFILL);
+        ReflectionTestUtils.setField(rateLimiter, "errorReplyCapacity", 1);
+        ReflectionTestUtils.setField(rateLimiter, "errorReplyRefillPerSecond", NO_REFILL);
+        ReflectionTestUtils.setField(rateLimiter, "maxBuckets", 100L);
+        ReflectionTestUtils.setField(rateLimiter, "idleTimeout", Duration.ofMinutes(1));
+        rateLimiter.init();
+    }
+
+    @Test
+    @DisplayName("입력 중/읽음 보고는 채팅 메시지 한도와 채팅방 한도를 쓰지 않는다")
+    void preSend_EphemeralFramesDoNotConsumeMessageBudget() {
+        // given: 한 멤버가 입력 중/읽음 보고를 많이 보낸 뒤
+        for (int i = 0; i < 2; i++) {
+            assertThat(rateLimiter.preSend(send(7L, "/app/chat/1/typing"), channel)).isNotNull();
+            assertThat(rateLimiter.preSend(send(7L, "/app/chat/1/read"), channel)).isNotNull();
+        }
+        assertThat(rateLimiter.preSend(send(7L, "/app/chat/1/typing"), channel)).isNotNull();
+
+        // when & then: 별도 한도를 넘은 보고만 거절되고 채팅 메시지는 그대로 허용된다
+        assertThat(rateLimiter.preSend(send(7L, "/app/chat/1/typing"), channel)).isNull();
+        assertThat(rateLimiter.preSend(send(7L, "/app/chat/1"), channel)).isNotNull();
+        assertThat(rateLimiter.preSend(send(8L, "/app/chat/1"), channel)).isNotNull();
+        assertThat(rateLimiter.getEphemeralThrottledCount()).isEqualTo(1);
+        assertThat(rateLimiter.getRoomThrottledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅방 한도는 채팅 메시지에만 적용된다")
+    void preSend_RoomBudgetAppliesToChatMessagesOnly() {
+        // given
+        List.of(7L, 8L, 9L).forEach(userId -> rateLimiter.preSend(send(userId, "/app/chat/1"), channel));
+
+        // when & then
+        assertThat(rateLimiter.preSend(send(10L, "/app/chat/1"), channel)).isNull();
+        assertThat(rateLimiter.preSend(send(10L, "/app/chat/1/read"), channel)).isNotNull();
+        assertThat(rateLimiter.getRoomThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거절 응답도 사용자별로 제한해 버린 프레임마다 응답을 보내지 않는다")
+    void preSend_ThrottlesErrorReplies() {
+        // given
+        rateLimiter.preSend(send(7L, "/app/chat/1"), channel);
+        rateLimiter.preSend(send(7L, "/app/chat/1"), channel);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.preSend(send(7L, "/app/chat/1"), channel)).isNull();
+        }
+
+        // then
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("7"), eq("/queue/errors"), any(Object.class));
+        assertThat(rateLimiter.getUserThrottledCount()).isEqualTo(5);
+        assertThat(rateLimiter.getSuppressedReplyCount()).isEqualTo(4);
+    }
+
+    private Message<byte[]> send(Long userId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
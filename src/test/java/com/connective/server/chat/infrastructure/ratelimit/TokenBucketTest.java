@@ -0,0 +1,102 @@
+package com.connective.server.chat.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("capacity만큼 연속 요청을 허용하고 이후 요청은 거절한다")
+    void tryAcquire_AllowsBurstUpToCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(5, 1);
+        long now = 1_000 * SECOND;
+
+        // when
+        int acquired = 0;
+        for (int i = 0; i < 10; i++) {
+            if (bucket.tryAcquire(now)) {
+                acquired++;
+            }
+        }
+
+        // then
+        assertThat(acquired).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 토큰이 보충되며 capacity를 넘지 않는다")
+    void tryAcquire_RefillsOverTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 10); // 100ms마다 1개
+        long now = 1_000 * SECOND;
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+
+        // when & then
+        assertThat(bucket.tryAcquire(now + SECOND / 20)).isFalse();
+        assertThat(bucket.tryAcquire(now + SECOND / 10)).isTrue();
+        assertThat(bucket.tryAcquire(now + SECOND / 10)).isFalse();
+
+        // 오래 쉬어도 capacity까지만 허용
+        long later = now + 60 * SECOND;
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 허용량을 넘지 않는다")
+    void tryAcquire_IsThreadSafe() throws Exception {
+        // given
+        TokenBucket bucket = new TokenBucket(100, 0.001);
+        long now = 1_000 * SECOND;
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int acquired = 0;
+                for (int j = 0; j < 1_000; j++) {
+                    if (bucket.tryAcquire(now)) {
+                        acquired++;
+                    }
+                }
+                return acquired;
+            }));
+        }
+        start.countDown();
+
+        // then
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get();
+        }
+        executor.shutdown();
+        assertThat(total).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("capacity나 보충 속도가 0 이하이면 예외가 발생한다")
+    void constructor_RejectsInvalidSettings() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
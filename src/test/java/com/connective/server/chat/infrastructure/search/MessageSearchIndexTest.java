@@ -0,0 +1,84 @@
+package com.connective.server.chat.infrastructure.search;
+
+import com.connective.server.chat.domain.entity.Message;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageSearchIndexTest {
+
+    private MessageSearchIndex messageSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:search-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+            "sa", "");
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        messageSearchIndex = new MessageSearchIndex(new JdbcTemplate(dataSource));
+    }
+
+    @Test
+    @DisplayName("모든 토큰을 가진 메시지만 해당 채팅방 안에서 최신순으로 조회된다")
+    void findCandidateIds_MatchesAllTokensWithinRoom() {
+        // given
+        messageSearchIndex.index(List.of(
+            message(1L, 1L, "강남역 맛집 추천해줘"),
+            message(2L, 1L, "강남역 몇 번 출구?"),
+            message(3L, 1L, "맛집은 홍대가 최고"),
+            message(4L, 2L, "강남역 맛집 어디야")));
+
+        // when
+        Set<Long> tokens = MessageTokenizer.tokenize(List.of("강남역", "맛집"));
+        List<Long> candidates = messageSearchIndex.findCandidateIds(1L, tokens, null, 10);
+
+        // then
+        assertThat(candidates).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("커서 이전 메시지만 조회하고 같은 메시지를 다시 색인해도 중복되지 않는다")
+    void findCandidateIds_PagesWithCursor() {
+        // given
+        List<Message> messages = List.of(
+            message(10L, 1L, "회의 자료 공유"),
+            message(20L, 1L, "회의 시간 변경"),
+            message(30L, 1L, "오늘 회의 취소"));
+        messageSearchIndex.index(messages);
+        messageSearchIndex.index(messages);
+        Set<Long> tokens = MessageTokenizer.tokenize(List.of("회의"));
+
+        // when
+        List<Long> firstPage = messageSearchIndex.findCandidateIds(1L, tokens, null, 2);
+        List<Long> secondPage = messageSearchIndex.findCandidateIds(1L, tokens, firstPage.get(1), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(30L, 20L);
+        assertThat(secondPage).containsExactly(10L);
+    }
+
+    private Message message(Long messageId, Long chatroomId, String content) {
+        return Message.builder()
+            .messageId(messageId)
+            .chatroomId(chatroomId)
+            .userId(1L)
+            .messageType(Message.MessageType.TEXT)
+            .messageContent(content)
+            .messageSendAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.connective.server.chat.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageTokenizerTest {
+
+    @Test
+    @DisplayName("한국어 본문은 단어별로 연속한 두 글자씩 토큰이 된다")
+    void tokenize_KoreanBigrams() {
+        // when
+        Set<Long> tokens = MessageTokenizer.tokenize("내일 강남역에서 보자");
+
+        // then (내일, 강남/남역/역에/에서, 보자)
+        assertThat(tokens).hasSize(6);
+        assertThat(tokens).containsAll(MessageTokenizer.tokenize(List.of("강남역")));
+    }
+
+    @Test
+    @DisplayName("대소문자와 전각 문자는 정규화되어 같은 토큰이 된다")
+    void tokenize_NormalizesWidthAndCase() {
+        assertThat(MessageTokenizer.tokenize("ＳＱＬ Query"))
+            .isEqualTo(MessageTokenizer.tokenize("sql query"));
+    }
+
+    @Test
+    @DisplayName("문장 부호로 단어를 나누고 한 글자 단어는 토큰을 만들지 않는다")
+    void terms_SplitsOnPunctuation() {
+        // when
+        List<String> terms = MessageTokenizer.terms(MessageTokenizer.normalize("밥 먹었어?? 😀 OK, 7시!"));
+
+        // then
+        assertThat(terms).containsExactly("밥", "먹었어", "ok", "7시");
+        assertThat(MessageTokenizer.tokenize(List.of("밥"))).isEmpty();
+    }
+}
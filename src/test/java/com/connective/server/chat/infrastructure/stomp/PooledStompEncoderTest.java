@@ -0,0 +1,99 @@
+package com.connective.server.chat.infrastructure.stomp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledStompEncoderTest {
+
+    private final PooledStompEncoder pooledEncoder = new PooledStompEncoder();
+    private final StompEncoder defaultEncoder = new StompEncoder();
+
+    @Test
+    @DisplayName("MESSAGE 프레임 - 기본 인코더와 같은 바이트를 생성한다 (헤더 이스케이프 포함)")
+    void encode_MessageFrameMatchesDefaultEncoder() {
+        // given
+        Map<String, Object> headers = messageHeaders("sub-1", "note:한글\nline");
+        byte[] payload = "{\"content\":\"안녕하세요\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] frame = pooledEncoder.encode(headers, payload);
+
+        // then
+        assertThat(frame).isEqualTo(defaultEncoder.encode(headers, payload));
+    }
+
+    @Test
+    @DisplayName("큰 프레임 이후에도 재사용 버퍼에 이전 내용이 남지 않는다")
+    void encode_ReusesBufferAcrossFrames() {
+        // given
+        byte[] large = "x".repeat(100_000).getBytes(StandardCharsets.UTF_8);
+        byte[] small = "{}".getBytes(StandardCharsets.UTF_8);
+        Map<String, Object> headers = messageHeaders("sub-2", "plain");
+
+        // when
+        pooledEncoder.encode(headers, large);
+        byte[] first = pooledEncoder.encode(headers, small);
+        byte[] second = pooledEncoder.encode(headers, small);
+
+        // then
+        assertThat(first).isEqualTo(defaultEncoder.encode(headers, small));
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("가상 스레드마다 새 버퍼를 만들지 않고 크기 제한 풀의 버퍼를 재사용한다")
+    void encode_SharesBoundedPoolAcrossVirtualThreads() throws InterruptedException {
+        // given
+        PooledStompEncoder encoder = new PooledStompEncoder(2);
+        Map<String, Object> headers = messageHeaders("sub-3", "plain");
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        byte[] expected = defaultEncoder.encode(headers, payload);
+        List<byte[]> frames = new CopyOnWriteArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                executor.execute(() -> frames.add(encoder.encode(headers, payload)));
+            }
+        }
+
+        // then
+        assertThat(frames).hasSize(100).allSatisfy(frame -> assertThat(frame).isEqualTo(expected));
+        assertThat(encoder.getPooledBufferCount()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("MESSAGE 외 프레임은 기본 인코더에 위임한다")
+    void encode_DelegatesOtherFrames() {
+        // given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage("denied");
+        Map<String, Object> headers = accessor.getMessageHeaders();
+
+        // when & then
+        assertThat(pooledEncoder.encode(headers, new byte[0])).isEqualTo(defaultEncoder.encode(headers, new byte[0]));
+    }
+
+    private Map<String, Object> messageHeaders(String subscriptionId, String note) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/chat/1");
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setMessageId("message-1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader("x-note", note);
+        return accessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,112 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlowConsumerGuardTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final int MAX_PENDING = 2;
+
+    private final MessageChannel outboundChannel = mock(MessageChannel.class);
+    private SlowConsumerGuard guard;
+    private WebSocketSession rawSession;
+    private WebSocketSession trackingSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        guard = new SlowConsumerGuard();
+        ReflectionTestUtils.setField(guard, "maxPendingMessages", MAX_PENDING);
+        ReflectionTestUtils.setField(guard, "maxSendBlockedMillis", 60_000L);
+
+        rawSession = mock(WebSocketSession.class);
+        when(rawSession.getId()).thenReturn(SESSION_ID);
+
+        // 데코레이터가 하위 핸들러에 넘기는 추적용 세션을 확보
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        guard.decorate(handler).afterConnectionEstablished(rawSession);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        trackingSession = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("DROP - 적체량이 한도에 도달하면 메시지를 버리고, 전송되면 다시 통과시킨다")
+    void preSend_DropsWhilePending() throws Exception {
+        // given
+        ReflectionTestUtils.setField(guard, "policy", SlowConsumerPolicy.DROP);
+        guard.preSend(message("/topic/chat/1", "1"), outboundChannel);
+        guard.preSend(message("/topic/chat/1", "2"), outboundChannel);
+
+        // when
+        Message<?> dropped = guard.preSend(message("/topic/chat/1", "3"), outboundChannel);
+        trackingSession.sendMessage(new TextMessage("MESSAGE\ndestination:/topic/chat/1\n\n1\0"));
+        Message<?> accepted = guard.preSend(message("/topic/chat/1", "4"), outboundChannel);
+
+        // then
+        assertThat(dropped).isNull();
+        assertThat(accepted).isNotNull();
+        assertThat(guard.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("COALESCE - 적체 중에는 destination별 최신 메시지만 남기고 해소되면 다시 보낸다")
+    void preSend_CoalescesLatestPerDestination() throws Exception {
+        // given
+        ReflectionTestUtils.setField(guard, "policy", SlowConsumerPolicy.COALESCE);
+        guard.preSend(message("/topic/chat/1", "1"), outboundChannel);
+        guard.preSend(message("/topic/chat/1", "2"), outboundChannel);
+        guard.preSend(message("/topic/chat/1/read", "old"), outboundChannel);
+        Message<?> latest = message("/topic/chat/1/read", "new");
+        guard.preSend(latest, outboundChannel);
+
+        // when
+        trackingSession.sendMessage(new TextMessage("MESSAGE\n\n1\0"));
+        trackingSession.sendMessage(new TextMessage("MESSAGE\n\n2\0"));
+
+        // then
+        verify(outboundChannel).send(latest);
+        assertThat(guard.getCoalescedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DISCONNECT - 적체량이 한도에 도달하면 세션을 종료한다")
+    void preSend_DisconnectsSlowSession() throws Exception {
+        // given
+        ReflectionTestUtils.setField(guard, "policy", SlowConsumerPolicy.DISCONNECT);
+        guard.preSend(message("/topic/chat/1", "1"), outboundChannel);
+        guard.preSend(message("/topic/chat/1", "2"), outboundChannel);
+
+        // when
+        guard.preSend(message("/topic/chat/1", "3"), outboundChannel);
+        guard.preSend(message("/topic/chat/1", "4"), outboundChannel);
+
+        // then
+        verify(rawSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(guard.getDisconnectedCount()).isEqualTo(1);
+    }
+
+    private Message<byte[]> message(String destination, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(body.getBytes(), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,86 @@
+package com.connective.server.chat.infrastructure.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadChannelExecutorTest {
+
+    @Test
+    @DisplayName("동시 실행 수가 상한에 도달하면 나머지 작업은 가상 스레드에서 허가를 기다린다")
+    void execute_LimitsConcurrentTasks() throws InterruptedException {
+        // given
+        VirtualThreadChannelExecutor executor = new VirtualThreadChannelExecutor("test-channel-", 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(5);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicBoolean virtual = new AtomicBoolean(true);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                virtual.compareAndSet(true, Thread.currentThread().isVirtual());
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    finished.countDown();
+                }
+            });
+        }
+        awaitWaitingCount(executor, 3);
+
+        // then
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+        release.countDown();
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(virtual.get()).isTrue();
+        assertThat(executor.getCompletedTaskCount()).isEqualTo(5);
+        assertThat(executor.getWaitingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한이 0이면 작업을 모두 바로 실행한다")
+    void execute_WithoutLimit() throws InterruptedException {
+        // given
+        VirtualThreadChannelExecutor executor = new VirtualThreadChannelExecutor("test-channel-", 0);
+        CountDownLatch started = new CountDownLatch(10);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // then
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    private void awaitWaitingCount(VirtualThreadChannelExecutor executor, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while ((executor.getWaitingCount() != expected || executor.getActiveCount() != 2)
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.getWaitingCount()).isEqualTo(expected);
+    }
+}
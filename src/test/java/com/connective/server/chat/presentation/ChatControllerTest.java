@@ -0,0 +1,131 @@
+package com.connective.server.chat.presentation;
+
+import com.connective.server.chat.application.service.ChatRoomService;
+import com.connective.server.chat.application.service.MessageService;
+import com.connective.server.chat.application.service.ReadReceiptService;
+import com.connective.server.chat.domain.dto.ChatMessageReceipt;
+import com.connective.server.chat.domain.dto.ChatMessageRequest;
+import com.connective.server.chat.domain.dto.ChatMessageResponse;
+import com.connective.server.chat.domain.entity.Message;
+import com.connective.server.chat.infrastructure.broker.RoomMessageBroadcaster;
+import com.connective.server.chat.infrastructure.metrics.ChatMetrics;
+import com.connective.server.chat.infrastructure.presence.TypingIndicatorTracker;
+import com.connective.server.user.application.service.UserProfileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatControllerTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RoomMessageBroadcaster roomMessageBroadcaster;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private UserProfileService userProfileService;
+
+    @Mock
+    private ReadReceiptService readReceiptService;
+
+    @Mock
+    private TypingIndicatorTracker typingIndicatorTracker;
+
+    @Mock
+    private ChatMetrics chatMetrics;
+
+    @InjectMocks
+    private ChatController chatController;
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(7L, null, List.of());
+    private final ChatMessageRequest request = new ChatMessageRequest("hello", Message.MessageType.TEXT, "client-1");
+    private final Message message = Message.builder()
+        .messageId(100L)
+        .chatroomId(1L)
+        .userId(7L)
+        .messageType(Message.MessageType.TEXT)
+        .messageContent("hello")
+        .messageSendAt(LocalDateTime.now())
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        when(messageService.prepareMessage("1", 7L, request)).thenReturn(message);
+        when(messageService.createMessageResponse(message)).thenReturn(ChatMessageResponse.builder()
+            .messageId(100L)
+            .roomId("1")
+            .content("hello")
+            .build());
+    }
+
+    @Test
+    @DisplayName("저장 큐가 가득 차면 브로드캐스트하지 않고 FAILED receipt를 보낸다")
+    void sendMessage_SendsFailedReceiptWhenQueueIsFull() {
+        // given
+        when(messageService.saveMessageAsync(eq(message), any())).thenReturn(
+            CompletableFuture.failedFuture(new RejectedExecutionException("Message write queue is full")));
+
+        // when
+        chatController.sendMessage("1", request, authentication);
+
+        // then
+        verify(roomMessageBroadcaster, never()).broadcastToRoom(anyString(), any());
+        ChatMessageReceipt receipt = captureReceipt();
+        assertThat(receipt.getStatus()).isEqualTo(ChatMessageReceipt.ReceiptStatus.FAILED);
+        assertThat(receipt.getClientMessageId()).isEqualTo("client-1");
+        assertThat(receipt.getMessageId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("저장 전에 브로드캐스트하고 배치가 커밋되면 PERSISTED receipt를 보낸다")
+    void sendMessage_BroadcastsThenSendsPersistedReceipt() {
+        // given
+        CompletableFuture<Message> persisted = new CompletableFuture<>();
+        when(messageService.saveMessageAsync(eq(message), any())).thenReturn(persisted);
+
+        // when
+        chatController.sendMessage("1", request, authentication);
+
+        // then
+        verify(roomMessageBroadcaster).broadcastToRoom(eq("1"), any(ChatMessageResponse.class));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+
+        persisted.complete(message);
+        assertThat(captureReceipt().getStatus()).isEqualTo(ChatMessageReceipt.ReceiptStatus.PERSISTED);
+    }
+
+    private ChatMessageReceipt captureReceipt() {
+        ArgumentCaptor<Object> receipt = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("7"), eq("/queue/receipts"), receipt.capture());
+        return (ChatMessageReceipt) receipt.getValue();
+    }
+}
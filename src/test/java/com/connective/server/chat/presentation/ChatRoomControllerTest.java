@@ -0,0 +1,112 @@
+package com.connective.server.chat.presentation;
+
+import com.connective.server.chat.application.service.ChatRoomService;
+import com.connective.server.chat.application.service.ChatRoomSummaryService;
+import com.connective.server.chat.application.service.MessageSearchService;
+import com.connective.server.chat.application.service.MessageService;
+import com.connective.server.chat.application.service.ReadReceiptService;
+import com.connective.server.chat.application.service.UnreadCountService;
+import com.connective.server.chat.domain.dto.ChatHistoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomControllerTest {
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private UnreadCountService unreadCountService;
+
+    @Mock
+    private ReadReceiptService readReceiptService;
+
+    @Mock
+    private ChatRoomSummaryService chatRoomSummaryService;
+
+    @Mock
+    private MessageSearchService messageSearchService;
+
+    @InjectMocks
+    private ChatRoomController chatRoomController;
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(7L, null, List.of());
+
+    @Test
+    @DisplayName("before가 주어지면 해당 메시지 이전 페이지를 조회한다")
+    void getMessages_Before() {
+        // given
+        ChatHistoryResponse history = ChatHistoryResponse.builder().roomId("1").messages(List.of()).build();
+        when(chatRoomService.isMemberOfChatRoom(1L, 7L)).thenReturn(true);
+        when(messageService.getMessagesBefore("1", 100L, 20)).thenReturn(history);
+
+        // when
+        ResponseEntity<ChatHistoryResponse> response =
+            chatRoomController.getMessages(1L, 100L, null, 20, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(history);
+    }
+
+    @Test
+    @DisplayName("after가 주어지면 해당 메시지 이후 페이지를 조회한다")
+    void getMessages_After() {
+        // given
+        ChatHistoryResponse history = ChatHistoryResponse.builder().roomId("1").messages(List.of()).build();
+        when(chatRoomService.isMemberOfChatRoom(1L, 7L)).thenReturn(true);
+        when(messageService.getMessagesAfter("1", 100L, 50)).thenReturn(history);
+
+        // when
+        ResponseEntity<ChatHistoryResponse> response =
+            chatRoomController.getMessages(1L, null, 100L, 50, authentication);
+
+        // then
+        assertThat(response.getBody()).isSameAs(history);
+    }
+
+    @Test
+    @DisplayName("before와 after를 함께 주면 400을 반환한다")
+    void getMessages_RejectsBothCursors() {
+        // when
+        ResponseEntity<ChatHistoryResponse> response =
+            chatRoomController.getMessages(1L, 100L, 10L, 50, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(messageService);
+    }
+
+    @Test
+    @DisplayName("채팅방 멤버가 아니면 403을 반환한다")
+    void getMessages_ForbiddenForNonMember() {
+        // given
+        when(chatRoomService.isMemberOfChatRoom(1L, 7L)).thenReturn(false);
+
+        // when
+        ResponseEntity<ChatHistoryResponse> response =
+            chatRoomController.getMessages(1L, null, null, 50, authentication);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        verifyNoInteractions(messageService);
+    }
+}
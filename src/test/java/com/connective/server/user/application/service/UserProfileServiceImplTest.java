@@ -0,0 +1,104 @@
+package com.connective.server.user.application.service;
+
+import com.connective.server.user.domain.dto.profile.UserProfileDTO;
+import com.connective.server.user.domain.entity.User;
+import com.connective.server.user.domain.enums.ProfileCharacterType;
+import com.connective.server.user.domain.enums.SocialProviderType;
+import com.connective.server.user.domain.event.UserProfileChangedEvent;
+import com.connective.server.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserProfileServiceImpl userProfileService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userProfileService, "maxSize", 100L);
+        ReflectionTestUtils.setField(userProfileService, "ttl", Duration.ofMinutes(10));
+        userProfileService.init();
+    }
+
+    @Test
+    @DisplayName("여러 사용자 프로필 조회 시 캐시에 없는 사용자만 한 번에 조회한다")
+    void getProfiles_LoadsOnlyMissingUsersInOneQuery() {
+        // given
+        User first = createUser(1L, "first");
+        User second = createUser(2L, "second");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(first));
+        when(userRepository.findAllById(Set.of(2L))).thenReturn(List.of(second));
+        userProfileService.getProfile(1L);
+
+        // when
+        Map<Long, UserProfileDTO> profiles = userProfileService.getProfiles(List.of(1L, 2L));
+
+        // then
+        assertThat(profiles).containsOnlyKeys(1L, 2L);
+        assertThat(profiles.get(2L).getNickname()).isEqualTo("second");
+        verify(userRepository, times(1)).findAllById(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트를 받으면 캐시된 프로필을 다시 조회한다")
+    void onUserProfileChanged_EvictsCachedProfile() {
+        // given
+        User user = createUser(1L, "before");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        userProfileService.getProfile(1L);
+        user.updateNickname("after");
+
+        // when
+        userProfileService.onUserProfileChanged(new UserProfileChangedEvent(1L));
+
+        // then
+        assertThat(userProfileService.getProfile(1L).getNickname()).isEqualTo("after");
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자 프로필 조회 시 예외가 발생한다")
+    void getProfile_UserNotFound() {
+        // given
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userProfileService.getProfile(99L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private User createUser(Long id, String nickname) {
+        User user = User.builder()
+            .email(nickname + "@gmail.com")
+            .nickname(nickname)
+            .profileCharacterType(ProfileCharacterType.RABBIT)
+            .socialProvider(SocialProviderType.GOOGLE)
+            .socialId("google-" + id)
+            .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,125 @@
+package com.connective.server.user.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationCacheTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtAuthenticationCache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry);
+        ReflectionTestUtils.setField(jwtAuthenticationCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(jwtAuthenticationCache, "negativeMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtAuthenticationCache, "negativeTtl", Duration.ofSeconds(30));
+        jwtAuthenticationCache.init();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 다시 파싱하지 않고 캐시에서 사용자 ID를 반환한다")
+    void authenticate_CachesVerifiedToken() {
+        // given
+        String token = "valid-token";
+        when(jwtTokenProvider.verifyClaims(token)).thenReturn(claims("1", Duration.ofMinutes(30)));
+
+        // when
+        Long first = jwtAuthenticationCache.authenticate(token);
+        Long second = jwtAuthenticationCache.authenticate(token);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(1L);
+        verify(jwtTokenProvider, times(1)).verifyClaims(token);
+    }
+
+    @Test
+    @DisplayName("거부된 토큰은 negative cache에 남아 반복 검증하지 않는다")
+    void authenticate_CachesRejectedToken() {
+        // given
+        String token = "forged-token";
+        when(jwtTokenProvider.verifyClaims(token)).thenReturn(null);
+
+        // when
+        Long first = jwtAuthenticationCache.authenticate(token);
+        Long second = jwtAuthenticationCache.authenticate(token);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(jwtTokenProvider, times(1)).verifyClaims(token);
+    }
+
+    @Test
+    @DisplayName("exp가 지난 캐시 항목은 사용하지 않고 다시 검증한다")
+    void authenticate_ReverifiesAfterExpiry() {
+        // given
+        String token = "short-lived-token";
+        when(jwtTokenProvider.verifyClaims(token))
+            .thenReturn(claims("1", Duration.ofMillis(-1)))
+            .thenReturn(null);
+
+        // when
+        Long first = jwtAuthenticationCache.authenticate(token);
+        Long second = jwtAuthenticationCache.authenticate(token);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isNull();
+        verify(jwtTokenProvider, times(2)).verifyClaims(token);
+    }
+
+    @Test
+    @DisplayName("검증 결과별로 메트릭이 집계된다")
+    void authenticate_RecordsValidationOutcomes() {
+        // given
+        when(jwtTokenProvider.verifyClaims("valid-token")).thenReturn(claims("1", Duration.ofMinutes(30)));
+        when(jwtTokenProvider.verifyClaims("forged-token")).thenReturn(null);
+
+        // when
+        jwtAuthenticationCache.authenticate("valid-token");
+        jwtAuthenticationCache.authenticate("valid-token");
+        jwtAuthenticationCache.authenticate("forged-token");
+        jwtAuthenticationCache.authenticate("forged-token");
+
+        // then
+        assertThat(validations("verified")).isEqualTo(1);
+        assertThat(validations("cached")).isEqualTo(1);
+        assertThat(validations("rejected")).isEqualTo(1);
+        assertThat(validations("rejected_cached")).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.jwt.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    private double validations(String outcome) {
+        return meterRegistry.get("auth.jwt.validations").tag("outcome", outcome).counter().count();
+    }
+
+    private Claims claims(String subject, Duration expiresIn) {
+        return Jwts.claims()
+            .setSubject(subject)
+            .setExpiration(new Date(System.currentTimeMillis() + expiresIn.toMillis()));
+    }
+}
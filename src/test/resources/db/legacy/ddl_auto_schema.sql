@@ -0,0 +1,43 @@
+-- Flyway 도입 전 ddl-auto: update(MySQLDialect)가 엔티티로부터 만들던 스키마 (컬럼 순서, 이름 없는 제약 조건 포함)
+CREATE TABLE chat_room (
+    chatroom_id     BIGINT NOT NULL AUTO_INCREMENT,
+    chatroom_name   VARCHAR(255),
+    chatroom_status ENUM ('ACTIVE','ARCHIVED','DELETED') NOT NULL,
+    chatroom_type   ENUM ('ONE_TO_ONE','GROUP') NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (chatroom_id)
+);
+
+CREATE TABLE chat_room_member (
+    chatroom_id          BIGINT NOT NULL,
+    chatroom_member_id   BIGINT NOT NULL AUTO_INCREMENT,
+    last_read_message_id BIGINT,
+    user_id              BIGINT NOT NULL,
+    PRIMARY KEY (chatroom_member_id)
+);
+
+CREATE TABLE message (
+    chatroom_id     BIGINT NOT NULL,
+    message_id      BIGINT NOT NULL AUTO_INCREMENT,
+    message_send_at DATETIME(6) NOT NULL,
+    user_id         BIGINT NOT NULL,
+    message_content VARCHAR(255),
+    message_type    ENUM ('FILE','IMAGE','TEXT') NOT NULL,
+    PRIMARY KEY (message_id)
+);
+
+CREATE TABLE user (
+    created_at             DATETIME(6),
+    id                     BIGINT NOT NULL AUTO_INCREMENT,
+    updated_at             DATETIME(6),
+    email                  VARCHAR(255) NOT NULL,
+    nickname               VARCHAR(255),
+    profile_character_type ENUM ('BEAR','DOLPHIN','RABBIT'),
+    social_id              VARCHAR(255) NOT NULL,
+    social_provider        ENUM ('GOOGLE','KAKAO') NOT NULL,
+    status_message         VARCHAR(255),
+    PRIMARY KEY (id),
+    UNIQUE (email),
+    UNIQUE (social_id)
+);